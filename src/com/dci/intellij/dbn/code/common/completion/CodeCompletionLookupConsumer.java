@@ -18,14 +18,19 @@ import com.dci.intellij.dbn.language.common.psi.IdentifierPsiElement;
 import com.dci.intellij.dbn.object.common.DBObject;
 import com.dci.intellij.dbn.object.common.DBObjectPsiElement;
 import com.dci.intellij.dbn.object.type.DBObjectType;
+import com.intellij.codeInsight.completion.PrefixMatcher;
+import com.intellij.codeInsight.completion.impl.CamelHumpMatcher;
 import com.intellij.openapi.progress.ProcessCanceledException;
 import org.jetbrains.annotations.Nullable;
 
 import java.util.Collection;
 
 public class CodeCompletionLookupConsumer implements LookupConsumer {
+    private static final int MAX_OBJECT_MATCHES = 500;
+
     private CodeCompletionContext context;
     private boolean addParenthesis;
+    private PrefixMatcher nameMatcher;
 
     CodeCompletionLookupConsumer(CodeCompletionContext context) {
         this.context = context;
@@ -119,6 +124,45 @@ public class CodeCompletionLookupConsumer implements LookupConsumer {
         }
     }
 
+    /**
+     * The prefix of the completion result, if it is a plain identifier
+     */
+    @Nullable
+    @Override
+    public String getNamePrefix() {
+        String prefix = context.getResult().getPrefixMatcher().getPrefix();
+        if (prefix.isEmpty() || !Character.isLetter(prefix.charAt(0))) {
+            return null;
+        }
+        for (int i = 1; i < prefix.length(); i++) {
+            char c = prefix.charAt(i);
+            if (!Character.isLetterOrDigit(c) && c != '_' && c != '$' && c != '#') {
+                return null;
+            }
+        }
+        return prefix;
+    }
+
+    @Override
+    public boolean matchesName(String name) {
+        if (nameMatcher == null) {
+            // case insensitive, lookup texts may be case-adjusted by the code style
+            nameMatcher = new CamelHumpMatcher(context.getResult().getPrefixMatcher().getPrefix(), false);
+        }
+        return name != null && nameMatcher.prefixMatches(name);
+    }
+
+    @Override
+    public int getMatchLimit() {
+        return MAX_OBJECT_MATCHES;
+    }
+
+    @Override
+    public void matchLimitReached() {
+        // the truncated variants are looked up again as the prefix narrows
+        context.getResult().restartCompletionOnAnyPrefixChange();
+    }
+
     public CodeCompletionContext getContext() {
         return context;
     }
@@ -2,6 +2,7 @@ package com.dci.intellij.dbn.common.cache;
 
 import com.dci.intellij.dbn.common.dispose.Disposer;
 import com.dci.intellij.dbn.common.routine.ThrowableCallable;
+import com.dci.intellij.dbn.common.thread.SyncObjectProvider;
 import com.dci.intellij.dbn.common.thread.Synchronized;
 import com.dci.intellij.dbn.common.util.TimeUtil;
 import com.dci.intellij.dbn.language.common.WeakRef;
@@ -18,6 +19,7 @@ public class Cache {
     private Map<String, CacheValue> elements = new ConcurrentHashMap<>();
     private int expiryMillis;
     private String qualifier;
+    private final SyncObjectProvider syncObjects = new SyncObjectProvider();
 
 
     public Cache(String qualifier, int expiryMillis) {
@@ -60,8 +62,12 @@ public class Cache {
     }
 
     public <T, E extends Throwable> T get(String key, ThrowableCallable<T, E> loader) throws E {
-        String syncKey = qualifier + "." + key;
-        return Synchronized.call(syncKey, () -> {
+        T cachedValue = get(key);
+        if (cachedValue != null) {
+            return cachedValue;
+        }
+
+        return Synchronized.call(syncObjects, key, () -> {
             T value = get(key);
             if (value == null) {
                 value = loader.call();
@@ -83,6 +83,11 @@ public interface DynamicContent<T extends DynamicContentElement> extends Disposa
 
     @Nullable List<T> getElements(String name);
 
+    /**
+     * Returns the (unfiltered) elements with names starting with the given prefix (case insensitive)
+     */
+    @NotNull List<T> getElementsByPrefix(String prefix);
+
     @NotNull List<T> getAllElements();
 
     @Nullable
@@ -28,6 +28,7 @@ import org.jetbrains.annotations.Nullable;
 
 import java.sql.SQLException;
 import java.sql.SQLFeatureNotSupportedException;
+import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
 
@@ -49,6 +50,7 @@ public abstract class DynamicContentImpl<T extends DynamicContentElement>
     private ContentDependencyAdapter dependencyAdapter;
 
     protected List<T> elements = EMPTY_UNTOUCHED_CONTENT;
+    private volatile DynamicContentNameIndex<T> nameIndex;
 
     protected DynamicContentImpl(
             @NotNull GenericDatabaseElement parent,
@@ -347,6 +349,7 @@ public abstract class DynamicContentImpl<T extends DynamicContentElement>
             }
         };
         compact();
+        this.nameIndex = DynamicContentNameIndex.create(getAllElementsNoLoad());
         if (oldElements.size() != 0 || elements.size() != 0 ){
             notifyChangeListeners();
         }
@@ -402,6 +405,10 @@ public abstract class DynamicContentImpl<T extends DynamicContentElement>
     public T getElement(String name, short overload) {
         if (name != null) {
             List<T> elements = getAllElements();
+            DynamicContentNameIndex<T> nameIndex = getNameIndex(elements);
+            if (nameIndex != null) {
+                return nameIndex.get(name, overload);
+            }
             return CollectionUtil.first(elements,
                     (element) -> matchElement(element, name, overload));
         }
@@ -416,7 +423,64 @@ public abstract class DynamicContentImpl<T extends DynamicContentElement>
     @Override
     @Nullable
     public List<T> getElements(String name) {
-        return CollectionUtil.filter(getAllElements(), false, false, (element) -> StringUtil.equalsIgnoreCase(element.getName(), name));
+        List<T> elements = getAllElements();
+        DynamicContentNameIndex<T> nameIndex = getNameIndex(elements);
+        if (nameIndex != null) {
+            List<T> bucket = nameIndex.get(name);
+            return bucket.isEmpty() ? null : new ArrayList<>(bucket);
+        }
+        return CollectionUtil.filter(elements, false, false, (element) -> StringUtil.equalsIgnoreCase(element.getName(), name));
+    }
+
+    @Override
+    @NotNull
+    public List<T> getElementsByPrefix(String prefix) {
+        List<T> elements = getAllElements();
+        DynamicContentNameIndex<T> nameIndex = getNameIndex(elements);
+        if (nameIndex != null) {
+            return nameIndex.getByPrefix(prefix);
+        }
+        return CollectionUtil.filter(elements, false, true, (element) -> StringUtil.startsWithIgnoreCase(element.getName(), prefix));
+    }
+
+    /**
+     * Returns the (unfiltered) elements matching the given name, without triggering the load of the content
+     */
+    @NotNull
+    protected List<T> getElementsNoLoad(String name) {
+        List<T> elements = getAllElementsNoLoad();
+        DynamicContentNameIndex<T> nameIndex = getNameIndex(elements);
+        if (nameIndex != null) {
+            return nameIndex.get(name);
+        }
+        return CollectionUtil.filter(elements, false, true, (element) -> StringUtil.equalsIgnoreCase(element.getName(), name));
+    }
+
+    /**
+     * Returns the name index for the given (full) element list, rebuilding it if the list changed since last indexed.
+     * Returns null for small lists which are not worth indexing.
+     */
+    @Nullable
+    private DynamicContentNameIndex<T> getNameIndex(List<T> elements) {
+        DynamicContentNameIndex<T> nameIndex = this.nameIndex;
+        if (nameIndex == null || !nameIndex.isValidFor(elements)) {
+            if (elements.size() < DynamicContentNameIndex.MIN_INDEXED_SIZE) {
+                return null;
+            }
+            nameIndex = DynamicContentNameIndex.create(elements);
+            this.nameIndex = nameIndex;
+        }
+        return nameIndex;
+    }
+
+    /**
+     * Keeps the name index in sync with elements added outside {@link #setElements(List)}
+     */
+    protected void indexElement(T element) {
+        DynamicContentNameIndex<T> nameIndex = this.nameIndex;
+        if (nameIndex != null) {
+            nameIndex.add(element);
+        }
     }
 
     @Override
@@ -437,6 +501,7 @@ public abstract class DynamicContentImpl<T extends DynamicContentElement>
             }
             elements = EMPTY_DISPOSED_CONTENT;
         }
+        nameIndex = null;
         Disposer.dispose(dependencyAdapter);
         dependencyAdapter = VoidContentDependencyAdapter.INSTANCE;
         parent = null;
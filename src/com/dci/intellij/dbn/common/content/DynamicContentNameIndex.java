@@ -0,0 +1,125 @@
+package com.dci.intellij.dbn.common.content;
+
+import com.dci.intellij.dbn.common.util.StringUtil;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Case insensitive name lookup index for the elements of a {@link DynamicContent}.
+ * Elements sharing the same name (e.g. overloaded methods) are held in the same bucket.
+ * Prefix lookups binary search a sorted array of the bucket keys, built on first prefix lookup.
+ */
+final class DynamicContentNameIndex<T extends DynamicContentElement> {
+    /**
+     * Lists smaller than this are scanned sequentially (not worth the index footprint)
+     */
+    static final int MIN_INDEXED_SIZE = 20;
+
+    private final List<T> source;
+    private final Map<String, List<T>> buckets;
+    private volatile String[] sortedKeys;
+    private int size;
+
+    private DynamicContentNameIndex(@NotNull List<T> source) {
+        this.source = source;
+        this.buckets = new ConcurrentHashMap<>(source.size());
+        for (T element : source) {
+            add(element);
+        }
+    }
+
+    @Nullable
+    static <T extends DynamicContentElement> DynamicContentNameIndex<T> create(@NotNull List<T> source) {
+        return source.size() < MIN_INDEXED_SIZE ? null : new DynamicContentNameIndex<>(source);
+    }
+
+    /**
+     * The index is only usable as long as the backing list was not replaced or changed behind its back
+     */
+    boolean isValidFor(List<T> source) {
+        return this.source == source && this.size == source.size();
+    }
+
+    synchronized void add(T element) {
+        String key = key(element.getName());
+        List<T> bucket = buckets.get(key);
+        if (bucket == null) {
+            buckets.put(key, Collections.singletonList(element));
+            sortedKeys = null;
+        } else {
+            List<T> newBucket = new ArrayList<>(bucket.size() + 1);
+            newBucket.addAll(bucket);
+            newBucket.add(element);
+            buckets.put(key, newBucket);
+        }
+        size++;
+    }
+
+    @NotNull
+    List<T> get(String name) {
+        List<T> bucket = buckets.get(key(name));
+        return bucket == null ? Collections.emptyList() : bucket;
+    }
+
+    @Nullable
+    T get(String name, short overload) {
+        List<T> bucket = buckets.get(key(name));
+        if (bucket != null) {
+            for (T element : bucket) {
+                if ((overload == 0 || overload == element.getOverload()) &&
+                        StringUtil.equalsIgnoreCase(element.getName(), name)) {
+                    return element;
+                }
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Elements with names starting with the given prefix, in name order
+     */
+    @NotNull
+    List<T> getByPrefix(String prefix) {
+        String keyPrefix = key(prefix);
+        String[] sortedKeys = getSortedKeys();
+        int index = Arrays.binarySearch(sortedKeys, keyPrefix);
+        if (index < 0) index = -index - 1;
+
+        List<T> elements = new ArrayList<>();
+        for (int i = index; i < sortedKeys.length && sortedKeys[i].startsWith(keyPrefix); i++) {
+            List<T> bucket = buckets.get(sortedKeys[i]);
+            if (bucket != null) {
+                elements.addAll(bucket);
+            }
+        }
+        return elements;
+    }
+
+    private String[] getSortedKeys() {
+        String[] sortedKeys = this.sortedKeys;
+        if (sortedKeys == null) {
+            synchronized (this) {
+                // built under the lock of add(), so a key added meanwhile is never lost from the published keys
+                sortedKeys = this.sortedKeys;
+                if (sortedKeys == null) {
+                    sortedKeys = buckets.keySet().toArray(new String[0]);
+                    Arrays.sort(sortedKeys);
+                    this.sortedKeys = sortedKeys;
+                }
+            }
+        }
+        return sortedKeys;
+    }
+
+    private static String key(String name) {
+        return name == null ? "" : name.toUpperCase(Locale.ROOT);
+    }
+}
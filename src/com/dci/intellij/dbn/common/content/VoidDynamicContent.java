@@ -127,6 +127,12 @@ public class VoidDynamicContent extends DisposableBase implements DynamicContent
         return null;
     }
 
+    @NotNull
+    @Override
+    public List getElementsByPrefix(String prefix) {
+        return elements;
+    }
+
     @NotNull
     @Override
     public List getAllElements() {
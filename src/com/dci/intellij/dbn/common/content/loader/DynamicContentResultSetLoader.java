@@ -6,9 +6,12 @@ import com.dci.intellij.dbn.common.content.DynamicContent;
 import com.dci.intellij.dbn.common.content.DynamicContentElement;
 import com.dci.intellij.dbn.common.content.DynamicContentStatus;
 import com.dci.intellij.dbn.common.content.DynamicContentType;
+import com.dci.intellij.dbn.common.content.snapshot.MetadataSnapshot;
+import com.dci.intellij.dbn.common.dispose.Failsafe;
 import com.dci.intellij.dbn.common.load.ProgressMonitor;
 import com.dci.intellij.dbn.common.util.CollectionUtil;
 import com.dci.intellij.dbn.connection.ConnectionHandler;
+import com.dci.intellij.dbn.connection.GenericDatabaseElement;
 import com.dci.intellij.dbn.connection.ResourceUtil;
 import com.dci.intellij.dbn.connection.jdbc.DBNConnection;
 import com.dci.intellij.dbn.connection.jdbc.IncrementalStatusAdapter;
@@ -16,7 +19,9 @@ import com.dci.intellij.dbn.database.DatabaseInterface;
 import com.dci.intellij.dbn.database.DatabaseMessageParserInterface;
 import com.dci.intellij.dbn.database.common.metadata.DBObjectMetadata;
 import com.dci.intellij.dbn.database.common.metadata.DBObjectMetadataFactory;
+import com.dci.intellij.dbn.object.DBSchema;
 import com.dci.intellij.dbn.object.common.DBObject;
+import com.dci.intellij.dbn.object.common.DBObjectBundle;
 import com.intellij.openapi.diagnostic.Logger;
 import com.intellij.openapi.progress.ProcessCanceledException;
 import org.jetbrains.annotations.NotNull;
@@ -85,6 +90,23 @@ public abstract class DynamicContentResultSetLoader<
         ProgressMonitor.setTaskDescription("Loading " + dynamicContent.getContentDescription());
 
         ConnectionHandler connectionHandler = dynamicContent.getConnectionHandler();
+        String snapshotKey = getSnapshotKey(dynamicContent);
+        MetadataSnapshot snapshot = snapshotKey == null ? null : connectionHandler.getMetadataSnapshot();
+        if (snapshot != null && !forceReload) {
+            ResultSet snapshotResultSet = snapshot.restore(snapshotKey);
+            if (snapshotResultSet != null) {
+                try {
+                    loadElements(dynamicContent, snapshotResultSet);
+                    snapshot.revalidate(() -> revalidate(dynamicContent, snapshot, snapshotKey));
+                    return;
+                } catch (InterruptedException e) {
+                    throw new SQLTimeoutException(e);
+                } catch (SQLException | RuntimeException e) {
+                    LOGGER.warn("Failed to restore " + dynamicContent.getContentDescription() + " from metadata snapshot", e);
+                }
+            }
+        }
+
         DatabaseInterface.run(true,
                 connectionHandler,
                 (provider, connection) -> {
@@ -94,54 +116,17 @@ public abstract class DynamicContentResultSetLoader<
                         loading.set(true);
                         dynamicContent.checkDisposed();
                         ResultSet resultSet = null;
-                        List<T> list = null;
                         try {
                             dynamicContent.checkDisposed();
                             resultSet = createResultSet(dynamicContent, connection);
-
-                            DynamicContentType contentType = dynamicContent.getContentType();
-                            M metadata = DBObjectMetadataFactory.INSTANCE.create(contentType, resultSet);
-
-                            boolean addDelay = DatabaseNavigator.getInstance().isSlowDatabaseModeEnabled();
-                            if (addDelay) Thread.sleep(500);
-                            LoaderCache loaderCache = new LoaderCache();
-                            int count = 0;
-
-                            while (resultSet != null && resultSet.next()) {
-                                if (addDelay) Thread.sleep(10);
-                                dynamicContent.checkDisposed();
-
-                                T element = null;
-                                try {
-                                    element = createElement(dynamicContent, metadata, loaderCache);
-                                } catch (ProcessCanceledException e) {
-                                    return;
-                                } catch (RuntimeException e) {
-                                    LOGGER.warn("Failed to create element", e);
-                                }
-
-                                dynamicContent.checkDisposed();
-                                if (element != null) {
-                                    if (list == null) {
-                                        list = dynamicContent.isMutable() ?
-                                                CollectionUtil.createConcurrentList() :
-                                                new ArrayList<T>();
-                                    }
-                                    list.add(element);
-                                    if (count % 10 == 0) {
-                                        String description = element.getDescription();
-                                        if (description != null)
-                                            ProgressMonitor.setSubtaskDescription(description);
-                                    }
-                                    count++;
-                                }
+                            if (snapshot != null) {
+                                resultSet = snapshot.record(snapshotKey, resultSet);
                             }
+
+                            loadElements(dynamicContent, resultSet);
                         } finally {
                             ResourceUtil.close(resultSet);
                         }
-                        dynamicContent.checkDisposed();
-                        dynamicContent.setElements(list);
-                        dynamicContent.set(DynamicContentStatus.MASTER, master);
 
                         postLoadContent(dynamicContent, debugInfo);
 
@@ -170,6 +155,89 @@ public abstract class DynamicContentResultSetLoader<
                 });
     }
 
+    private void loadElements(DynamicContent<T> dynamicContent, ResultSet resultSet) throws SQLException, InterruptedException {
+        DynamicContentType contentType = dynamicContent.getContentType();
+        M metadata = DBObjectMetadataFactory.INSTANCE.create(contentType, resultSet);
+
+        boolean addDelay = DatabaseNavigator.getInstance().isSlowDatabaseModeEnabled();
+        if (addDelay) Thread.sleep(500);
+        LoaderCache loaderCache = new LoaderCache();
+        List<T> list = null;
+        int count = 0;
+
+        while (resultSet != null && resultSet.next()) {
+            if (addDelay) Thread.sleep(10);
+            dynamicContent.checkDisposed();
+
+            T element = null;
+            try {
+                element = createElement(dynamicContent, metadata, loaderCache);
+            } catch (ProcessCanceledException e) {
+                return;
+            } catch (RuntimeException e) {
+                LOGGER.warn("Failed to create element", e);
+            }
+
+            dynamicContent.checkDisposed();
+            if (element != null) {
+                if (list == null) {
+                    list = dynamicContent.isMutable() ?
+                            CollectionUtil.createConcurrentList() :
+                            new ArrayList<T>();
+                }
+                list.add(element);
+                if (count % 10 == 0) {
+                    String description = element.getDescription();
+                    if (description != null)
+                        ProgressMonitor.setSubtaskDescription(description);
+                }
+                count++;
+            }
+        }
+        dynamicContent.checkDisposed();
+        dynamicContent.setElements(list);
+        dynamicContent.set(DynamicContentStatus.MASTER, master);
+    }
+
+    /**
+     * Re-runs the dictionary query of a content restored from the metadata snapshot
+     * and refreshes the content only if the database returns different data
+     */
+    private void revalidate(DynamicContent<T> dynamicContent, MetadataSnapshot snapshot, String snapshotKey) throws SQLException {
+        if (Failsafe.check(dynamicContent)) {
+            ConnectionHandler connectionHandler = dynamicContent.getConnectionHandler();
+            DatabaseInterface.run(true,
+                    connectionHandler,
+                    (provider, connection) -> {
+                        ResultSet resultSet = null;
+                        try {
+                            resultSet = createResultSet(dynamicContent, connection);
+                            if (!snapshot.update(snapshotKey, resultSet) && Failsafe.check(dynamicContent)) {
+                                dynamicContent.refresh();
+                            }
+                        } finally {
+                            ResourceUtil.close(resultSet);
+                        }
+                    });
+        }
+    }
+
+    /**
+     * Only the connection and schema level contents (the ones backed by data dictionary queries
+     * which are expensive to run on every startup) are eligible for the metadata snapshot
+     */
+    @Nullable
+    private static String getSnapshotKey(DynamicContent dynamicContent) {
+        GenericDatabaseElement parentElement = dynamicContent.getParentElement();
+        DynamicContentType contentType = dynamicContent.getContentType();
+        if (parentElement instanceof DBSchema) {
+            return "SCHEMA." + parentElement.getName() + "." + contentType;
+        } else if (parentElement instanceof DBObjectBundle) {
+            return "BUNDLE." + contentType;
+        }
+        return null;
+    }
+
     public class LoaderCache {
         private String name;
         private DBObject object;
@@ -0,0 +1,773 @@
+package com.dci.intellij.dbn.common.content.snapshot;
+
+import com.dci.intellij.dbn.common.LoggerFactory;
+import com.dci.intellij.dbn.common.data.Data;
+import com.dci.intellij.dbn.common.dispose.DisposableBase;
+import com.dci.intellij.dbn.common.routine.ThrowableRunnable;
+import com.dci.intellij.dbn.common.thread.Background;
+import com.dci.intellij.dbn.connection.ConnectionId;
+import com.dci.intellij.dbn.connection.ResourceUtil;
+import com.dci.intellij.dbn.connection.ResultSetUtil;
+import com.dci.intellij.dbn.database.common.util.ResultSetStub;
+import com.dci.intellij.dbn.database.common.util.WrappedResultSet;
+import com.intellij.openapi.Disposable;
+import com.intellij.openapi.application.PathManager;
+import com.intellij.openapi.diagnostic.Logger;
+import com.intellij.openapi.util.io.FileUtil;
+import com.intellij.util.Alarm;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.io.BufferedOutputStream;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import java.security.DigestOutputStream;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.sql.Clob;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.sql.Time;
+import java.sql.Timestamp;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.stream.Collectors;
+import java.util.zip.DeflaterOutputStream;
+import java.util.zip.InflaterInputStream;
+
+/**
+ * Local binary snapshot of the raw data dictionary result sets loaded for a connection.
+ * The snapshot is persisted in the IDE system directory so that the next session can populate
+ * the object model without querying the database. Every entry is restored at most once per session,
+ * and is revalidated in background against the database right after.
+ *
+ * Result sets are encoded row by row while they are consumed (never materialized), and only the digests
+ * and file locations of the entries are held in memory. Captured entries are kept (deflated) until the
+ * next save, which is triggered shortly after the captures (and in background when the connection is disposed).
+ */
+public class MetadataSnapshot {
+    private static final Logger LOGGER = LoggerFactory.createLogger();
+    private static final int VERSION = 4;
+    private static final int SAVE_DELAY = 10000;
+
+    private static final byte NULL = 0;
+    private static final byte STRING = 1;
+    private static final byte LONG = 2;
+    private static final byte DOUBLE = 3;
+    private static final byte BOOLEAN = 4;
+    private static final byte INTEGER = 5;
+    private static final byte SHORT = 6;
+    private static final byte BYTE = 7;
+    private static final byte FLOAT = 8;
+    private static final byte BIG_DECIMAL = 9;
+    private static final byte TIMESTAMP = 10;
+    private static final byte DATE = 11;
+    private static final byte TIME = 12;
+
+    private final File file;
+    private final String databaseUrl;
+    private final Map<String, byte[]> digests = new ConcurrentHashMap<>();
+    private final Map<String, Location> locations = new HashMap<>();
+    private final Map<String, Capture> captures = new ConcurrentHashMap<>();
+    private final Set<String> restorable = ConcurrentHashMap.newKeySet();
+    private final Queue<ThrowableRunnable<SQLException>> revalidations = new ConcurrentLinkedQueue<>();
+    private final AtomicBoolean revalidating = new AtomicBoolean();
+    private final Alarm saveAlarm;
+
+    private MetadataSnapshot(@NotNull Disposable parentDisposable, @NotNull ConnectionId connectionId, @NotNull String databaseUrl) {
+        this.saveAlarm = new Alarm(Alarm.ThreadToUse.POOLED_THREAD, parentDisposable);
+        this.file = new File(PathManager.getSystemPath(), "dbn/metadata/" + connectionId.id() + ".snapshot");
+        this.databaseUrl = databaseUrl;
+    }
+
+    @NotNull
+    public static MetadataSnapshot load(@NotNull Disposable parentDisposable, @NotNull ConnectionId connectionId, @Nullable String databaseUrl) {
+        MetadataSnapshot snapshot = new MetadataSnapshot(parentDisposable, connectionId, databaseUrl == null ? "" : databaseUrl);
+        snapshot.read();
+        return snapshot;
+    }
+
+    /**
+     * Returns the snapshot of the given content, if one was loaded from disk and not yet restored in this session.
+     * The returned result set decodes the rows while iterating
+     */
+    @Nullable
+    public ResultSet restore(@NotNull String key) {
+        if (restorable.remove(key)) {
+            try {
+                byte[] data = readEntry(key);
+                if (data != null) {
+                    return new SnapshotResultSet(data);
+                }
+            } catch (IOException e) {
+                LOGGER.warn("Failed to decode metadata snapshot entry " + key, e);
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Wraps the given result set, capturing the rows as snapshot of the content while they are consumed.
+     * The snapshot is only stored if the result set is iterated to the end.
+     *
+     * Only plain driver result sets are recorded. Translated and stub result sets (see {@link WrappedResultSet}
+     * and {@link ResultSetStub}) synthesize columns behind their label accessors, which the raw values would bypass.
+     * Failing to record never fails the load, the result set is returned as is instead
+     */
+    @NotNull
+    public ResultSet record(@NotNull String key, @NotNull ResultSet resultSet) {
+        restorable.remove(key);
+        if (resultSet instanceof ResultSetStub || resultSet instanceof WrappedResultSet) {
+            return resultSet;
+        }
+
+        try {
+            return new RecordingResultSet(key, resultSet);
+        } catch (SQLException | RuntimeException | LinkageError e) {
+            LOGGER.warn("Failed to record metadata snapshot entry " + key, e);
+            return resultSet;
+        }
+    }
+
+    /**
+     * Captures the given result set as snapshot of the content
+     * @return true if the snapshot did not change
+     */
+    public boolean update(@NotNull String key, @NotNull ResultSet resultSet) throws SQLException {
+        restorable.remove(key);
+        try {
+            List<String> columnNames = getColumnNames(resultSet);
+            Encoder encoder = new Encoder(columnNames);
+            while (resultSet.next()) {
+                encoder.write(readValues(resultSet, columnNames.size()));
+            }
+            return store(key, encoder.finish());
+        } catch (IOException e) {
+            LOGGER.warn("Failed to encode metadata snapshot entry " + key, e);
+            return false;
+        }
+    }
+
+    private boolean store(String key, Capture capture) {
+        byte[] previous = digests.put(key, capture.digest);
+        boolean unchanged = Arrays.equals(previous, capture.digest);
+        if (!unchanged) {
+            captures.put(key, capture);
+            if (!saveAlarm.isDisposed()) {
+                saveAlarm.cancelAllRequests();
+                saveAlarm.addRequest(this::save, SAVE_DELAY);
+            }
+        }
+        return unchanged;
+    }
+
+    /**
+     * Queues the revalidation of a restored content. Revalidations are executed one after the other
+     * in background to avoid flooding the connection pool right after startup
+     */
+    public void revalidate(@NotNull ThrowableRunnable<SQLException> revalidation) {
+        revalidations.add(revalidation);
+        if (revalidating.compareAndSet(false, true)) {
+            Background.run(() -> {
+                try {
+                    ThrowableRunnable<SQLException> next = revalidations.poll();
+                    while (next != null) {
+                        try {
+                            next.run();
+                        } catch (SQLException e) {
+                            LOGGER.warn("Failed to revalidate metadata snapshot", e);
+                        }
+                        next = revalidations.poll();
+                    }
+                } finally {
+                    revalidating.set(false);
+                }
+            });
+        }
+    }
+
+    /**************************************************************
+     *                        Persistence                         *
+     **************************************************************/
+    /**
+     * File layout: version, database url, and for every entry a marker followed by
+     * key, digest, and the deflated entry data. Only the digests and data locations are read upfront
+     */
+    private synchronized void read() {
+        if (file.isFile()) {
+            try (RandomAccessFile in = new RandomAccessFile(file, "r")) {
+                int version = in.readInt();
+                if (version == VERSION && Objects.equals(databaseUrl, in.readUTF())) {
+                    while (in.readBoolean()) {
+                        String key = in.readUTF();
+                        byte[] digest = new byte[in.readInt()];
+                        in.readFully(digest);
+                        int length = in.readInt();
+                        long offset = in.getFilePointer();
+
+                        locations.put(key, new Location(digest, offset, length));
+                        digests.put(key, digest);
+                        restorable.add(key);
+                        in.seek(offset + length);
+                    }
+                }
+            } catch (IOException e) {
+                LOGGER.warn("Failed to read metadata snapshot " + file, e);
+                locations.clear();
+                digests.clear();
+                restorable.clear();
+            }
+        }
+    }
+
+    @Nullable
+    private synchronized byte[] readEntry(String key) throws IOException {
+        Location location = locations.get(key);
+        if (location != null) {
+            try (RandomAccessFile in = new RandomAccessFile(file, "r")) {
+                byte[] data = new byte[location.length];
+                in.seek(location.offset);
+                in.readFully(data);
+                return data;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Rewrites the snapshot file with the entries captured since the last save,
+     * copying the unchanged entries over from the previous file
+     */
+    public synchronized void save() {
+        saveAlarm.cancelAllRequests();
+        if (captures.isEmpty()) return;
+
+        Map<String, Capture> captures = new HashMap<>(this.captures);
+        Map<String, Location> locations = new HashMap<>();
+        File tempFile = new File(file.getPath() + ".tmp");
+        try {
+            FileUtil.createParentDirs(tempFile);
+            try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(new FileOutputStream(tempFile)));
+                 RandomAccessFile in = file.isFile() ? new RandomAccessFile(file, "r") : null) {
+                out.writeInt(VERSION);
+                out.writeUTF(databaseUrl);
+
+                if (in != null) {
+                    for (Map.Entry<String, Location> entry : this.locations.entrySet()) {
+                        String key = entry.getKey();
+                        if (!captures.containsKey(key)) {
+                            Location location = entry.getValue();
+                            byte[] data = new byte[location.length];
+                            in.seek(location.offset);
+                            in.readFully(data);
+                            locations.put(key, writeEntry(out, key, location.digest, data));
+                        }
+                    }
+                }
+
+                for (Map.Entry<String, Capture> entry : captures.entrySet()) {
+                    String key = entry.getKey();
+                    Capture capture = entry.getValue();
+                    locations.put(key, writeEntry(out, key, capture.digest, capture.data));
+                }
+                out.writeBoolean(false);
+            }
+
+            Files.move(tempFile.toPath(), file.toPath(), StandardCopyOption.REPLACE_EXISTING);
+            this.locations.clear();
+            this.locations.putAll(locations);
+            for (Map.Entry<String, Capture> entry : captures.entrySet()) {
+                // entries captured again meanwhile stay for the next save
+                this.captures.remove(entry.getKey(), entry.getValue());
+            }
+        } catch (IOException e) {
+            LOGGER.warn("Failed to write metadata snapshot " + file, e);
+            FileUtil.delete(tempFile);
+        }
+    }
+
+    private static Location writeEntry(DataOutputStream out, String key, byte[] digest, byte[] data) throws IOException {
+        out.writeBoolean(true);
+        out.writeUTF(key);
+        out.writeInt(digest.length);
+        out.write(digest);
+        out.writeInt(data.length);
+        Location location = new Location(digest, out.size(), data.length);
+        out.write(data);
+        return location;
+    }
+
+    private static class Location {
+        private final byte[] digest;
+        private final long offset;
+        private final int length;
+
+        Location(byte[] digest, long offset, int length) {
+            this.digest = digest;
+            this.offset = offset;
+            this.length = length;
+        }
+    }
+
+    private static class Capture {
+        private final byte[] digest;
+        private final byte[] data;
+
+        Capture(byte[] digest, byte[] data) {
+            this.digest = digest;
+            this.data = data;
+        }
+    }
+
+    /**************************************************************
+     *                         Encoding                           *
+     **************************************************************/
+    private static List<String> getColumnNames(ResultSet resultSet) throws SQLException {
+        return ResultSetUtil.getColumnNames(resultSet).stream().map(s -> s.toUpperCase().trim()).collect(Collectors.toList());
+    }
+
+    /**
+     * Deflated encoding of the column names followed by the rows (each one prefixed by a marker).
+     * The digest is computed over the raw (not deflated) encoding
+     */
+    private static class Encoder {
+        private final MessageDigest digest = createDigest();
+        private final ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        private final DataOutputStream out = new DataOutputStream(new DigestOutputStream(new DeflaterOutputStream(bytes), digest));
+
+        Encoder(List<String> columnNames) throws IOException {
+            out.writeInt(columnNames.size());
+            for (String columnName : columnNames) {
+                out.writeUTF(columnName);
+            }
+        }
+
+        void write(Object[] values) throws IOException {
+            out.writeBoolean(true);
+            for (Object value : values) {
+                writeValue(out, value);
+            }
+        }
+
+        Capture finish() throws IOException {
+            out.writeBoolean(false);
+            out.close();
+            return new Capture(digest.digest(), bytes.toByteArray());
+        }
+
+        private static MessageDigest createDigest() {
+            try {
+                return MessageDigest.getInstance("MD5");
+            } catch (NoSuchAlgorithmException e) {
+                throw new IllegalStateException(e);
+            }
+        }
+    }
+
+    /**
+     * Result set exposing the values of the current row, read once per row (from the source or the snapshot)
+     */
+    private abstract static class ValuesResultSet extends DisposableBase implements ResultSetStub {
+        final List<String> columnNames;
+        private final Map<String, Integer> columnIndexes = new HashMap<>();
+        Object[] values;
+        boolean wasNull;
+
+        ValuesResultSet(List<String> columnNames) {
+            this.columnNames = columnNames;
+            for (int i = 0; i < columnNames.size(); i++) {
+                columnIndexes.putIfAbsent(columnNames.get(i), i);
+            }
+        }
+
+        @Override
+        public int findColumn(String columnLabel) throws SQLException {
+            Integer index = columnIndexes.get(columnLabel.toUpperCase().trim());
+            if (index == null) throw new SQLException("Invalid column name " + columnLabel);
+            return index + 1;
+        }
+
+        @Override
+        public Object getObject(int columnIndex) throws SQLException {
+            if (values == null) throw new SQLException("No current row");
+            Object value = values[columnIndex - 1];
+            wasNull = value == null;
+            return value;
+        }
+
+        @Override
+        public Object getObject(String columnLabel) throws SQLException {
+            return getObject(findColumn(columnLabel));
+        }
+
+        @Override
+        public boolean wasNull() {
+            return wasNull;
+        }
+
+        @Override
+        public String getString(int columnIndex) throws SQLException {
+            return Data.asString(getObject(columnIndex));
+        }
+
+        @Override
+        public String getString(String columnLabel) throws SQLException {
+            return getString(findColumn(columnLabel));
+        }
+
+        @Override
+        public short getShort(int columnIndex) throws SQLException {
+            return Data.asShrt(getObject(columnIndex));
+        }
+
+        @Override
+        public short getShort(String columnLabel) throws SQLException {
+            return getShort(findColumn(columnLabel));
+        }
+
+        @Override
+        public int getInt(int columnIndex) throws SQLException {
+            return Data.asInt(getObject(columnIndex));
+        }
+
+        @Override
+        public int getInt(String columnLabel) throws SQLException {
+            return getInt(findColumn(columnLabel));
+        }
+
+        @Override
+        public long getLong(int columnIndex) throws SQLException {
+            return Data.asLng(getObject(columnIndex));
+        }
+
+        @Override
+        public long getLong(String columnLabel) throws SQLException {
+            return getLong(findColumn(columnLabel));
+        }
+
+        @Override
+        public boolean getBoolean(int columnIndex) throws SQLException {
+            return Data.asBool(getObject(columnIndex));
+        }
+
+        @Override
+        public boolean getBoolean(String columnLabel) throws SQLException {
+            return getBoolean(findColumn(columnLabel));
+        }
+
+        @Override
+        public BigDecimal getBigDecimal(int columnIndex) throws SQLException {
+            Object value = getObject(columnIndex);
+            return value == null ? null :
+                    value instanceof BigDecimal ? (BigDecimal) value :
+                    new BigDecimal(value.toString());
+        }
+
+        @Override
+        public BigDecimal getBigDecimal(String columnLabel) throws SQLException {
+            return getBigDecimal(findColumn(columnLabel));
+        }
+
+        @Override
+        public Timestamp getTimestamp(int columnIndex) throws SQLException {
+            Object value = getObject(columnIndex);
+            return value == null ? null :
+                    value instanceof Timestamp ? (Timestamp) value :
+                    new Timestamp(asDate(value).getTime());
+        }
+
+        @Override
+        public Timestamp getTimestamp(String columnLabel) throws SQLException {
+            return getTimestamp(findColumn(columnLabel));
+        }
+
+        @Override
+        public java.sql.Date getDate(int columnIndex) throws SQLException {
+            Object value = getObject(columnIndex);
+            return value == null ? null :
+                    value instanceof java.sql.Date ? (java.sql.Date) value :
+                    new java.sql.Date(asDate(value).getTime());
+        }
+
+        @Override
+        public java.sql.Date getDate(String columnLabel) throws SQLException {
+            return getDate(findColumn(columnLabel));
+        }
+
+        @Override
+        public Time getTime(int columnIndex) throws SQLException {
+            Object value = getObject(columnIndex);
+            return value == null ? null :
+                    value instanceof Time ? (Time) value :
+                    new Time(asDate(value).getTime());
+        }
+
+        @Override
+        public Time getTime(String columnLabel) throws SQLException {
+            return getTime(findColumn(columnLabel));
+        }
+
+        private static java.util.Date asDate(Object value) throws SQLException {
+            if (value instanceof java.util.Date) return (java.util.Date) value;
+            throw new SQLException("Value of type " + value.getClass().getName() + " can not be converted to date");
+        }
+    }
+
+    /**
+     * Live result set wrapper, reading the raw values of every row once and encoding them before exposing the row.
+     * If the values can not be read or encoded, the recording is dropped and the wrapper passes through to the source
+     */
+    private class RecordingResultSet extends ValuesResultSet {
+        private final String key;
+        private final ResultSet source;
+        private Encoder encoder;
+        private boolean passThrough;
+
+        RecordingResultSet(String key, ResultSet source) throws SQLException {
+            super(getColumnNames(source));
+            this.key = key;
+            this.source = source;
+            try {
+                this.encoder = new Encoder(columnNames);
+            } catch (IOException e) {
+                LOGGER.warn("Failed to encode metadata snapshot entry " + key, e);
+            }
+        }
+
+        @Override
+        public boolean next() throws SQLException {
+            values = null;
+            if (source.next()) {
+                if (!passThrough) {
+                    try {
+                        values = readValues(source, columnNames.size());
+                    } catch (SQLException | RuntimeException | LinkageError e) {
+                        LOGGER.warn("Failed to record metadata snapshot entry " + key, e);
+                        encoder = null;
+                        passThrough = true;
+                    }
+                }
+
+                if (encoder != null) {
+                    try {
+                        encoder.write(values);
+                    } catch (IOException | RuntimeException e) {
+                        LOGGER.warn("Failed to encode metadata snapshot entry " + key, e);
+                        encoder = null;
+                    }
+                }
+                return true;
+            }
+
+            if (encoder != null) {
+                try {
+                    store(key, encoder.finish());
+                } catch (IOException | RuntimeException e) {
+                    LOGGER.warn("Failed to encode metadata snapshot entry " + key, e);
+                }
+                encoder = null;
+            }
+            return false;
+        }
+
+        @Override
+        public Object getObject(int columnIndex) throws SQLException {
+            if (passThrough) {
+                Object value = source.getObject(columnIndex);
+                wasNull = value == null;
+                return value;
+            }
+            return super.getObject(columnIndex);
+        }
+
+        @Override
+        public Statement getStatement() throws SQLException {
+            return source.getStatement();
+        }
+
+        @Override
+        public void close() throws SQLException {
+            ResourceUtil.close(source);
+        }
+
+        @Override
+        public boolean isClosed() throws SQLException {
+            return source.isClosed();
+        }
+    }
+
+    /**
+     * Result set decoding the rows of a snapshot entry one by one while iterating
+     */
+    private static class SnapshotResultSet extends ValuesResultSet {
+        private final DataInputStream in;
+
+        SnapshotResultSet(byte[] data) throws IOException {
+            this(new DataInputStream(new InflaterInputStream(new ByteArrayInputStream(data))));
+        }
+
+        private SnapshotResultSet(DataInputStream in) throws IOException {
+            super(readColumnNames(in));
+            this.in = in;
+        }
+
+        private static List<String> readColumnNames(DataInputStream in) throws IOException {
+            int columnCount = in.readInt();
+            List<String> columnNames = new ArrayList<>(columnCount);
+            for (int i = 0; i < columnCount; i++) {
+                columnNames.add(in.readUTF());
+            }
+            return columnNames;
+        }
+
+        @Override
+        public boolean next() throws SQLException {
+            try {
+                if (in.readBoolean()) {
+                    Object[] values = new Object[columnNames.size()];
+                    for (int i = 0; i < values.length; i++) {
+                        values[i] = readValue(in);
+                    }
+                    this.values = values;
+                    return true;
+                }
+                values = null;
+                return false;
+            } catch (IOException e) {
+                throw new SQLException("Failed to decode metadata snapshot entry", e);
+            }
+        }
+
+        @Override
+        public void close() {}
+
+        @Override
+        public boolean isClosed() {
+            return false;
+        }
+    }
+
+    /**
+     * Raw values of the current row. Character lobs are read as strings (their locators do not survive the row)
+     */
+    private static Object[] readValues(ResultSet resultSet, int columnCount) throws SQLException {
+        Object[] values = new Object[columnCount];
+        for (int i = 0; i < columnCount; i++) {
+            Object value = resultSet.getObject(i + 1);
+            if (value instanceof Clob) {
+                Clob clob = (Clob) value;
+                value = clob.getSubString(1, (int) clob.length());
+            }
+            values[i] = value;
+        }
+        return values;
+    }
+
+    /**
+     * Values are tagged with their type and restored as the same class (as returned by the jdbc driver)
+     */
+    private static void writeValue(DataOutputStream out, Object value) throws IOException {
+        if (value == null) {
+            out.writeByte(NULL);
+        } else if (value instanceof Long) {
+            out.writeByte(LONG);
+            out.writeLong((Long) value);
+        } else if (value instanceof Integer) {
+            out.writeByte(INTEGER);
+            out.writeInt((Integer) value);
+        } else if (value instanceof Short) {
+            out.writeByte(SHORT);
+            out.writeShort((Short) value);
+        } else if (value instanceof Byte) {
+            out.writeByte(BYTE);
+            out.writeByte((Byte) value);
+        } else if (value instanceof BigDecimal) {
+            BigDecimal decimal = (BigDecimal) value;
+            byte[] unscaledValue = decimal.unscaledValue().toByteArray();
+            out.writeByte(BIG_DECIMAL);
+            out.writeInt(decimal.scale());
+            out.writeInt(unscaledValue.length);
+            out.write(unscaledValue);
+        } else if (value instanceof Double) {
+            out.writeByte(DOUBLE);
+            out.writeDouble((Double) value);
+        } else if (value instanceof Float) {
+            out.writeByte(FLOAT);
+            out.writeFloat((Float) value);
+        } else if (value instanceof Boolean) {
+            out.writeByte(BOOLEAN);
+            out.writeBoolean((Boolean) value);
+        } else if (value instanceof Timestamp) {
+            Timestamp timestamp = (Timestamp) value;
+            out.writeByte(TIMESTAMP);
+            out.writeLong(timestamp.getTime());
+            out.writeInt(timestamp.getNanos());
+        } else if (value instanceof java.sql.Date) {
+            out.writeByte(DATE);
+            out.writeLong(((java.sql.Date) value).getTime());
+        } else if (value instanceof Time) {
+            out.writeByte(TIME);
+            out.writeLong(((Time) value).getTime());
+        } else {
+            // strings may exceed the 64k limit of writeUTF (e.g. view or trigger source columns)
+            byte[] bytes = value.toString().getBytes(StandardCharsets.UTF_8);
+            out.writeByte(STRING);
+            out.writeInt(bytes.length);
+            out.write(bytes);
+        }
+    }
+
+    private static Object readValue(DataInputStream in) throws IOException {
+        byte type = in.readByte();
+        switch (type) {
+            case NULL: return null;
+            case LONG: return in.readLong();
+            case INTEGER: return in.readInt();
+            case SHORT: return in.readShort();
+            case BYTE: return in.readByte();
+            case BIG_DECIMAL: {
+                int scale = in.readInt();
+                byte[] unscaledValue = new byte[in.readInt()];
+                in.readFully(unscaledValue);
+                return new BigDecimal(new BigInteger(unscaledValue), scale);
+            }
+            case DOUBLE: return in.readDouble();
+            case FLOAT: return in.readFloat();
+            case BOOLEAN: return in.readBoolean();
+            case TIMESTAMP: {
+                Timestamp timestamp = new Timestamp(in.readLong());
+                timestamp.setNanos(in.readInt());
+                return timestamp;
+            }
+            case DATE: return new java.sql.Date(in.readLong());
+            case TIME: return new Time(in.readLong());
+            case STRING: {
+                byte[] bytes = new byte[in.readInt()];
+                in.readFully(bytes);
+                return new String(bytes, StandardCharsets.UTF_8);
+            }
+            default: throw new IOException("Invalid value type " + type);
+        }
+    }
+}
@@ -1,5 +1,7 @@
 package com.dci.intellij.dbn.common.lookup;
 
+import org.jetbrains.annotations.Nullable;
+
 import java.util.Collection;
 
 public interface LookupConsumer {
@@ -7,4 +9,31 @@ public interface LookupConsumer {
     void consume(Object[] array) throws ConsumerStoppedException;
     void consume(Collection objects) throws ConsumerStoppedException;
     void check() throws ConsumerStoppedException;
+
+    /**
+     * Name prefix the consumed objects have to match, or null if the consumer accepts any name
+     */
+    @Nullable
+    default String getNamePrefix() {
+        return null;
+    }
+
+    /**
+     * Whether the given name matches the name prefix of the consumer (directly or by camel-humps)
+     */
+    default boolean matchesName(String name) {
+        return true;
+    }
+
+    /**
+     * Maximum number of name matching objects worth consuming from one lookup
+     */
+    default int getMatchLimit() {
+        return Integer.MAX_VALUE;
+    }
+
+    /**
+     * Called when a lookup stopped at the match limit without consuming all matching objects
+     */
+    default void matchLimitReached() {}
 }
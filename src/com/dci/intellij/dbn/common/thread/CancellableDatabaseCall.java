@@ -13,8 +13,6 @@ import org.jetbrains.annotations.Nullable;
 
 import java.sql.SQLException;
 import java.sql.SQLTimeoutException;
-import java.util.Timer;
-import java.util.TimerTask;
 import java.util.concurrent.Callable;
 import java.util.concurrent.CancellationException;
 import java.util.concurrent.ExecutionException;
@@ -37,10 +35,9 @@ public abstract class CancellableDatabaseCall<T> implements Callable<T> {
     private TimeUnit timeUnit;
     private boolean createSavepoint;
 
-    private transient Future<T> future;
-    private transient boolean cancelled = false;
-    private transient boolean cancelRequested = false;
-    private Timer cancelCheckTimer;
+    private transient volatile Future<T> future;
+    private transient volatile boolean cancelled = false;
+    private transient volatile boolean cancelRequested = false;
 
     protected CancellableDatabaseCall(@Nullable ConnectionHandler connectionHandler, @Nullable DBNConnection connection, int timeout, TimeUnit timeUnit) {
         this.connection = connection;
@@ -94,55 +91,59 @@ public abstract class CancellableDatabaseCall<T> implements Callable<T> {
     }
 
 
-    public final T start() throws SQLException {
-        try {
-            cancelCheckTimer = new Timer("DBN - Execution Cancel Watcher");
-            TimerTask cancelCheckTask = new TimerTask() {
-                @Override
-                public void run() {
-                    if (!cancelled && isCancelRequested()) {
-                        cancelled = true;
-                        if (future != null) future.cancel(true);
-                        try {
-                            CancellableDatabaseCall.this.cancel();
-                        } catch (Exception e) {
-                            LOGGER.warn("Error cancelling operation", e);
-                        }
-                        cancelCheckTimer.cancel();
-                    } else {
-                        ProgressIndicator progressIndicator = CancellableDatabaseCall.this.progressIndicator;
-                        if (progressIndicator != null && timeout > 0) {
-                            String text = progressIndicator.getText();
-                            int index = text.indexOf(" (timing out in ");
-                            if (index > -1) {
-                                text = text.substring(0, index);
-                            }
-
-                            long runningForSeconds = TimeUnit.MILLISECONDS.toSeconds(System.currentTimeMillis() - startTimestamp);
-                            long timeoutSeconds = timeUnit.toSeconds(timeout);
-                            long timingOutIn = timeoutSeconds - runningForSeconds;
-                            if (timingOutIn < 60)
-                                text = text + " (timing out in " + timingOutIn + " seconds) "; else
-                                text = text + " (timing out in " + TimeUnit.SECONDS.toMinutes(timingOutIn) + " minutes) ";
+    /**
+     * Invoked periodically by the {@link CancellableDatabaseCallWatchdog}
+     * @return true if the call does not need to be watched any more
+     */
+    boolean checkStatus() {
+        if (!cancelled && isCancelRequested()) {
+            cancelled = true;
+            Future<T> future = this.future;
+            if (future != null) future.cancel(true);
+
+            // do not block the shared watchdog thread with the actual cancel call
+            ExecutorService executorService = ThreadFactory.cancellableExecutor();
+            executorService.submit(() -> {
+                try {
+                    CancellableDatabaseCall.this.cancel();
+                } catch (Exception e) {
+                    LOGGER.warn("Error cancelling operation", e);
+                }
+            });
+            return true;
+        } else {
+            ProgressIndicator progressIndicator = this.progressIndicator;
+            if (progressIndicator != null && timeout > 0) {
+                String text = progressIndicator.getText();
+                int index = text.indexOf(" (timing out in ");
+                if (index > -1) {
+                    text = text.substring(0, index);
+                }
 
+                long runningForSeconds = TimeUnit.MILLISECONDS.toSeconds(System.currentTimeMillis() - startTimestamp);
+                long timeoutSeconds = timeUnit.toSeconds(timeout);
+                long timingOutIn = timeoutSeconds - runningForSeconds;
+                if (timingOutIn < 60)
+                    text = text + " (timing out in " + timingOutIn + " seconds) "; else
+                    text = text + " (timing out in " + TimeUnit.SECONDS.toMinutes(timingOutIn) + " minutes) ";
 
-                            progressIndicator.setText(text);
-                        }
-                    }
-                }
-            };
 
-            cancelCheckTimer.schedule(cancelCheckTask, 100, 100);
+                progressIndicator.setText(text);
+            }
+            return false;
+        }
+    }
 
+    public final T start() throws SQLException {
+        try {
+            CancellableDatabaseCallWatchdog.register(this);
             try {
                 ExecutorService executorService = ThreadFactory.cancellableExecutor();
                 future = executorService.submit(this);
                 return timeout == 0 ?  future.get() : future.get(timeout, timeUnit);
             } finally {
                 future = null;
-                if (cancelCheckTimer != null) {
-                    cancelCheckTimer.cancel();
-                }
+                CancellableDatabaseCallWatchdog.unregister(this);
             }
 
         } catch (CancellationException | InterruptedException e) {
@@ -0,0 +1,69 @@
+package com.dci.intellij.dbn.common.thread;
+
+import com.dci.intellij.dbn.common.LoggerFactory;
+import com.intellij.openapi.diagnostic.Logger;
+import com.intellij.util.containers.ContainerUtil;
+
+import java.util.Set;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Single watcher for all in-flight {@link CancellableDatabaseCall}s.
+ * Checks the registered calls for cancellation requests and progress updates on one shared scheduler thread
+ */
+final class CancellableDatabaseCallWatchdog {
+    private static final Logger LOGGER = LoggerFactory.createLogger();
+    private static final long CHECK_INTERVAL = 100;
+
+    private static final Set<CancellableDatabaseCall> CALLS = ContainerUtil.newConcurrentSet();
+    private static ScheduledFuture<?> checkTask;
+
+    private CancellableDatabaseCallWatchdog() {}
+
+    static void register(CancellableDatabaseCall call) {
+        CALLS.add(call);
+        ensureStarted();
+    }
+
+    static void unregister(CancellableDatabaseCall call) {
+        CALLS.remove(call);
+        stopIfIdle();
+    }
+
+    private static synchronized void ensureStarted() {
+        if (checkTask == null || checkTask.isDone()) {
+            ScheduledExecutorService executorService = ThreadFactory.watchdogExecutor();
+            checkTask = executorService.scheduleWithFixedDelay(
+                    CancellableDatabaseCallWatchdog::check,
+                    CHECK_INTERVAL,
+                    CHECK_INTERVAL,
+                    TimeUnit.MILLISECONDS);
+        }
+    }
+
+    /**
+     * Cancels the check task once no calls are left to watch (restarted by {@link #ensureStarted()} on next registration)
+     */
+    private static synchronized void stopIfIdle() {
+        if (checkTask != null && CALLS.isEmpty()) {
+            checkTask.cancel(false);
+            checkTask = null;
+        }
+    }
+
+    private static void check() {
+        for (CancellableDatabaseCall call : CALLS) {
+            try {
+                if (call.checkStatus()) {
+                    CALLS.remove(call);
+                }
+            } catch (Throwable e) {
+                // never let the shared task die
+                LOGGER.warn("Error checking database call status", e);
+            }
+        }
+        stopIfIdle();
+    }
+}
@@ -1,39 +1,37 @@
 package com.dci.intellij.dbn.common.thread;
 
-import gnu.trove.THashMap;
-
 import java.util.Map;
-import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.ConcurrentHashMap;
 
+/**
+ * Reference counted lock objects per key. Acquisition and release are atomic per key
+ * (no global monitor), so threads synchronizing on different keys do not contend.
+ */
 public class SyncObjectProvider {
-	private Map<String, AtomicInteger> SYNC_OBJECTS = new THashMap<>();
+	private final Map<Object, SyncObject> syncObjects = new ConcurrentHashMap<>();
 
-	public Object get(String key) {
+	public Object get(Object key) {
 		if (key != null) {
-			synchronized (this) {
-				AtomicInteger syncObject = SYNC_OBJECTS.get(key);
+			return syncObjects.compute(key, (k, syncObject) -> {
 				if (syncObject == null) {
-					syncObject = new AtomicInteger(1);
-					SYNC_OBJECTS.put(key, syncObject);
-				} else {
-					syncObject.incrementAndGet();
+					return new SyncObject();
 				}
+				syncObject.references++;
 				return syncObject;
-			}
+			});
 		} else {
 			return null;
 		}
 	}
 
-	public void release(String key) {
+	public void release(Object key) {
 		if (key != null) {
-			synchronized (this) {
-				AtomicInteger syncObject = SYNC_OBJECTS.get(key);
-				if (syncObject.decrementAndGet() == 0 ) {
-					SYNC_OBJECTS.remove(key);
-				}
-			}
+			syncObjects.computeIfPresent(key, (k, syncObject) -> --syncObject.references == 0 ? null : syncObject);
 		}
 	}
-}
 
+	private static final class SyncObject {
+		// only mutated inside compute blocks of the owning map
+		private int references = 1;
+	}
+}
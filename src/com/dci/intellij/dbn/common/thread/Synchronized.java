@@ -22,28 +22,36 @@ public interface Synchronized {
     }
 
     static <E extends Throwable> void run(@NotNull String syncKey, ThrowableRunnable<E> runnable) throws E {
+        run(SYNC_OBJECT_PROVIDER, syncKey, runnable);
+    }
+
+    static <E extends Throwable> void run(@NotNull SyncObjectProvider provider, @NotNull Object syncKey, ThrowableRunnable<E> runnable) throws E {
         try {
-            Object syncObject = SYNC_OBJECT_PROVIDER.get(syncKey);
+            Object syncObject = provider.get(syncKey);
             synchronized (syncObject) {
                 runnable.run();
             }
         }
         catch (ProcessCanceledException ignore) {}
         finally {
-            SYNC_OBJECT_PROVIDER.release(syncKey);
+            provider.release(syncKey);
         }
     }
 
     static <T, E extends Throwable> T call(@NotNull String syncKey, ThrowableCallable<T, E> callable) throws E{
+        return call(SYNC_OBJECT_PROVIDER, syncKey, callable);
+    }
+
+    static <T, E extends Throwable> T call(@NotNull SyncObjectProvider provider, @NotNull Object syncKey, ThrowableCallable<T, E> callable) throws E{
         try {
-            Object syncObject = SYNC_OBJECT_PROVIDER.get(syncKey);
+            Object syncObject = provider.get(syncKey);
             synchronized (syncObject) {
                 return callable.call();
             }
         }
         //catch (ProcessCanceledException ignore) {} // TODO return default?
         finally {
-            SYNC_OBJECT_PROVIDER.release(syncKey);
+            provider.release(syncKey);
         }
     }
 
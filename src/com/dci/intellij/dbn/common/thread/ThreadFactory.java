@@ -4,6 +4,7 @@ import org.jetbrains.annotations.NotNull;
 
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
 
 public class ThreadFactory {
 
@@ -19,6 +20,8 @@ public class ThreadFactory {
 
     private static final ExecutorService TIMEOUT_EXECUTOR = Executors.newCachedThreadPool(createThreadFactory("DBN - Timed-out Execution Thread (non-daemon)", false));
 
+    private static final ScheduledExecutorService WATCHDOG_EXECUTOR = Executors.newSingleThreadScheduledExecutor(createThreadFactory("DBN - Database Call Watchdog", true));
+
 
     @NotNull
     private static java.util.concurrent.ThreadFactory createThreadFactory(final String name, final boolean daemon) {
@@ -50,4 +53,8 @@ public class ThreadFactory {
     public static ExecutorService databaseInterfaceExecutor() {
         return DATABASE_INTERFACE_EXECUTOR;
     }
+
+    public static ScheduledExecutorService watchdogExecutor() {
+        return WATCHDOG_EXECUTOR;
+    }
 }
@@ -36,11 +36,13 @@ import java.util.HashMap;
 import java.util.Map;
 import java.util.Timer;
 import java.util.TimerTask;
+import java.util.WeakHashMap;
 
 @Nullifiable
 public abstract class DBNTable<T extends DBNTableModel> extends JTable implements RegisteredDisposable, UserDataHolder {
     private static final int MAX_COLUMN_WIDTH = 300;
     private static final int MIN_COLUMN_WIDTH = 10;
+    private static final int COLUMN_WIDTH_SAMPLE_ROWS = 100;
     protected DBNTableGutter tableGutter;
     private ProjectRef projectRef;
     private double scrollDistance;
@@ -49,6 +51,9 @@ public abstract class DBNTable<T extends DBNTableModel> extends JTable implement
     private int rowVerticalPadding;
     private KeyFMap userData = KeyFMap.EMPTY_MAP;
 
+    /** content widths measured per column (before span and limits), widened incrementally when rows are appended */
+    private final Map<TableColumn, Integer> columnWidths = new WeakHashMap<>();
+
     @Override
     public void setModel(@NotNull TableModel dataModel) {
         super.setModel(dataModel);
@@ -177,11 +182,35 @@ public abstract class DBNTable<T extends DBNTableModel> extends JTable implement
      *                    Cell metrics                       *
      *********************************************************/
     public void accommodateColumnsSize() {
+        columnWidths.clear();
         for (int columnIndex = 0; columnIndex < getColumnCount(); columnIndex++){
             accommodateColumnSize(columnIndex, getColumnWidthSpan());
         }
     }
 
+    /**
+     * Widens the columns to the given rows (e.g. rows appended to the model), starting from the widths measured before
+     * @param fromRowIndex first row index (inclusive)
+     * @param toRowIndex last row index (exclusive)
+     */
+    public void accommodateColumnsSize(int fromRowIndex, int toRowIndex) {
+        TableColumnModel columnModel = getColumnModel();
+        int span = getColumnWidthSpan();
+        toRowIndex = Math.min(toRowIndex, getModel().getRowCount());
+        for (int columnIndex = 0; columnIndex < columnModel.getColumnCount(); columnIndex++){
+            TableColumn column = columnModel.getColumn(columnIndex);
+            Integer measuredWidth = columnWidths.get(column);
+            if (measuredWidth == null) {
+                accommodateColumnSize(columnIndex, span);
+            } else {
+                int preferredWidth = measureRows(columnIndex, fromRowIndex, toRowIndex, measuredWidth);
+                preferredWidth = measureWidestValue(column, columnIndex, preferredWidth);
+                columnWidths.put(column, preferredWidth);
+                applyColumnWidth(column, preferredWidth, span);
+            }
+        }
+    }
+
     public int getColumnWidthSpan() {
         return 22;
     }
@@ -202,6 +231,10 @@ public abstract class DBNTable<T extends DBNTableModel> extends JTable implement
         return super.convertColumnIndexToModel(viewColumnIndex);
     }
 
+    /**
+     * Sizes the column to its content, measured on a bounded sample: the header, the first and the last rows,
+     * and the widest value tracked by the model (see {@link DBNTableModel#getWidestValueAt(int)})
+     */
     public void accommodateColumnSize(int columnIndex, int span) {
         TableColumnModel columnModel = getColumnModel();
         if (columnIndex < columnModel.getColumnCount()) {
@@ -220,38 +253,65 @@ public abstract class DBNTable<T extends DBNTableModel> extends JTable implement
             }
 
             // rows
-            T model = getModel();
-            int rowCount = model.getRowCount();
-            for (int rowIndex = 0; rowIndex < rowCount; rowIndex++) {
-                if (preferredWidth > MAX_COLUMN_WIDTH) {
-                    break;
-                }
-                TableCellRenderer renderer = getCellRenderer(rowIndex, columnIndex);
-
-                if (renderer != null) {
-                    Object value = model.getValueAt(rowIndex, columnIndex);
-                    if (value != null) {
-                        Component component = renderer.getTableCellRendererComponent(this, value, false, false, rowIndex, columnIndex);
-                        if (component.getPreferredSize().width > preferredWidth) {
-                            preferredWidth = component.getPreferredSize().width;
-                        }
-                    }
-                }
-            }
+            preferredWidth = measureRows(columnIndex, 0, getModel().getRowCount(), preferredWidth);
+            preferredWidth = measureWidestValue(column, columnIndex, preferredWidth);
+
+            columnWidths.put(column, preferredWidth);
+            applyColumnWidth(column, preferredWidth, span);
+        }
+    }
 
+    private int measureRows(int columnIndex, int fromRowIndex, int toRowIndex, int preferredWidth) {
+        if (toRowIndex - fromRowIndex > 2 * COLUMN_WIDTH_SAMPLE_ROWS) {
+            preferredWidth = measureRows(columnIndex, fromRowIndex, fromRowIndex + COLUMN_WIDTH_SAMPLE_ROWS, preferredWidth);
+            return measureRows(columnIndex, toRowIndex - COLUMN_WIDTH_SAMPLE_ROWS, toRowIndex, preferredWidth);
+        }
+
+        T model = getModel();
+        for (int rowIndex = fromRowIndex; rowIndex < toRowIndex; rowIndex++) {
             if (preferredWidth > MAX_COLUMN_WIDTH) {
-                preferredWidth = MAX_COLUMN_WIDTH;
+                break;
             }
+            Object value = model.getValueAt(rowIndex, columnIndex);
+            preferredWidth = measureValue(value, rowIndex, columnIndex, preferredWidth);
+        }
+        return preferredWidth;
+    }
 
-            if (preferredWidth < MIN_COLUMN_WIDTH) {
-                preferredWidth = MIN_COLUMN_WIDTH;
+    private int measureWidestValue(TableColumn column, int columnIndex, int preferredWidth) {
+        if (preferredWidth > MAX_COLUMN_WIDTH) {
+            return preferredWidth;
+        }
+        Object value = getModel().getWidestValueAt(column.getModelIndex());
+        return measureValue(value, -1, columnIndex, preferredWidth);
+    }
+
+    private int measureValue(Object value, int rowIndex, int columnIndex, int preferredWidth) {
+        if (value != null) {
+            TableCellRenderer renderer = getCellRenderer(rowIndex, columnIndex);
+            if (renderer != null) {
+                Component component = renderer.getTableCellRendererComponent(this, value, false, false, rowIndex, columnIndex);
+                if (component.getPreferredSize().width > preferredWidth) {
+                    preferredWidth = component.getPreferredSize().width;
+                }
             }
+        }
+        return preferredWidth;
+    }
 
-            preferredWidth = preferredWidth + span;
+    private static void applyColumnWidth(TableColumn column, int preferredWidth, int span) {
+        if (preferredWidth > MAX_COLUMN_WIDTH) {
+            preferredWidth = MAX_COLUMN_WIDTH;
+        }
 
-            if (column.getPreferredWidth() != preferredWidth)  {
-                column.setPreferredWidth(preferredWidth);
-            }
+        if (preferredWidth < MIN_COLUMN_WIDTH) {
+            preferredWidth = MIN_COLUMN_WIDTH;
+        }
+
+        preferredWidth = preferredWidth + span;
+
+        if (column.getPreferredWidth() != preferredWidth)  {
+            column.setPreferredWidth(preferredWidth);
         }
     }
 
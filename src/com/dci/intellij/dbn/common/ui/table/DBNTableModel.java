@@ -1,8 +1,18 @@
 package com.dci.intellij.dbn.common.ui.table;
 
 import com.dci.intellij.dbn.common.dispose.RegisteredDisposable;
+import org.jetbrains.annotations.Nullable;
 
 import javax.swing.table.TableModel;
 
 public interface DBNTableModel extends TableModel, RegisteredDisposable {
+
+    /**
+     * Value (as returned by {@link #getValueAt(int, int)}) expected to render widest in the given column,
+     * if the model keeps track of it. Used for sizing columns without measuring every row
+     */
+    @Nullable
+    default Object getWidestValueAt(int columnIndex) {
+        return null;
+    }
 }
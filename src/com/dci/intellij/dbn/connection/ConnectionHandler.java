@@ -3,6 +3,7 @@ package com.dci.intellij.dbn.connection;
 import com.dci.intellij.dbn.browser.model.BrowserTreeNode;
 import com.dci.intellij.dbn.common.Referenceable;
 import com.dci.intellij.dbn.common.cache.Cache;
+import com.dci.intellij.dbn.common.content.snapshot.MetadataSnapshot;
 import com.dci.intellij.dbn.common.database.AuthenticationInfo;
 import com.dci.intellij.dbn.common.database.DatabaseInfo;
 import com.dci.intellij.dbn.common.dispose.Nullifiable;
@@ -95,6 +96,9 @@ public interface ConnectionHandler extends RegisteredDisposable, EnvironmentType
 
     default Cache getMetaDataCache(){ return null;}
 
+    @Nullable
+    default MetadataSnapshot getMetadataSnapshot(){ return null;}
+
     @NotNull
     String getConnectionName(@Nullable DBNConnection connection);
 
@@ -4,6 +4,7 @@ import com.dci.intellij.dbn.browser.model.BrowserTreeNode;
 import com.dci.intellij.dbn.common.Icons;
 import com.dci.intellij.dbn.common.LoggerFactory;
 import com.dci.intellij.dbn.common.cache.Cache;
+import com.dci.intellij.dbn.common.content.snapshot.MetadataSnapshot;
 import com.dci.intellij.dbn.common.database.AuthenticationInfo;
 import com.dci.intellij.dbn.common.database.DatabaseInfo;
 import com.dci.intellij.dbn.common.dispose.DisposableBase;
@@ -16,6 +17,7 @@ import com.dci.intellij.dbn.common.latent.MapLatent;
 import com.dci.intellij.dbn.common.latent.RuntimeLatent;
 import com.dci.intellij.dbn.common.notification.NotificationGroup;
 import com.dci.intellij.dbn.common.notification.NotificationSupport;
+import com.dci.intellij.dbn.common.thread.Background;
 import com.dci.intellij.dbn.common.thread.Synchronized;
 import com.dci.intellij.dbn.common.util.CommonUtil;
 import com.dci.intellij.dbn.common.util.StringUtil;
@@ -80,6 +82,9 @@ public class ConnectionHandlerImpl extends DisposableBase implements ConnectionH
     private final RuntimeLatent<Cache> metaDataCache =
             Latent.runtime(() -> new Cache(getConnectionId().id(), TimeUtil.ONE_MINUTE));
 
+    private final RuntimeLatent<MetadataSnapshot> metadataSnapshot =
+            Latent.runtime(() -> MetadataSnapshot.load(this, getConnectionId(), getSettings().getDatabaseSettings().getConnectionUrl()));
+
     private final RuntimeLatent<AuthenticationInfo> temporaryAuthenticationInfo =
             Latent.runtime(() -> {
                 ConnectionDatabaseSettings databaseSettings = getSettings().getDatabaseSettings();
@@ -136,6 +141,12 @@ public class ConnectionHandlerImpl extends DisposableBase implements ConnectionH
         return metaDataCache.get();
     }
 
+    @Override
+    @Nullable
+    public MetadataSnapshot getMetadataSnapshot() {
+        return getSettings().getDetailSettings().isEnableMetadataSnapshot() ? metadataSnapshot.get() : null;
+    }
+
     @Override
     @NotNull
     public String getConnectionName(@Nullable DBNConnection connection) {
@@ -211,6 +222,13 @@ public class ConnectionHandlerImpl extends DisposableBase implements ConnectionH
     public void setSettings(ConnectionSettings connectionSettings) {
         this.connectionSettings = connectionSettings;
         this.enabled = connectionSettings.isActive();
+
+        int statementCacheSize = connectionSettings.getDetailSettings().getStatementCacheSize();
+        List<DBNConnection> connections = getConnections();
+        if (connections.stream().anyMatch(connection -> connection.getStatementCache().getCapacity() != statementCacheSize)) {
+            // shrinking the cache closes the evicted statements (database roundtrips)
+            Background.run(() -> connections.forEach(connection -> connection.getStatementCache().setCapacity(statementCacheSize)));
+        }
     }
 
     @Override
@@ -624,6 +642,15 @@ public class ConnectionHandlerImpl extends DisposableBase implements ConnectionH
         return this;
     }
 
+    @Override
+    public void disposeInner() {
+        if (metadataSnapshot.loaded()) {
+            MetadataSnapshot snapshot = metadataSnapshot.get();
+            Background.run(snapshot::save);
+        }
+        super.disposeInner();
+    }
+
     @Override
     @Deprecated
     public boolean hasUncommittedChanges() {
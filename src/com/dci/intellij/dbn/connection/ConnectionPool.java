@@ -25,11 +25,14 @@ import org.jetbrains.annotations.Nullable;
 import java.sql.SQLException;
 import java.sql.SQLTimeoutException;
 import java.util.ArrayList;
+import java.util.Deque;
 import java.util.List;
 import java.util.Map;
 import java.util.Timer;
 import java.util.TimerTask;
+import java.util.concurrent.ConcurrentLinkedDeque;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
 
 public class ConnectionPool extends DisposableBase implements NotificationSupport, Disposable {
 
@@ -41,6 +44,13 @@ public class ConnectionPool extends DisposableBase implements NotificationSuppor
 
     private List<DBNConnection> poolConnections = ContainerUtil.createLockFreeCopyOnWriteList();
     private Map<SessionId, DBNConnection> dedicatedConnections = ContainerUtil.newConcurrentMap();
+    private final Deque<ConnectionWaiter> waiters = new ConcurrentLinkedDeque<>();
+
+    private int peakQueueDepth = 0;
+    private volatile long peakWaitTime = 0;
+    private final AtomicLong waitCount = new AtomicLong();
+    private final AtomicLong timeoutCount = new AtomicLong();
+    private final AtomicLong totalWaitTime = new AtomicLong();
 
     private IntervalLoader<Long> lastAccessTimestamp = new IntervalLoader<Long>(TimeUtil.TEN_SECONDS) {
         @Override
@@ -184,37 +194,101 @@ public class ConnectionPool extends DisposableBase implements NotificationSuppor
 
     @NotNull
     DBNConnection allocateConnection(boolean readonly) throws SQLException {
-        return allocateConnection(readonly, 0);
-    }
-
-    @NotNull
-    private DBNConnection allocateConnection(boolean readonly, int attempts) throws SQLException {
         ConnectionHandler connectionHandler = getConnectionHandler();
         ConnectionManager.setLastUsedConnection(connectionHandler);
 
-        DBNConnection connection = lookupConnection();
+        DBNConnection connection = waiters.isEmpty() ? lookupConnection() : null;
         if (connection == null)  {
             ConnectionDetailSettings detailSettings = connectionHandler.getSettings().getDetailSettings();
-            if (poolConnections.size() >= detailSettings.getMaxConnectionPoolSize() && !ApplicationManager.getApplication().isDispatchThread()) {
-                try {
-                    if (attempts > 30) {
-                        throw new SQLTimeoutException("Busy connection pool");
-                    }
-                    Thread.sleep(TimeUtil.ONE_SECOND);
-                    return allocateConnection(readonly, attempts + 1);
-                } catch (SQLException e) {
-                    throw e;
-                } catch (Throwable e) {
-                    throw new SQLException("Could not allocate connection for '" + connectionHandler.getName() + "'. ", e);
-                }
+            if (isPoolExhausted(detailSettings) && !ApplicationManager.getApplication().isDispatchThread()) {
+                connection = awaitConnection(detailSettings);
+            }
+
+            if (connection == null) {
+                connection = createPoolConnection();
             }
-            connection = createPoolConnection();
         }
         ResourceUtil.setReadonly(connectionHandler, connection, readonly);
         ResourceUtil.setAutoCommit(connection, readonly);
         return connection;
     }
 
+    private boolean isPoolExhausted(ConnectionDetailSettings detailSettings) {
+        return poolConnections.size() >= detailSettings.getMaxConnectionPoolSize();
+    }
+
+    /**
+     * Queues the caller behind the other threads waiting for a pool connection.
+     * Released connections are handed over directly to the longest waiting caller (see {@link #releaseConnection(DBNConnection)}).
+     * Returns null if the pool shrank meanwhile and the caller is allowed to create a new connection.
+     */
+    @Nullable
+    private DBNConnection awaitConnection(ConnectionDetailSettings detailSettings) throws SQLException {
+        ConnectionHandler connectionHandler = getConnectionHandler();
+        ConnectionWaiter waiter = new ConnectionWaiter();
+        long timeout = TimeUnit.SECONDS.toMillis(detailSettings.getMaxPoolWaitTime());
+        long deadline = waiter.timestamp + timeout;
+        boolean retry = false;
+        boolean waited = false;
+        try {
+            while (true) {
+                checkDisposed();
+                synchronized (this) {
+                    // new callers only pick up free connections if nobody is queued,
+                    // woken up waiters without connection (pool shrank) were polled from the head of the queue and retry first
+                    if (retry || waiters.isEmpty()) {
+                        DBNConnection connection = lookupConnection();
+                        if (connection != null) return connection;
+                        if (!isPoolExhausted(detailSettings)) return null;
+                    }
+
+                    waiter.reset();
+                    if (retry) {
+                        // keep the position in the queue
+                        waiters.addFirst(waiter);
+                    } else {
+                        waiters.addLast(waiter);
+                    }
+                    int queueDepth = waiters.size();
+                    if (queueDepth > peakQueueDepth) peakQueueDepth = queueDepth;
+                }
+
+                waited = true;
+                boolean signalled = waiter.await(deadline - System.currentTimeMillis());
+                synchronized (this) {
+                    waiters.remove(waiter);
+                    DBNConnection connection = waiter.connection;
+                    if (connection != null) {
+                        return connection;
+                    }
+                    if (!signalled) {
+                        timeoutCount.incrementAndGet();
+                        throw new SQLTimeoutException("Busy connection pool. Could not allocate connection for '" + connectionHandler.getName() + "' within " + detailSettings.getMaxPoolWaitTime() + " seconds.");
+                    }
+                }
+                retry = true;
+            }
+        } catch (InterruptedException e) {
+            DBNConnection connection;
+            synchronized (this) {
+                waiters.remove(waiter);
+                connection = waiter.connection;
+                waiter.connection = null;
+            }
+            // released outside the pool lock (rolls back the connection)
+            releaseConnection(connection);
+            Thread.currentThread().interrupt();
+            throw new SQLException("Could not allocate connection for '" + connectionHandler.getName() + "'. ", e);
+        } finally {
+            if (waited) {
+                long waitTime = System.currentTimeMillis() - waiter.timestamp;
+                waitCount.incrementAndGet();
+                totalWaitTime.addAndGet(waitTime);
+                if (waitTime > peakWaitTime) peakWaitTime = waitTime;
+            }
+        }
+    }
+
     @Nullable
     private DBNConnection lookupConnection() {
         ConnectionHandler connectionHandler = getConnectionHandler();
@@ -284,7 +358,7 @@ public class ConnectionPool extends DisposableBase implements NotificationSuppor
                     ResourceUtil.rollback(connection);
                     ResourceUtil.setAutoCommit(connection, true);
                     ResourceUtil.setReadonly(getConnectionHandler(), connection, true);
-                    connection.set(ResourceStatus.RESERVED, false);
+                    handOverConnection(connection);
                 } catch (SQLException e) {
                     dropConnection(connection);
                 }
@@ -295,10 +369,35 @@ public class ConnectionPool extends DisposableBase implements NotificationSuppor
         }
     }
 
+    /**
+     * Passes a released (still reserved) connection to the longest waiting caller, or frees it if nobody is waiting.
+     * Both happen under the pool lock, so a caller starting to wait meanwhile either finds the connection free or gets it handed over.
+     */
+    private synchronized void handOverConnection(DBNConnection connection) {
+        ConnectionWaiter waiter = waiters.pollFirst();
+        if (waiter != null) {
+            waiter.signal(connection);
+        } else {
+            connection.set(ResourceStatus.RESERVED, false);
+        }
+    }
+
+    /**
+     * Wakes up the longest waiting caller to allow it to create a new connection (pool shrank)
+     */
+    private synchronized void notifyWaiters(boolean all) {
+        ConnectionWaiter waiter = waiters.pollFirst();
+        while (waiter != null) {
+            waiter.signal(null);
+            waiter = all ? waiters.pollFirst() : null;
+        }
+    }
+
     void dropConnection(DBNConnection connection) {
         if (connection != null) {
             poolConnections.remove(connection);
             ResourceUtil.close(connection);
+            notifyWaiters(false);
         }
     }
 
@@ -314,6 +413,7 @@ public class ConnectionPool extends DisposableBase implements NotificationSuppor
         if (sessionId == SessionId.POOL) {
             poolConnections.remove(connection);
             ResourceUtil.close(connection);
+            notifyWaiters(false);
         } else {
             dedicatedConnections.remove(sessionId);
             ResourceUtil.close(connection);
@@ -336,8 +436,34 @@ public class ConnectionPool extends DisposableBase implements NotificationSuppor
         return peakPoolSize;
     }
 
+    public int getQueueDepth() {
+        return waiters.size();
+    }
+
+    public int getPeakQueueDepth() {
+        return peakQueueDepth;
+    }
+
+    public long getWaitCount() {
+        return waitCount.get();
+    }
+
+    public long getTimeoutCount() {
+        return timeoutCount.get();
+    }
+
+    public long getAverageWaitTime() {
+        long waitCount = this.waitCount.get();
+        return waitCount == 0 ? 0 : totalWaitTime.get() / waitCount;
+    }
+
+    public long getPeakWaitTime() {
+        return peakWaitTime;
+    }
+
     @Override
     public void disposeInner() {
+        notifyWaiters(true);
         closeConnections();
         super.disposeInner();
     }
@@ -413,6 +539,34 @@ public class ConnectionPool extends DisposableBase implements NotificationSuppor
         }
     }
 
+    private static class ConnectionWaiter {
+        private final long timestamp = System.currentTimeMillis();
+        private DBNConnection connection;
+        private boolean signalled;
+
+        synchronized void signal(@Nullable DBNConnection connection) {
+            this.connection = connection;
+            this.signalled = true;
+            notifyAll();
+        }
+
+        synchronized void reset() {
+            signalled = false;
+        }
+
+        synchronized boolean await(long timeout) throws InterruptedException {
+            long deadline = System.currentTimeMillis() + timeout;
+            while (!signalled) {
+                long remaining = deadline - System.currentTimeMillis();
+                if (remaining <= 0) {
+                    return false;
+                }
+                wait(remaining);
+            }
+            return true;
+        }
+    }
+
     private static ConnectionPoolCleanTask POOL_CLEANER_TASK = new ConnectionPoolCleanTask();
     static {
         Timer poolCleaner = new Timer("DBN - Idle Connection Pool Cleaner");
@@ -185,7 +185,8 @@ class Connector {
                     connectionSettings.getDatabaseSettings().getName(),
                     connectionType,
                     connectionSettings.getConnectionId(),
-                    sessionId);
+                    sessionId,
+                    connectionSettings.getDetailSettings().getStatementCacheSize());
 
         } catch (Throwable e) {
             DatabaseType databaseType = ResourceUtil.getDatabaseType(databaseSettings.getDriver());
@@ -24,8 +24,8 @@ public interface PooledConnection {
         } catch (ProcessCanceledException ignore){
         } finally {
             if (connection != null) {
-                connectionHandler.freePoolConnection(connection);
                 connection.set(ResourceStatus.ACTIVE, false);
+                connectionHandler.freePoolConnection(connection);
             }
         }
     }
@@ -43,8 +43,8 @@ public interface PooledConnection {
 
         } finally {
             if (connection != null) {
-                connectionHandler.freePoolConnection(connection);
                 connection.set(ResourceStatus.ACTIVE, false);
+                connectionHandler.freePoolConnection(connection);
             }
         }
     }
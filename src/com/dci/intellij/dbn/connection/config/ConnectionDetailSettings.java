@@ -25,6 +25,7 @@ public class ConnectionDetailSettings extends BasicProjectConfiguration<Connecti
     private EnvironmentTypeId environmentTypeId = EnvironmentTypeId.DEFAULT;
     private boolean enableSessionManagement = true;
     private boolean enableDdlFileBinding = true;
+    private boolean enableMetadataSnapshot = true;
     private boolean enableDatabaseLogging = false;
     private boolean connectAutomatically = true;
     private boolean restoreWorkspace = true;
@@ -33,6 +34,8 @@ public class ConnectionDetailSettings extends BasicProjectConfiguration<Connecti
     private int idleTimeToDisconnectPool = 5;
     private int credentialExpiryTime = 10;
     private int maxConnectionPoolSize = 7;
+    private int maxPoolWaitTime = 30;
+    private int statementCacheSize = 50;
 
 
     private String alternativeStatementDelimiter;
@@ -93,6 +96,14 @@ public class ConnectionDetailSettings extends BasicProjectConfiguration<Connecti
         this.enableDdlFileBinding = enableDdlFileBinding;
     }
 
+    public boolean isEnableMetadataSnapshot() {
+        return enableMetadataSnapshot;
+    }
+
+    public void setEnableMetadataSnapshot(boolean enableMetadataSnapshot) {
+        this.enableMetadataSnapshot = enableMetadataSnapshot;
+    }
+
     public boolean isEnableDatabaseLogging() {
         return enableDatabaseLogging;
     }
@@ -133,6 +144,22 @@ public class ConnectionDetailSettings extends BasicProjectConfiguration<Connecti
         this.maxConnectionPoolSize = maxConnectionPoolSize;
     }
 
+    public int getMaxPoolWaitTime() {
+        return maxPoolWaitTime;
+    }
+
+    public void setMaxPoolWaitTime(int maxPoolWaitTime) {
+        this.maxPoolWaitTime = maxPoolWaitTime;
+    }
+
+    public int getStatementCacheSize() {
+        return statementCacheSize;
+    }
+
+    public void setStatementCacheSize(int statementCacheSize) {
+        this.statementCacheSize = statementCacheSize;
+    }
+
     public int getIdleTimeToDisconnect() {
         return idleTimeToDisconnect;
     }
@@ -187,6 +214,7 @@ public class ConnectionDetailSettings extends BasicProjectConfiguration<Connecti
 
         enableSessionManagement = getBoolean(element, "session-management", enableSessionManagement);
         enableDdlFileBinding = getBoolean(element, "ddl-file-binding", enableDdlFileBinding);
+        enableMetadataSnapshot = getBoolean(element, "metadata-snapshot", enableMetadataSnapshot);
         enableDatabaseLogging = getBoolean(element, "database-logging", enableDatabaseLogging);
         connectAutomatically = getBoolean(element, "connect-automatically", connectAutomatically);
         restoreWorkspace = getBoolean(element, "restore-workspace", restoreWorkspace);
@@ -196,6 +224,8 @@ public class ConnectionDetailSettings extends BasicProjectConfiguration<Connecti
         idleTimeToDisconnectPool = getInteger(element, "idle-time-to-disconnect-pool", idleTimeToDisconnectPool);
         credentialExpiryTime = getInteger(element, "credential-expiry-time", credentialExpiryTime);
         maxConnectionPoolSize = getInteger(element, "max-connection-pool-size", maxConnectionPoolSize);
+        maxPoolWaitTime = getInteger(element, "max-pool-wait-time", maxPoolWaitTime);
+        statementCacheSize = getInteger(element, "statement-cache-size", statementCacheSize);
         alternativeStatementDelimiter = getString(element, "alternative-statement-delimiter", null);
     }
 
@@ -205,6 +235,7 @@ public class ConnectionDetailSettings extends BasicProjectConfiguration<Connecti
         
         setBoolean(element, "session-management", enableSessionManagement);
         setBoolean(element, "ddl-file-binding", enableDdlFileBinding);
+        setBoolean(element, "metadata-snapshot", enableMetadataSnapshot);
         setBoolean(element, "database-logging", enableDatabaseLogging);
         setBoolean(element, "connect-automatically", connectAutomatically);
         setBoolean(element, "restore-workspace", restoreWorkspace);
@@ -214,6 +245,8 @@ public class ConnectionDetailSettings extends BasicProjectConfiguration<Connecti
         setInteger(element, "idle-time-to-disconnect-pool", idleTimeToDisconnectPool);
         setInteger(element, "credential-expiry-time", credentialExpiryTime);
         setInteger(element, "max-connection-pool-size", maxConnectionPoolSize);
+        setInteger(element, "max-pool-wait-time", maxPoolWaitTime);
+        setInteger(element, "statement-cache-size", statementCacheSize);
         setString(element, "alternative-statement-delimiter", CommonUtil.nvl(alternativeStatementDelimiter, ""));
     }
 
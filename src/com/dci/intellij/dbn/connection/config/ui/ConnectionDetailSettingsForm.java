@@ -38,6 +38,8 @@ public class ConnectionDetailSettingsForm extends ConfigurationEditorForm<Connec
     private JComboBox<EnvironmentType> environmentTypesComboBox;
     private JPanel generalGroupPanel;
     private JTextField maxPoolSizeTextField;
+    private JTextField maxPoolWaitTimeTextField;
+    private JTextField statementCacheSizeTextField;
     private JTextField idleTimeTextField;
     private JTextField alternativeStatementDelimiterTextField;
     private JPanel autoConnectHintPanel;
@@ -45,6 +47,7 @@ public class ConnectionDetailSettingsForm extends ConfigurationEditorForm<Connec
     private JCheckBox databaseLoggingCheckBox;
     private JCheckBox sessionManagementCheckBox;
     private JCheckBox ddlFileBindingCheckBox;
+    private JCheckBox metadataSnapshotCheckBox;
     private JCheckBox autoConnectCheckBox;
     private JCheckBox restoreWorkspaceCheckBox;
     private JCheckBox restoreWorkspaceDeepCheckBox;
@@ -166,16 +169,21 @@ public class ConnectionDetailSettingsForm extends ConfigurationEditorForm<Connec
         configuration.setConnectAutomatically(autoConnectCheckBox.isSelected());
         configuration.setEnableSessionManagement(sessionManagementCheckBox.isSelected());
         configuration.setEnableDdlFileBinding(ddlFileBindingCheckBox.isSelected());
+        configuration.setEnableMetadataSnapshot(metadataSnapshotCheckBox.isSelected());
         configuration.setEnableDatabaseLogging(databaseLoggingCheckBox.isSelected());
         configuration.setAlternativeStatementDelimiter(alternativeStatementDelimiterTextField.getText());
         int idleTimeToDisconnect = ConfigurationEditorUtil.validateIntegerInputValue(idleTimeTextField, "Idle time to disconnect (minutes)", true, 0, 60, "");
         int idleTimeToDisconnectPool = ConfigurationEditorUtil.validateIntegerInputValue(idleTimePoolTextField, "Idle time to disconnect pool (minutes)", true, 1, 60, "");
         int passwordExpiryTime = ConfigurationEditorUtil.validateIntegerInputValue(passwordExpiryTextField, "Idle time to request password (minutes)", true, 0, 60, "");
         int maxPoolSize = ConfigurationEditorUtil.validateIntegerInputValue(maxPoolSizeTextField, "Max connection pool size", true, 3, 20, "");
+        int maxPoolWaitTime = ConfigurationEditorUtil.validateIntegerInputValue(maxPoolWaitTimeTextField, "Max connection pool wait time (seconds)", true, 1, 600, "");
+        int statementCacheSize = ConfigurationEditorUtil.validateIntegerInputValue(statementCacheSizeTextField, "Statement cache size", true, 0, 500, "");
         configuration.setIdleTimeToDisconnect(idleTimeToDisconnect);
         configuration.setIdleTimeToDisconnectPool(idleTimeToDisconnectPool);
         configuration.setCredentialExpiryTime(passwordExpiryTime);
         configuration.setMaxConnectionPoolSize(maxPoolSize);
+        configuration.setMaxPoolWaitTime(maxPoolWaitTime);
+        configuration.setStatementCacheSize(statementCacheSize);
     }
 
     @Override
@@ -184,6 +192,7 @@ public class ConnectionDetailSettingsForm extends ConfigurationEditorForm<Connec
         setSelection(encodingComboBox, CharsetOption.get(configuration.getCharset()));
         sessionManagementCheckBox.setSelected(configuration.isEnableSessionManagement());
         ddlFileBindingCheckBox.setSelected(configuration.isEnableDdlFileBinding());
+        metadataSnapshotCheckBox.setSelected(configuration.isEnableMetadataSnapshot());
         databaseLoggingCheckBox.setSelected(configuration.isEnableDatabaseLogging());
         autoConnectCheckBox.setSelected(configuration.isConnectAutomatically());
         restoreWorkspaceCheckBox.setSelected(configuration.isRestoreWorkspace());
@@ -193,6 +202,8 @@ public class ConnectionDetailSettingsForm extends ConfigurationEditorForm<Connec
         idleTimePoolTextField.setText(Integer.toString(configuration.getIdleTimeToDisconnectPool()));
         passwordExpiryTextField.setText(Integer.toString(configuration.getCredentialExpiryTime()));
         maxPoolSizeTextField.setText(Integer.toString(configuration.getMaxConnectionPoolSize()));
+        maxPoolWaitTimeTextField.setText(Integer.toString(configuration.getMaxPoolWaitTime()));
+        statementCacheSizeTextField.setText(Integer.toString(configuration.getStatementCacheSize()));
         alternativeStatementDelimiterTextField.setText(configuration.getAlternativeStatementDelimiter());
     }
 
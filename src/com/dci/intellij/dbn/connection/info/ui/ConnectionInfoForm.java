@@ -12,6 +12,8 @@ import com.dci.intellij.dbn.connection.DatabaseType;
 import com.dci.intellij.dbn.connection.DatabaseUrlType;
 import com.dci.intellij.dbn.connection.config.ConnectionDatabaseSettings;
 import com.dci.intellij.dbn.connection.info.ConnectionInfo;
+import com.dci.intellij.dbn.connection.jdbc.DBNConnection;
+import com.dci.intellij.dbn.connection.jdbc.DBNStatementCache;
 import com.dci.intellij.dbn.driver.DriverSource;
 import com.intellij.util.ui.UIUtil;
 import org.jetbrains.annotations.NotNull;
@@ -20,6 +22,7 @@ import javax.swing.*;
 import java.awt.*;
 import java.sql.Connection;
 import java.sql.SQLException;
+import java.util.List;
 
 import static com.dci.intellij.dbn.common.ui.GUIUtil.updateBorderTitleForeground;
 
@@ -48,6 +51,7 @@ public class ConnectionInfoForm extends DBNFormImpl<ConnectionInfoDialog>{
     private JTextField infoJdbcTypeTextField;
     private JTextField infoConnectionUrlTextField;
     private JTextField infoUserNameTextField;
+    private JTextField infoStatementCacheTextField;
     private JLabel setupNameLabel;
     private JLabel setupDriverLibraryLabel;
     private JLabel setupDriverLabel;
@@ -64,6 +68,7 @@ public class ConnectionInfoForm extends DBNFormImpl<ConnectionInfoDialog>{
     private JLabel infoJdbcTypeLabel;
     private JLabel infoConnectionUrlLabel;
     private JLabel infoUserNameLabel;
+    private JLabel infoStatementCacheLabel;
 
     public ConnectionInfoForm(ConnectionInfoDialog parentComponent, ConnectionHandler connectionHandler) {
         super(parentComponent);
@@ -77,6 +82,7 @@ public class ConnectionInfoForm extends DBNFormImpl<ConnectionInfoDialog>{
         setupPanel.setVisible(false);
         initHeaderPanel(connectionName, environmentType);
         initInfoPanel(connectionInfo);
+        initValueField(infoStatementCacheLabel, infoStatementCacheTextField, null, false);
     }
 
     private void initHeaderPanel(ConnectionHandler connectionHandler) {
@@ -98,6 +104,7 @@ public class ConnectionInfoForm extends DBNFormImpl<ConnectionInfoDialog>{
             ConnectionInfo connectionInfo = new ConnectionInfo(connection.getMetaData());
 
             initInfoPanel(connectionInfo);
+            initStatementCacheField(connectionHandler);
         } catch (SQLException e) {
             infoDatabaseTypeValueLabel.setText(DatabaseType.GENERIC.getName());
             infoDatabaseTypeValueLabel.setIcon(DatabaseType.GENERIC.getIcon());
@@ -110,6 +117,7 @@ public class ConnectionInfoForm extends DBNFormImpl<ConnectionInfoDialog>{
             initValueField(infoJdbcTypeLabel, infoJdbcTypeTextField, "-");
             initValueField(infoConnectionUrlLabel, infoConnectionUrlTextField, "-");
             initValueField(infoUserNameLabel, infoUserNameTextField, "-");
+            initValueField(infoStatementCacheLabel, infoStatementCacheTextField, "-");
             statusMessageLabel.setText(e.getMessage());
             statusMessageLabel.setIcon(Icons.EXEC_MESSAGES_ERROR);
         }
@@ -134,6 +142,24 @@ public class ConnectionInfoForm extends DBNFormImpl<ConnectionInfoDialog>{
         statusMessageLabel.setIcon(Icons.EXEC_MESSAGES_INFO);
     }
 
+    private void initStatementCacheField(ConnectionHandler connectionHandler) {
+        long hits = 0;
+        long misses = 0;
+        long evictions = 0;
+        int size = 0;
+        List<DBNConnection> connections = connectionHandler.getConnectionPool().getConnections();
+        for (DBNConnection connection : connections) {
+            DBNStatementCache statementCache = connection.getStatementCache();
+            hits += statementCache.getHitCount();
+            misses += statementCache.getMissCount();
+            evictions += statementCache.getEvictionCount();
+            size += statementCache.size();
+        }
+
+        String value = size + " statements (" + hits + " hits, " + misses + " misses, " + evictions + " evictions)";
+        initValueField(infoStatementCacheLabel, infoStatementCacheTextField, value);
+    }
+
     private void initSetupPanel(ConnectionHandler connectionHandler) {
         initValueField(setupNameLabel, setupNameTextField, connectionHandler.getName());
 
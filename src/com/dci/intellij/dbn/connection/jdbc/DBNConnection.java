@@ -3,7 +3,6 @@ package com.dci.intellij.dbn.connection.jdbc;
 import com.dci.intellij.dbn.common.LoggerFactory;
 import com.dci.intellij.dbn.common.ProjectRef;
 import com.dci.intellij.dbn.common.dispose.Failsafe;
-import com.dci.intellij.dbn.common.latent.MapLatent;
 import com.dci.intellij.dbn.common.util.EventUtil;
 import com.dci.intellij.dbn.common.util.TimeUtil;
 import com.dci.intellij.dbn.connection.ConnectionCache;
@@ -49,12 +48,7 @@ public class DBNConnection extends DBNConnectionBase {
 
 
     private final Set<DBNStatement> activeStatements = new HashSet<>();
-    private final MapLatent<String, DBNPreparedStatement, SQLException> cachedStatements =
-            MapLatent.create(sql -> {
-                DBNPreparedStatement preparedStatement = prepareStatement(sql);
-                preparedStatement.setCached(true);
-                return preparedStatement;
-            });
+    private final DBNStatementCache cachedStatements;
 
     private final IncrementalResourceStatusAdapter<DBNConnection> active =
             IncrementalResourceStatusAdapter.create(
@@ -113,22 +107,23 @@ public class DBNConnection extends DBNConnectionBase {
                 }
             };
 
-    public DBNConnection(Project project, Connection connection, String name, ConnectionType type, ConnectionId id, SessionId sessionId) {
+    public DBNConnection(Project project, Connection connection, String name, ConnectionType type, ConnectionId id, SessionId sessionId, int statementCacheSize) {
         super(connection);
         this.projectRef = ProjectRef.from(project);
         this.name = name;
         this.type = type;
         this.id = id;
         this.sessionId = sessionId;
+        this.cachedStatements = new DBNStatementCache(statementCacheSize, sql -> prepareStatement(sql));
     }
 
 
     public DBNPreparedStatement prepareStatementCached(String sql) throws SQLException {
-        try {
-            return cachedStatements.get(sql);
-        } finally {
-            //System.out.println(getName() + " - " + cachedStatements.hitCount());
-        }
+        return cachedStatements.get(sql);
+    }
+
+    public DBNStatementCache getStatementCache() {
+        return cachedStatements;
     }
 
     @Override
@@ -154,7 +149,7 @@ public class DBNConnection extends DBNConnectionBase {
         activeStatements.remove(statement);
         if (statement.isCached() && statement instanceof DBNPreparedStatement) {
             DBNPreparedStatement preparedStatement = (DBNPreparedStatement) statement;
-            cachedStatements.removeValue(preparedStatement);
+            cachedStatements.remove(preparedStatement);
         }
 
         updateLastAccess();
@@ -286,8 +281,7 @@ public class DBNConnection extends DBNConnectionBase {
     public void close() throws SQLException {
         try {
             updateLastAccess();
-            Collection<DBNPreparedStatement> statements = cachedStatements.values();
-            cachedStatements.reset();
+            Collection<DBNPreparedStatement> statements = cachedStatements.reset();
             ResourceUtil.close(statements);
             super.close();
         } finally {
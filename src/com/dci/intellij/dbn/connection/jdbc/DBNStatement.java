@@ -21,6 +21,7 @@ public class DBNStatement<T extends Statement> extends DBNResource<T> implements
     private final AtomicLong executeDuration = new AtomicLong(-1);
 
     private boolean cached;
+    private volatile boolean checkedOut;
 
     DBNStatement(T inner, DBNConnection connection) {
         super(inner, ResourceType.STATEMENT);
@@ -82,6 +83,14 @@ public class DBNStatement<T extends Statement> extends DBNResource<T> implements
         return WeakRef.get(resultSet);
     }
 
+    /**
+     * Whether the last result set produced by this statement is still being consumed
+     */
+    public boolean hasOpenResultSet() {
+        DBNResultSet resultSet = WeakRef.get(this.resultSet);
+        return resultSet != null && !resultSet.isClosed();
+    }
+
     public long getExecuteDuration() {
         return executeDuration.get();
     }
@@ -102,6 +111,17 @@ public class DBNStatement<T extends Statement> extends DBNResource<T> implements
         this.cached = cached;
     }
 
+    void setCheckedOut(boolean checkedOut) {
+        this.checkedOut = checkedOut;
+    }
+
+    /**
+     * Whether the statement was handed out and not executed yet, or its last result set is still being consumed
+     */
+    public boolean isInUse() {
+        return checkedOut || hasOpenResultSet();
+    }
+
     protected <R> R managed(ThrowableCallable<R, SQLException> callable) throws SQLException {
         DBNConnection connection = getConnection();
         connection.updateLastAccess();
@@ -118,6 +138,8 @@ public class DBNStatement<T extends Statement> extends DBNResource<T> implements
             ResourceUtil.close(DBNStatement.this);
             throw e;
         } finally {
+            // from here on the result set (if any) keeps the statement in use
+            checkedOut = false;
             connection.updateLastAccess();
             connection.set(ACTIVE, false);
         }
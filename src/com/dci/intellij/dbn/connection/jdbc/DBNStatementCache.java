@@ -0,0 +1,136 @@
+package com.dci.intellij.dbn.connection.jdbc;
+
+import com.dci.intellij.dbn.connection.ResourceUtil;
+import org.jetbrains.annotations.NotNull;
+
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Bounded (least recently used) cache of prepared statements keyed by sql text.
+ * Statements evicted from the cache are closed, releasing the server side cursors.
+ */
+public class DBNStatementCache {
+    private final Map<String, DBNPreparedStatement> statements = new LinkedHashMap<>(16, 0.75f, true);
+    private final StatementLoader loader;
+    private volatile int capacity;
+
+    private final AtomicLong hitCount = new AtomicLong();
+    private final AtomicLong missCount = new AtomicLong();
+    private final AtomicLong evictionCount = new AtomicLong();
+
+    DBNStatementCache(int capacity, StatementLoader loader) {
+        this.capacity = capacity;
+        this.loader = loader;
+    }
+
+    /**
+     * Returns the cached statement for the given sql, checked out to the caller until executed.
+     * If the cached statement is in use by another caller, or the cache is disabled (capacity 0),
+     * a new statement is returned which is not cached (closed with its result set).
+     */
+    @NotNull
+    public DBNPreparedStatement get(String sql) throws SQLException {
+        List<DBNPreparedStatement> evicted;
+        DBNPreparedStatement statement;
+        synchronized (this) {
+            statement = statements.get(sql);
+            if (statement != null && !statement.isInUse()) {
+                hitCount.incrementAndGet();
+                statement.setCheckedOut(true);
+                return statement;
+            }
+
+            missCount.incrementAndGet();
+            if (statement == null && capacity > 0) {
+                statement = loader.load(sql);
+                statement.setCached(true);
+                statement.setCheckedOut(true);
+                statements.put(sql, statement);
+                evicted = evict();
+            } else {
+                statement = null;
+                evicted = Collections.emptyList();
+            }
+        }
+
+        // close outside the lock (may involve a database roundtrip)
+        ResourceUtil.close(evicted);
+        return statement == null ? loader.load(sql) : statement;
+    }
+
+    /**
+     * Removes the least recently used statements exceeding the capacity.
+     * Statements in use (checked out or with open result sets) are skipped,
+     * including the statement just handed out to the caller.
+     */
+    private List<DBNPreparedStatement> evict() {
+        List<DBNPreparedStatement> evicted = null;
+        int excess = statements.size() - capacity;
+        if (excess > 0) {
+            Iterator<DBNPreparedStatement> iterator = statements.values().iterator();
+            while (excess > 0 && iterator.hasNext()) {
+                DBNPreparedStatement statement = iterator.next();
+                if (!statement.isInUse()) {
+                    iterator.remove();
+                    statement.setCached(false);
+                    if (evicted == null) evicted = new ArrayList<>();
+                    evicted.add(statement);
+                    evictionCount.incrementAndGet();
+                    excess--;
+                }
+            }
+        }
+        return evicted == null ? Collections.emptyList() : evicted;
+    }
+
+    synchronized void remove(DBNPreparedStatement statement) {
+        statements.values().removeIf(s -> s == statement);
+    }
+
+    synchronized List<DBNPreparedStatement> reset() {
+        List<DBNPreparedStatement> statements = new ArrayList<>(this.statements.values());
+        this.statements.clear();
+        return statements;
+    }
+
+    public void setCapacity(int capacity) {
+        List<DBNPreparedStatement> evicted;
+        synchronized (this) {
+            this.capacity = capacity;
+            evicted = evict();
+        }
+        ResourceUtil.close(evicted);
+    }
+
+    public int getCapacity() {
+        return capacity;
+    }
+
+    public synchronized int size() {
+        return statements.size();
+    }
+
+    public long getHitCount() {
+        return hitCount.get();
+    }
+
+    public long getMissCount() {
+        return missCount.get();
+    }
+
+    public long getEvictionCount() {
+        return evictionCount.get();
+    }
+
+    @FunctionalInterface
+    interface StatementLoader {
+        DBNPreparedStatement load(String sql) throws SQLException;
+    }
+}
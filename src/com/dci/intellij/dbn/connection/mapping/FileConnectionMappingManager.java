@@ -62,14 +62,12 @@ import com.intellij.openapi.vfs.VirtualFileMoveEvent;
 import com.intellij.openapi.vfs.VirtualFilePropertyEvent;
 import com.intellij.testFramework.LightVirtualFile;
 import com.intellij.util.IncorrectOperationException;
-import gnu.trove.THashSet;
 import org.jdom.Element;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
 import java.util.ArrayList;
 import java.util.List;
-import java.util.Set;
 
 import static com.dci.intellij.dbn.common.action.UserDataKeys.*;
 import static com.dci.intellij.dbn.common.message.MessageCallback.conditional;
@@ -83,7 +81,7 @@ import static com.dci.intellij.dbn.common.util.MessageUtil.showWarningDialog;
 public class FileConnectionMappingManager extends AbstractProjectComponent implements ProjectComponent, PersistentStateComponent<Element> {
     public static final String COMPONENT_NAME = "DBNavigator.Project.FileConnectionMappingManager";
 
-    private Set<FileConnectionMapping> mappings = new THashSet<>();
+    private final FileConnectionMappingRegistry mappings = new FileConnectionMappingRegistry();
 
     private FileConnectionMappingManager(Project project) {
         super(project);
@@ -124,8 +122,8 @@ public class FileConnectionMappingManager extends AbstractProjectComponent imple
                 return true;
             } else {
                 if (mapping.getConnectionId() == null || mapping.getConnectionId() != connectionId) {
-                    mapping.setConnectionId(connectionId);
-                    mapping.setSessionId(SessionId.MAIN);
+                    mappings.setConnectionId(mapping, connectionId);
+                    mappings.setSessionId(mapping, SessionId.MAIN);
                     if (connectionHandler != null) {
                         // overwrite current schema only if the existing
                         // selection is not a valid schema for the given connection
@@ -181,9 +179,9 @@ public class FileConnectionMappingManager extends AbstractProjectComponent imple
             FileConnectionMapping mapping = lookupMapping(virtualFile);
             if (mapping != null) {
                 if (session == null) {
-                    mapping.setSessionId(null);
+                    mappings.setSessionId(mapping, null);
                 } else if (session.getId() != mapping.getSessionId()){
-                    mapping.setSessionId(session.getId());
+                    mappings.setSessionId(mapping, session.getId());
                 }
 
                 return true;
@@ -372,18 +370,14 @@ public class FileConnectionMappingManager extends AbstractProjectComponent imple
     }
 
     private FileConnectionMapping lookupMapping(String fileUrl) {
-        for (FileConnectionMapping mapping : mappings) {
-            if (fileUrl.equals(mapping.getFileUrl())) {
-                return mapping;
-            }
-        }
-        return null;
+        return mappings.get(fileUrl);
     }
 
     private void removeMapping(VirtualFile virtualFile) {
-        FileConnectionMapping mapping = lookupMapping(virtualFile);
-        if (mapping != null) {
-            mappings.remove(mapping);
+        if (virtualFile.isDirectory()) {
+            mappings.removeDirectory(virtualFile.getUrl());
+        } else {
+            mappings.remove(virtualFile.getUrl());
         }
     }
 
@@ -391,13 +385,10 @@ public class FileConnectionMappingManager extends AbstractProjectComponent imple
         List<VirtualFile> list = new ArrayList<>();
 
         LocalFileSystem localFileSystem = LocalFileSystem.getInstance();
-        for (FileConnectionMapping mapping : mappings) {
-            ConnectionId connectionId = mapping.getConnectionId();
-            if (connectionHandler.getConnectionId() == connectionId) {
-                VirtualFile file = localFileSystem.findFileByPath(mapping.getFileUrl());
-                if (file != null) {
-                    list.add(file);
-                }
+        for (FileConnectionMapping mapping : mappings.getByConnection(connectionHandler.getConnectionId())) {
+            VirtualFile file = localFileSystem.findFileByPath(mapping.getFileUrl());
+            if (file != null) {
+                list.add(file);
             }
         }
         return list;
@@ -821,22 +812,24 @@ public class FileConnectionMappingManager extends AbstractProjectComponent imple
         @Override
         public void fileMoved(@NotNull VirtualFileMoveEvent event) {
             String oldFileUrl = event.getOldParent().getUrl() + "/" + event.getFileName();
-            FileConnectionMapping fileConnectionMapping = lookupMapping(oldFileUrl);
-            if (fileConnectionMapping != null) {
-                fileConnectionMapping.setFileUrl(event.getFile().getUrl());
-            }
+            renameMappings(event.getFile(), oldFileUrl);
         }
 
         @Override
         public void propertyChanged(@NotNull VirtualFilePropertyEvent event) {
             VirtualFile file = event.getFile();
             VirtualFile parent = file.getParent();
-            if (file.isInLocalFileSystem() && parent != null) {
+            if (file.isInLocalFileSystem() && parent != null && VirtualFile.PROP_NAME.equals(event.getPropertyName())) {
                 String oldFileUrl = parent.getUrl() + "/" + event.getOldValue();
-                FileConnectionMapping fileConnectionMapping = lookupMapping(oldFileUrl);
-                if (fileConnectionMapping != null) {
-                    fileConnectionMapping.setFileUrl(file.getUrl());
-                }
+                renameMappings(file, oldFileUrl);
+            }
+        }
+
+        private void renameMappings(VirtualFile file, String oldFileUrl) {
+            if (file.isDirectory()) {
+                mappings.renameDirectory(oldFileUrl, file.getUrl());
+            } else {
+                mappings.rename(oldFileUrl, file.getUrl());
             }
         }
     };
@@ -850,10 +843,9 @@ public class FileConnectionMappingManager extends AbstractProjectComponent imple
 
         @Override
         public void sessionDeleted(DatabaseSession session) {
-            for (FileConnectionMapping mapping : mappings) {
-                if (session.getId() == mapping.getSessionId()) {
-                    mapping.setSessionId(SessionId.MAIN);
-                }
+            List<FileConnectionMapping> sessionMappings = new ArrayList<>(mappings.getBySession(session.getId()));
+            for (FileConnectionMapping mapping : sessionMappings) {
+                mappings.setSessionId(mapping, SessionId.MAIN);
             }
         }
 
@@ -883,7 +875,7 @@ public class FileConnectionMappingManager extends AbstractProjectComponent imple
     @Override
     public Element getState() {
         Element element = new Element("state");
-        for (FileConnectionMapping mapping : mappings) {
+        for (FileConnectionMapping mapping : mappings.getAll()) {
             Element mappingElement = new Element("mapping");
             mapping.writeState(mappingElement);
             element.addContent(mappingElement);
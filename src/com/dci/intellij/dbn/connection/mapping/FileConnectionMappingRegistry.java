@@ -0,0 +1,152 @@
+package com.dci.intellij.dbn.connection.mapping;
+
+import com.dci.intellij.dbn.connection.ConnectionId;
+import com.dci.intellij.dbn.connection.SessionId;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * File connection mappings keyed by file url, with secondary indexes by connection and by session.
+ * Lookups are lock free, changes of the indexed attributes (url, connection, session) must go through
+ * the registry for the indexes to stay consistent.
+ */
+class FileConnectionMappingRegistry {
+    private final Map<String, FileConnectionMapping> mappings = new ConcurrentHashMap<>();
+    private final Map<ConnectionId, Set<FileConnectionMapping>> connectionMappings = new ConcurrentHashMap<>();
+    private final Map<SessionId, Set<FileConnectionMapping>> sessionMappings = new ConcurrentHashMap<>();
+
+    @Nullable
+    FileConnectionMapping get(String fileUrl) {
+        return mappings.get(fileUrl);
+    }
+
+    @NotNull
+    Collection<FileConnectionMapping> getAll() {
+        return mappings.values();
+    }
+
+    @NotNull
+    Collection<FileConnectionMapping> getByConnection(ConnectionId connectionId) {
+        return getIndexed(connectionMappings, connectionId);
+    }
+
+    @NotNull
+    Collection<FileConnectionMapping> getBySession(SessionId sessionId) {
+        return getIndexed(sessionMappings, sessionId);
+    }
+
+    synchronized void add(FileConnectionMapping mapping) {
+        FileConnectionMapping oldMapping = mappings.put(mapping.getFileUrl(), mapping);
+        if (oldMapping != null) {
+            unindex(oldMapping);
+        }
+        index(mapping);
+    }
+
+    synchronized void remove(String fileUrl) {
+        FileConnectionMapping mapping = mappings.remove(fileUrl);
+        if (mapping != null) {
+            unindex(mapping);
+        }
+    }
+
+    /**
+     * Removes the mappings of all files under the given directory url
+     */
+    synchronized void removeDirectory(String directoryUrl) {
+        String prefix = directoryUrl + "/";
+        for (String fileUrl : new ArrayList<>(mappings.keySet())) {
+            if (fileUrl.startsWith(prefix)) {
+                remove(fileUrl);
+            }
+        }
+    }
+
+    synchronized void clear() {
+        mappings.clear();
+        connectionMappings.clear();
+        sessionMappings.clear();
+    }
+
+    synchronized void setConnectionId(FileConnectionMapping mapping, ConnectionId connectionId) {
+        if (mapping.getConnectionId() != connectionId) {
+            removeIndexed(connectionMappings, mapping.getConnectionId(), mapping);
+            mapping.setConnectionId(connectionId);
+            addIndexed(connectionMappings, connectionId, mapping);
+        }
+    }
+
+    synchronized void setSessionId(FileConnectionMapping mapping, SessionId sessionId) {
+        if (mapping.getSessionId() != sessionId) {
+            removeIndexed(sessionMappings, mapping.getSessionId(), mapping);
+            mapping.setSessionId(sessionId);
+            addIndexed(sessionMappings, sessionId, mapping);
+        }
+    }
+
+    /**
+     * Moves the mapping of the given file url (if any) to the new url
+     */
+    synchronized void rename(String oldFileUrl, String newFileUrl) {
+        FileConnectionMapping mapping = mappings.get(oldFileUrl);
+        if (mapping != null && !Objects.equals(oldFileUrl, newFileUrl)) {
+            // mappings hash by url, so the mapping is taken out of the indexes while its url changes
+            remove(oldFileUrl);
+            mapping.setFileUrl(newFileUrl);
+            add(mapping);
+        }
+    }
+
+    /**
+     * Moves the mappings of all files under the given directory url to the new directory url
+     */
+    synchronized void renameDirectory(String oldDirectoryUrl, String newDirectoryUrl) {
+        String oldPrefix = oldDirectoryUrl + "/";
+        for (String fileUrl : new ArrayList<>(mappings.keySet())) {
+            if (fileUrl.startsWith(oldPrefix)) {
+                rename(fileUrl, newDirectoryUrl + fileUrl.substring(oldDirectoryUrl.length()));
+            }
+        }
+    }
+
+    private void index(FileConnectionMapping mapping) {
+        addIndexed(connectionMappings, mapping.getConnectionId(), mapping);
+        addIndexed(sessionMappings, mapping.getSessionId(), mapping);
+    }
+
+    private void unindex(FileConnectionMapping mapping) {
+        removeIndexed(connectionMappings, mapping.getConnectionId(), mapping);
+        removeIndexed(sessionMappings, mapping.getSessionId(), mapping);
+    }
+
+    private static <K> Collection<FileConnectionMapping> getIndexed(Map<K, Set<FileConnectionMapping>> index, K key) {
+        Set<FileConnectionMapping> mappings = key == null ? null : index.get(key);
+        return mappings == null ? Collections.emptyList() : mappings;
+    }
+
+    private static <K> void addIndexed(Map<K, Set<FileConnectionMapping>> index, K key, FileConnectionMapping mapping) {
+        if (key != null) {
+            index.computeIfAbsent(key, k -> ConcurrentHashMap.newKeySet()).add(mapping);
+        }
+    }
+
+    private static <K> void removeIndexed(Map<K, Set<FileConnectionMapping>> index, K key, FileConnectionMapping mapping) {
+        if (key != null) {
+            Set<FileConnectionMapping> mappings = index.get(key);
+            if (mappings != null) {
+                mappings.remove(mapping);
+                if (mappings.isEmpty()) {
+                    index.remove(key);
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,28 @@
+package com.dci.intellij.dbn.data.editor.text.actions;
+
+import com.dci.intellij.dbn.common.Icons;
+import com.dci.intellij.dbn.data.editor.text.ui.TextEditorForm;
+import com.intellij.openapi.actionSystem.AnActionEvent;
+import com.intellij.openapi.project.DumbAwareAction;
+import org.jetbrains.annotations.NotNull;
+
+public class TextContentPageAction extends DumbAwareAction {
+    private TextEditorForm editorForm;
+    private boolean next;
+
+    public TextContentPageAction(TextEditorForm editorForm, boolean next) {
+        super(next ? "Next Page" : "Previous Page", null, next ? Icons.DATA_EDITOR_NEXT_RECORD : Icons.DATA_EDITOR_PREVIOUS_RECORD);
+        this.editorForm = editorForm;
+        this.next = next;
+    }
+
+    @Override
+    public void actionPerformed(@NotNull AnActionEvent e) {
+        editorForm.showPage(next);
+    }
+
+    @Override
+    public void update(@NotNull AnActionEvent e) {
+        e.getPresentation().setEnabled(editorForm.hasPage(next));
+    }
+}
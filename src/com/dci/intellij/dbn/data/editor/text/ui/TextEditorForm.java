@@ -1,5 +1,7 @@
 package com.dci.intellij.dbn.data.editor.text.ui;
 
+import com.dci.intellij.dbn.common.thread.Progress;
+import com.dci.intellij.dbn.common.thread.Write;
 import com.dci.intellij.dbn.common.ui.DBNFormImpl;
 import com.dci.intellij.dbn.common.util.ActionUtil;
 import com.dci.intellij.dbn.common.util.CommonUtil;
@@ -9,8 +11,10 @@ import com.dci.intellij.dbn.common.util.MessageUtil;
 import com.dci.intellij.dbn.common.util.StringUtil;
 import com.dci.intellij.dbn.data.editor.text.TextContentType;
 import com.dci.intellij.dbn.data.editor.text.TextEditorAdapter;
+import com.dci.intellij.dbn.data.editor.text.actions.TextContentPageAction;
 import com.dci.intellij.dbn.data.editor.text.actions.TextContentTypeComboBoxAction;
 import com.dci.intellij.dbn.data.editor.ui.UserValueHolder;
+import com.dci.intellij.dbn.data.value.LargeObjectPager;
 import com.dci.intellij.dbn.data.value.LargeObjectValue;
 import com.intellij.openapi.actionSystem.ActionToolbar;
 import com.intellij.openapi.editor.Document;
@@ -35,6 +39,8 @@ import java.awt.*;
 import java.sql.SQLException;
 
 public class TextEditorForm extends DBNFormImpl<TextEditorDialog> {
+    private static final long PAGED_CONTENT_THRESHOLD = 4L * LargeObjectPager.PAGE_SIZE;
+
     private JPanel mainPanel;
     private JPanel editorPanel;
     private JPanel actionsPanel;
@@ -47,6 +53,10 @@ public class TextEditorForm extends DBNFormImpl<TextEditorDialog> {
     private TextEditorAdapter textEditorAdapter;
     private DocumentListener documentListener;
 
+    // large contents are shown read-only, one page at a time
+    private LargeObjectPager pager;
+    private JLabel pageInfoLabel;
+
 
     @NotNull
     @Override
@@ -71,6 +81,18 @@ public class TextEditorForm extends DBNFormImpl<TextEditorDialog> {
         actionsPanel.add(actionToolbar.getComponent(), BorderLayout.WEST);
 
         text = StringUtil.removeCharacter(CommonUtil.nvl(readUserValue(), ""), '\r');
+        if (pager != null) {
+            ActionToolbar pageToolbar = ActionUtil.createActionToolbar(
+                    "DBNavigator.Place.DataEditor.LobContentPaging", true,
+                    new TextContentPageAction(this, false),
+                    new TextContentPageAction(this, true));
+            pageInfoLabel = new JLabel();
+            JPanel pagePanel = new JPanel(new BorderLayout());
+            pagePanel.add(pageInfoLabel, BorderLayout.WEST);
+            pagePanel.add(pageToolbar.getComponent(), BorderLayout.EAST);
+            actionsPanel.add(pagePanel, BorderLayout.EAST);
+            updatePageInfo();
+        }
         initEditor();
     }
 
@@ -101,8 +123,10 @@ public class TextEditorForm extends DBNFormImpl<TextEditorDialog> {
             document = EditorFactory.getInstance().createDocument(text);
         }
 
-        document.addDocumentListener(documentListener);
-        editor = (EditorEx) EditorFactory.getInstance().createEditor(document, project, fileType, false);
+        if (pager == null) {
+            document.addDocumentListener(documentListener);
+        }
+        editor = (EditorEx) EditorFactory.getInstance().createEditor(document, project, fileType, pager != null);
         editor.setEmbeddedIntoDialogWrapper(true);
         editor.getContentComponent().setFocusTraversalKeysEnabled(false);
 
@@ -137,6 +161,10 @@ public class TextEditorForm extends DBNFormImpl<TextEditorDialog> {
                 return (String) userValue;
             } else if (userValue instanceof LargeObjectValue) {
                 LargeObjectValue largeObjectValue = (LargeObjectValue) userValue;
+                if (largeObjectValue.size() > PAGED_CONTENT_THRESHOLD) {
+                    pager = new LargeObjectPager(largeObjectValue);
+                    return pager.readPage(0);
+                }
                 return largeObjectValue.read();
             }
         } catch (SQLException e) {
@@ -145,6 +173,35 @@ public class TextEditorForm extends DBNFormImpl<TextEditorDialog> {
         return null;
     }
 
+    public boolean hasPage(boolean next) {
+        return pager != null && (next ? pager.hasNextPage() : pager.hasPreviousPage());
+    }
+
+    public void showPage(boolean next) {
+        if (hasPage(next)) {
+            Project project = getProject();
+            int page = pager.getPage() + (next ? 1 : -1);
+            Progress.modal(project, "Loading content", false, (progress) -> {
+                try {
+                    String content = StringUtil.removeCharacter(pager.readPage(page), '\r');
+                    Write.run(() -> {
+                        editor.getDocument().setText(content);
+                        editor.getScrollingModel().scrollVertically(0);
+                        updatePageInfo();
+                    });
+                } catch (SQLException e) {
+                    MessageUtil.showErrorDialog(project, "Could not load LOB content from database.", e);
+                }
+            });
+        }
+    }
+
+    private void updatePageInfo() {
+        pageInfoLabel.setText(
+                "Page " + (pager.getPage() + 1) + " of " + pager.getPageCount() +
+                " (" + pager.getPageStart() + " - " + pager.getPageEnd() + " of " + pager.getSize() + ", read-only)  ");
+    }
+
     @NotNull
     public String getText() {
         return editor.getDocument().getText();
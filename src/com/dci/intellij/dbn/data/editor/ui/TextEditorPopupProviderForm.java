@@ -10,6 +10,7 @@ import com.dci.intellij.dbn.common.util.CommonUtil;
 import com.dci.intellij.dbn.common.util.MessageUtil;
 import com.dci.intellij.dbn.common.util.TextAttributesUtil;
 import com.dci.intellij.dbn.data.grid.color.DataGridTextAttributesKeys;
+import com.dci.intellij.dbn.data.preview.LargeValuePreviewPopup;
 import com.dci.intellij.dbn.data.value.LargeObjectValue;
 import com.intellij.openapi.actionSystem.ActionToolbar;
 import com.intellij.openapi.actionSystem.AnAction;
@@ -96,6 +97,7 @@ public class TextEditorPopupProviderForm extends TextFieldPopupProviderForm {
     public JBPopup createPopup() {
         JTextField textField = getTextField();
         String text = "";
+        boolean partiallyLoaded = false;
         UserValueHolder userValueHolder = getEditorComponent().getUserValueHolder();
         if (textField.isEditable()) {
             text = textField.getText();
@@ -104,9 +106,11 @@ public class TextEditorPopupProviderForm extends TextFieldPopupProviderForm {
             if (userValue instanceof String) {
                 text = (String) userValue;
             } else if (userValue instanceof LargeObjectValue) {
+                // the popup is opened on the dispatch thread, large contents are left to the text editor
                 LargeObjectValue largeObjectValue = (LargeObjectValue) userValue;
                 try {
-                    text = CommonUtil.nvl(largeObjectValue.read(), "");
+                    text = CommonUtil.nvl(largeObjectValue.read(LargeValuePreviewPopup.MAX_SIZE), "");
+                    partiallyLoaded = largeObjectValue.size() > LargeValuePreviewPopup.MAX_SIZE;
                 } catch (SQLException e) {
                     MessageUtil.showErrorDialog(getProject(), e.getMessage(), e);
                     return null;
@@ -115,6 +119,7 @@ public class TextEditorPopupProviderForm extends TextFieldPopupProviderForm {
         }
 
         editorTextArea.setText(text);
+        editorTextArea.setEditable(!partiallyLoaded);
         changed = false;
         if (textField.isEditable()) editorTextArea.setCaretPosition(textField.getCaretPosition());
         editorTextArea.setSelectionStart(textField.getSelectionStart());
@@ -126,6 +131,9 @@ public class TextEditorPopupProviderForm extends TextFieldPopupProviderForm {
         popupBuilder.setRequestFocus(true);
         popupBuilder.setResizable(true);
         popupBuilder.setDimensionServiceKey(getProject(), "TextEditor." + userValueHolder.getName(), false);
+        if (partiallyLoaded) {
+            popupBuilder.setAdText(LargeValuePreviewPopup.MAX_SIZE + " characters (partially loaded). Open the value in the text editor to see and edit the entire content");
+        }
         return popupBuilder.createPopup();
     }
 
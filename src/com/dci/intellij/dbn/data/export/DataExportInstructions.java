@@ -21,6 +21,7 @@ public class DataExportInstructions implements PersistentStateElement, Cloneable
     private DataExportFormat format = DataExportFormat.EXCEL;
     private String baseName;
     private Charset charset = Charset.defaultCharset();
+    private int fetchSize = 1000;
 
     public boolean createHeader() {
         return createHeader;
@@ -114,9 +115,18 @@ public class DataExportInstructions implements PersistentStateElement, Cloneable
         this.charset = charset;
     }
 
+    public int getFetchSize() {
+        return fetchSize;
+    }
+
+    public void setFetchSize(int fetchSize) {
+        this.fetchSize = fetchSize;
+    }
+
     public enum Scope{
         GLOBAL,
-        SELECTION
+        SELECTION,
+        DATABASE
     }
 
     public enum Destination{
@@ -147,6 +157,7 @@ public class DataExportInstructions implements PersistentStateElement, Cloneable
         setString(child, "destination", destination.name());
         setString(child, "format", format.name());
         setString(child, "charset", charset.name());
+        setInteger(child, "fetch-size", fetchSize);
     }
 
     @Override
@@ -163,6 +174,7 @@ public class DataExportInstructions implements PersistentStateElement, Cloneable
             destination = Destination.valueOf(getString(child, "destination", destination.name()));
             format = DataExportFormat.valueOf(getString(child, "format", format.name()));
             charset = Charset.forName(getString(element, "charset", charset.name()));
+            fetchSize = getInteger(child, "fetch-size", fetchSize);
         }
     }
 }
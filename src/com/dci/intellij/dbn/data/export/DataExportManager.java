@@ -6,6 +6,10 @@ import com.dci.intellij.dbn.common.dispose.Failsafe;
 import com.dci.intellij.dbn.common.notification.NotificationGroup;
 import com.dci.intellij.dbn.common.util.MessageUtil;
 import com.dci.intellij.dbn.connection.ConnectionHandler;
+import com.dci.intellij.dbn.connection.PooledConnection;
+import com.dci.intellij.dbn.connection.ResourceUtil;
+import com.dci.intellij.dbn.connection.jdbc.DBNResultSet;
+import com.dci.intellij.dbn.connection.jdbc.DBNStatement;
 import com.dci.intellij.dbn.data.export.processor.CSVDataExportProcessor;
 import com.dci.intellij.dbn.data.export.processor.CustomDataExportProcessor;
 import com.dci.intellij.dbn.data.export.processor.DataExportProcessor;
@@ -15,6 +19,9 @@ import com.dci.intellij.dbn.data.export.processor.HTMLDataExportProcessor;
 import com.dci.intellij.dbn.data.export.processor.SQLDataExportProcessor;
 import com.dci.intellij.dbn.data.export.processor.XMLDataExportProcessor;
 import com.dci.intellij.dbn.data.grid.ui.table.sortable.SortableTable;
+import com.dci.intellij.dbn.data.sorting.SortingState;
+import com.dci.intellij.dbn.editor.data.filter.DatasetFilterManager;
+import com.dci.intellij.dbn.object.DBDataset;
 import com.intellij.openapi.components.PersistentStateComponent;
 import com.intellij.openapi.components.State;
 import com.intellij.openapi.components.Storage;
@@ -27,6 +34,8 @@ import org.jetbrains.annotations.Nullable;
 import java.awt.*;
 import java.io.File;
 import java.io.IOException;
+import java.sql.ResultSet;
+import java.sql.SQLException;
 
 @State(
     name = DataExportManager.COMPONENT_NAME,
@@ -68,64 +77,105 @@ public class DataExportManager extends AbstractProjectComponent implements Persi
             DataExportInstructions instructions,
             ConnectionHandler connectionHandler,
             @NotNull Runnable successCallback) {
-        Project project = getProject();
         boolean isSelection = instructions.getScope() == DataExportInstructions.Scope.SELECTION;
         DataExportModel exportModel = new SortableTableExportModel(isSelection, table);
         try {
-            DataExportProcessor processor = getExportProcessor(instructions.getFormat());
-            if (processor != null) {
-                processor.export(exportModel, instructions, connectionHandler);
-                DataExportInstructions.Destination destination = instructions.getDestination();
-                if (destination == DataExportInstructions.Destination.CLIPBOARD) {
-                    successCallback.run();
-                    MessageUtil.showInfoDialog(
-                            project,
-                            "Export info",
-                            "Content exported to clipboard",
-                            new String[]{"OK"}, 0, null);
+            performExport(exportModel, instructions, connectionHandler, successCallback);
+        } catch (DataExportException e) {
+            MessageUtil.showErrorDialog(getProject(), "Error performing data export.", e);
+        }
+    }
+
+    /**
+     * Exports the entire content of the dataset by streaming the records straight from the database
+     * (bypassing the data grid model). Only the record being exported is held in memory.
+     */
+    public void exportDatasetContent(
+            DBDataset dataset,
+            DataExportInstructions instructions,
+            ConnectionHandler connectionHandler,
+            @NotNull Runnable successCallback) {
+        try {
+            PooledConnection.run(true, connectionHandler, connection -> {
+                DBNStatement statement = null;
+                DBNResultSet resultSet = null;
+                try {
+                    statement = connection.createStatement(ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY);
+                    statement.setFetchSize(instructions.getFetchSize());
+
+                    String selectStatement = DatasetFilterManager.EMPTY_FILTER.createSelectStatement(dataset, new SortingState());
+                    resultSet = statement.executeQuery(selectStatement);
+
+                    DataExportModel exportModel = new ResultSetExportModel(connectionHandler, resultSet, dataset.getName());
+                    performExport(exportModel, instructions, connectionHandler, successCallback);
+                } catch (DataExportException e) {
+                    MessageUtil.showErrorDialog(getProject(), "Error performing data export.", e);
+                } finally {
+                    ResourceUtil.close(resultSet);
+                    ResourceUtil.close(statement);
+                }
+            });
+        } catch (SQLException e) {
+            MessageUtil.showErrorDialog(getProject(), "Error performing data export.", e);
+        }
+    }
+
+    private void performExport(
+            DataExportModel exportModel,
+            DataExportInstructions instructions,
+            ConnectionHandler connectionHandler,
+            @NotNull Runnable successCallback) throws DataExportException {
+        Project project = getProject();
+        DataExportProcessor processor = getExportProcessor(instructions.getFormat());
+        if (processor != null) {
+            processor.export(exportModel, instructions, connectionHandler);
+            DataExportInstructions.Destination destination = instructions.getDestination();
+            if (destination == DataExportInstructions.Destination.CLIPBOARD) {
+                successCallback.run();
+                MessageUtil.showInfoDialog(
+                        project,
+                        "Export info",
+                        "Content exported to clipboard",
+                        new String[]{"OK"}, 0, null);
 
 /*
-                            sendInfoNotification(
-                            NotificationGroup.DATA,
-                            "Data content exported to clipboard.");
+                        sendInfoNotification(
+                        NotificationGroup.DATA,
+                        "Data content exported to clipboard.");
 */
 
-                } else if (destination == DataExportInstructions.Destination.FILE) {
-                    final File file = instructions.getFile();
-                    if (Desktop.isDesktopSupported()) {
-                        //FileSystemView view = FileSystemView.getFileSystemView();
-                        //Icon icon = view.getSystemIcon(file);
-
-                        MessageUtil.showInfoDialog(
-                                project,
-                                "Export info",
-                                "Content exported to file " + file.getPath(),
-                                new String[]{"OK", "Open File"}, 0,
-                                (option) -> {
-                                    successCallback.run();
-                                    if (option == 1) {
-                                        try {
-                                            Desktop.getDesktop().open(file);
-                                        } catch (IOException e) {
-                                            MessageUtil.showErrorDialog(
-                                                    project,
-                                                    "Open file",
-                                                    "Could not open file " + file.getPath() + ".\n" +
-                                                            "The file type is most probably not associated with any program."
-                                            );
-                                        }
+            } else if (destination == DataExportInstructions.Destination.FILE) {
+                final File file = instructions.getFile();
+                if (Desktop.isDesktopSupported()) {
+                    //FileSystemView view = FileSystemView.getFileSystemView();
+                    //Icon icon = view.getSystemIcon(file);
+
+                    MessageUtil.showInfoDialog(
+                            project,
+                            "Export info",
+                            "Content exported to file " + file.getPath(),
+                            new String[]{"OK", "Open File"}, 0,
+                            (option) -> {
+                                successCallback.run();
+                                if (option == 1) {
+                                    try {
+                                        Desktop.getDesktop().open(file);
+                                    } catch (IOException e) {
+                                        MessageUtil.showErrorDialog(
+                                                project,
+                                                "Open file",
+                                                "Could not open file " + file.getPath() + ".\n" +
+                                                        "The file type is most probably not associated with any program."
+                                        );
                                     }
-                                });
-                    } else {
-                        sendInfoNotification(
-                                NotificationGroup.DATA,
-                                "Content exported to file: {0}", file.getPath());
-                    }
+                                }
+                            });
+                } else {
+                    sendInfoNotification(
+                            NotificationGroup.DATA,
+                            "Content exported to file: {0}", file.getPath());
                 }
             }
-
-        } catch (DataExportException e) {
-            MessageUtil.showErrorDialog(project, "Error performing data export.", e);
         }
     }
 
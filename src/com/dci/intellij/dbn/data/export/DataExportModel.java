@@ -7,6 +7,15 @@ public interface DataExportModel {
     String getTableName();
     int getColumnCount();
     int getRowCount();
+
+    /**
+     * Checks if the row at the given index exists. Streaming models may only support
+     * sequential (forward) row access and load the row on demand when this is invoked.
+     */
+    default boolean hasRow(int rowIndex) throws DataExportException {
+        return rowIndex < getRowCount();
+    }
+
     Object getValue(int rowIndex, int columnIndex);
     String getColumnName(int columnIndex);
     GenericDataType getGenericDataType(int columnIndex);
@@ -0,0 +1,121 @@
+package com.dci.intellij.dbn.data.export;
+
+import com.dci.intellij.dbn.common.load.ProgressMonitor;
+import com.dci.intellij.dbn.connection.ConnectionHandler;
+import com.dci.intellij.dbn.connection.jdbc.DBNResultSet;
+import com.dci.intellij.dbn.data.model.resultSet.ResultSetColumnInfo;
+import com.dci.intellij.dbn.data.type.DBNativeDataType;
+import com.dci.intellij.dbn.data.type.GenericDataType;
+import com.intellij.openapi.project.Project;
+import org.jetbrains.annotations.NotNull;
+
+import java.sql.SQLException;
+
+/**
+ * Forward-only export model reading the rows straight from the {@link DBNResultSet}.
+ * Only the current row is held in memory, hence rows have to be accessed sequentially.
+ */
+public class ResultSetExportModel implements DataExportModel {
+    private static final int PROGRESS_INTERVAL = 1000;
+
+    private final Project project;
+    private final String tableName;
+    private final DBNResultSet resultSet;
+    private final ResultSetColumnInfo[] columnInfos;
+    private final Object[] rowValues;
+
+    private int rowIndex = -1;
+    private boolean exhausted;
+
+    public ResultSetExportModel(@NotNull ConnectionHandler connectionHandler, @NotNull DBNResultSet resultSet, String tableName) throws SQLException {
+        this.project = connectionHandler.getProject();
+        this.tableName = tableName;
+        this.resultSet = resultSet;
+
+        int columnCount = resultSet.getMetaData().getColumnCount();
+        columnInfos = new ResultSetColumnInfo[columnCount];
+        for (int i = 0; i < columnCount; i++) {
+            columnInfos[i] = new ResultSetColumnInfo(connectionHandler, resultSet, i);
+        }
+        rowValues = new Object[columnCount];
+    }
+
+    @Override
+    public Project getProject() {
+        return project;
+    }
+
+    @Override
+    public String getTableName() {
+        return tableName;
+    }
+
+    @Override
+    public int getColumnCount() {
+        return columnInfos.length;
+    }
+
+    /**
+     * The total row count is not known upfront. Returns the number of rows read so far
+     */
+    @Override
+    public int getRowCount() {
+        return rowIndex + 1;
+    }
+
+    @Override
+    public boolean hasRow(int rowIndex) throws DataExportException {
+        if (rowIndex == this.rowIndex) {
+            return true;
+        }
+
+        if (rowIndex != this.rowIndex + 1) {
+            throw new IllegalStateException("Result set export only supports sequential row access (requested row " + rowIndex + ", current row " + this.rowIndex + ")");
+        }
+
+        if (exhausted) {
+            return false;
+        }
+
+        try {
+            if (resultSet.next()) {
+                for (int i = 0; i < columnInfos.length; i++) {
+                    ResultSetColumnInfo columnInfo = columnInfos[i];
+                    rowValues[i] = columnInfo.getDataType().getValueFromResultSet(resultSet, columnInfo.getResultSetColumnIndex());
+                }
+                this.rowIndex = rowIndex;
+                if (rowIndex > 0 && rowIndex % PROGRESS_INTERVAL == 0) {
+                    ProgressMonitor.checkCancelled();
+                    ProgressMonitor.setSubtaskDescription("Exported " + rowIndex + " records");
+                }
+                return true;
+            } else {
+                exhausted = true;
+                return false;
+            }
+        } catch (SQLException e) {
+            throw new DataExportException("Failed to read record " + (rowIndex + 1) + " from database. Cause: " + e.getMessage());
+        }
+    }
+
+    @Override
+    public Object getValue(int rowIndex, int columnIndex) {
+        if (rowIndex != this.rowIndex) {
+            throw new IllegalStateException("Result set export only supports access to the current row (requested row " + rowIndex + ", current row " + this.rowIndex + ")");
+        }
+        return rowValues[columnIndex];
+    }
+
+    @Override
+    public String getColumnName(int columnIndex) {
+        return columnInfos[columnIndex].getName();
+    }
+
+    @Override
+    public GenericDataType getGenericDataType(int columnIndex) {
+        DBNativeDataType nativeDataType = columnInfos[columnIndex].getDataType().getNativeDataType();
+        return nativeDataType == null ?
+                GenericDataType.LITERAL :
+                nativeDataType.getGenericDataType();
+    }
+}
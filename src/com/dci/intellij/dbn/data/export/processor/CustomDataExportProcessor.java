@@ -40,83 +40,83 @@ public class CustomDataExportProcessor extends DataExportProcessor{
 
     @Override
     public void performExport(DataExportModel model, DataExportInstructions instructions, ConnectionHandler connectionHandler) throws DataExportException {
-        StringBuilder buffer = new StringBuilder();
-        if (instructions.createHeader()) {
-            for (int columnIndex=0; columnIndex < model.getColumnCount(); columnIndex++){
-                String columnName = model.getColumnName(columnIndex);
-                String separator = instructions.getValueSeparator();
-                boolean containsSeparator = columnName.contains(separator);
-                boolean quote =
-                        instructions.quoteAllValues() || (
-                        instructions.quoteValuesContainingSeparator() && containsSeparator);
-
-                if (containsSeparator && !quote) {
-                    throw new DataExportException(
-                        "Can not create columns header with the given separator.\n" +
-                        "Column " + columnName + " already contains the separator '" + separator + "'. \n" +
-                        "Please consider quoting.");
-                }
+        writeContent(instructions, writer -> {
+            if (instructions.createHeader()) {
+                for (int columnIndex=0; columnIndex < model.getColumnCount(); columnIndex++){
+                    String columnName = model.getColumnName(columnIndex);
+                    String separator = instructions.getValueSeparator();
+                    boolean containsSeparator = columnName.contains(separator);
+                    boolean quote =
+                            instructions.quoteAllValues() || (
+                            instructions.quoteValuesContainingSeparator() && containsSeparator);
+
+                    if (containsSeparator && !quote) {
+                        throw new DataExportException(
+                            "Can not create columns header with the given separator.\n" +
+                            "Column " + columnName + " already contains the separator '" + separator + "'. \n" +
+                            "Please consider quoting.");
+                    }
 
-                if (columnIndex > 0) {
-                    buffer.append(separator);
-                }
+                    if (columnIndex > 0) {
+                        writer.write(separator);
+                    }
 
-                if (quote) {
-                    if(columnName.indexOf('"') > -1) {
-                        throw new DataExportException(
-                            "Can not quote columns header.\n" +
-                            "Column " + columnName + " contains quotes.");
+                    if (quote) {
+                        if(columnName.indexOf('"') > -1) {
+                            throw new DataExportException(
+                                "Can not quote columns header.\n" +
+                                "Column " + columnName + " contains quotes.");
+                        }
+                        writer.write('"');
+                        writer.write(columnName);
+                        writer.write('"');
+                    } else {
+                        writer.write(columnName);
                     }
-                    buffer.append('"');
-                    buffer.append(columnName);
-                    buffer.append('"');
-                } else {
-                    buffer.append(columnName);
                 }
+                writer.write('\n');
             }
-            buffer.append('\n');
-        }
-
-        Formatter formatter = getFormatter(connectionHandler.getProject());
-        for (int rowIndex=0; rowIndex < model.getRowCount(); rowIndex++) {
-            for (int columnIndex=0; columnIndex < model.getColumnCount(); columnIndex++){
-                checkCancelled();
-                String columnName = model.getColumnName(columnIndex);
-                Object object = model.getValue(rowIndex, columnIndex);
-                String value = formatValue(formatter, object);
-                String separator = instructions.getValueSeparator();
-
-                boolean containsSeparator = value.contains(separator);
-                boolean quote =
-                        instructions.quoteAllValues() || (
-                        instructions.quoteValuesContainingSeparator() && containsSeparator);
-
-                if (containsSeparator && !quote) {
-                    throw new DataExportException(
-                        "Can not create row " + rowIndex + " with the given separator.\n" +
-                        "Value for column " + columnName + " already contains the separator '" + separator + "'. \n" +
-                        "Please consider quoting.");
-                }
 
-                if (columnIndex > 0) {
-                    buffer.append(separator);
-                }
-
-                if (quote) {
-                    if(value.indexOf('"') > -1) {
+            Formatter formatter = getFormatter(connectionHandler.getProject());
+            for (int rowIndex=0; model.hasRow(rowIndex); rowIndex++) {
+                for (int columnIndex=0; columnIndex < model.getColumnCount(); columnIndex++){
+                    checkCancelled();
+                    String columnName = model.getColumnName(columnIndex);
+                    Object object = model.getValue(rowIndex, columnIndex);
+                    String value = formatValue(formatter, object);
+                    String separator = instructions.getValueSeparator();
+
+                    boolean containsSeparator = value.contains(separator);
+                    boolean quote =
+                            instructions.quoteAllValues() || (
+                            instructions.quoteValuesContainingSeparator() && containsSeparator);
+
+                    if (containsSeparator && !quote) {
                         throw new DataExportException(
-                            "Can not quote value of " + columnName + " at row " + rowIndex + ".\n" +
-                            "Value contains quotes itself.");
+                            "Can not create row " + rowIndex + " with the given separator.\n" +
+                            "Value for column " + columnName + " already contains the separator '" + separator + "'. \n" +
+                            "Please consider quoting.");
+                    }
+
+                    if (columnIndex > 0) {
+                        writer.write(separator);
+                    }
+
+                    if (quote) {
+                        if(value.indexOf('"') > -1) {
+                            throw new DataExportException(
+                                "Can not quote value of " + columnName + " at row " + rowIndex + ".\n" +
+                                "Value contains quotes itself.");
+                        }
+                        writer.write('"');
+                        writer.write(value);
+                        writer.write('"');
+                    } else {
+                        writer.write(value);
                     }
-                    buffer.append('"');
-                    buffer.append(value);
-                    buffer.append('"');
-                } else {
-                    buffer.append(value);
                 }
+                writer.write('\n');
             }
-            buffer.append('\n');
-        }
-        writeContent(instructions, buffer.toString());
+        });
     }
 }
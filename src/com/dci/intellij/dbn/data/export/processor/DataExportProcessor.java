@@ -1,5 +1,6 @@
 package com.dci.intellij.dbn.data.export.processor;
 
+import com.dci.intellij.dbn.common.LoggerFactory;
 import com.dci.intellij.dbn.common.dispose.AlreadyDisposedException;
 import com.dci.intellij.dbn.common.load.ProgressMonitor;
 import com.dci.intellij.dbn.common.locale.Formatter;
@@ -10,6 +11,7 @@ import com.dci.intellij.dbn.data.export.DataExportFormat;
 import com.dci.intellij.dbn.data.export.DataExportInstructions;
 import com.dci.intellij.dbn.data.export.DataExportModel;
 import com.dci.intellij.dbn.data.value.ValueAdapter;
+import com.intellij.openapi.diagnostic.Logger;
 import com.intellij.openapi.progress.ProcessCanceledException;
 import com.intellij.openapi.progress.ProgressIndicator;
 import com.intellij.openapi.project.Project;
@@ -23,17 +25,28 @@ import java.io.File;
 import java.io.FileOutputStream;
 import java.io.IOException;
 import java.io.OutputStreamWriter;
-import java.nio.charset.Charset;
+import java.io.StringWriter;
+import java.io.Writer;
 import java.sql.SQLException;
 import java.util.Calendar;
 import java.util.Date;
 import java.util.GregorianCalendar;
 
 public abstract class DataExportProcessor {
+    private static final Logger LOGGER = LoggerFactory.createLogger();
+
     public abstract boolean canCreateHeader();
     public abstract boolean canExportToClipboard();
     public abstract boolean canQuoteValues();
     public abstract boolean supportsFileEncoding();
+
+    /**
+     * Whether the processor can export the full content streamed from the database (see {@link DataExportInstructions.Scope#DATABASE})
+     */
+    public boolean canExportFromDatabase() {
+        return true;
+    }
+
     public abstract void performExport(DataExportModel model, DataExportInstructions instructions, ConnectionHandler connectionHandler) throws DataExportException;
 
     Formatter getFormatter(Project project) {
@@ -49,37 +62,49 @@ public abstract class DataExportProcessor {
                     instructions.getScope() == DataExportInstructions.Scope.SELECTION) {
                 throw new DataExportException("No content selected for export. Uncheck the Scope \"Selection\" if you want to export the entire content.");
             }
+            if (instructions.getScope() == DataExportInstructions.Scope.DATABASE && !canExportFromDatabase()) {
+                throw new DataExportException("The selected format does not support exporting all records from database. Use Microsoft Excel 2007 (xlsx) or a text based format instead.");
+            }
+            if (instructions.getScope() == DataExportInstructions.Scope.DATABASE &&
+                    instructions.getDestination() == DataExportInstructions.Destination.CLIPBOARD) {
+                throw new DataExportException("All records from database can only be exported to a file.");
+            }
             String fileName = adjustFileName(instructions.getFileName());
             instructions.setFileName(fileName);
             performExport(model, instructions, connectionHandler);
         } catch (DataExportException e) {
             throw e;
         } catch (Exception e) {
-            e.printStackTrace();
+            LOGGER.warn("Error performing data export", e);
             throw new DataExportException(e.getMessage());
         }
     }
 
     public abstract DataExportFormat getFormat();
 
-    void writeContent(DataExportInstructions instructions, String content) throws DataExportException {
+    void writeContent(DataExportInstructions instructions, ContentWriter contentWriter) throws DataExportException {
         if (instructions.getDestination() == DataExportInstructions.Destination.CLIPBOARD) {
-            writeToClipboard(content);
+            StringWriter writer = new StringWriter();
+            try {
+                contentWriter.write(writer);
+            } catch (IOException e) {
+                throw new DataExportException("Could not write content.\n Reason: " + e.getMessage());
+            }
+            writeToClipboard(writer.toString());
         } else {
-            writeToFile(instructions.getFile(), content, instructions.getCharset());
+            File file = instructions.getFile();
+            try (Writer writer = new BufferedWriter(new OutputStreamWriter(new FileOutputStream(file), instructions.getCharset()))) {
+                contentWriter.write(writer);
+            } catch (IOException e) {
+                LOGGER.warn("Could not write file " + file.getPath(), e);
+                throw new DataExportException("Could not write file " + file.getPath() + ".\n Reason: " + e.getMessage());
+            }
         }
     }
 
-    private void writeToFile(File file, String content, Charset charset) throws DataExportException {
-        try {
-            BufferedWriter writer = new BufferedWriter(new OutputStreamWriter(new FileOutputStream(file), charset));
-            writer.write(content);
-            writer.flush();
-            writer.close();
-        } catch (IOException e) {
-            e.printStackTrace();
-            throw new DataExportException("Could not write file " + file.getPath() + ".\n Reason: " + e.getMessage());
-        }
+    @FunctionalInterface
+    interface ContentWriter {
+        void write(Writer writer) throws IOException, DataExportException;
     }
 
     private void writeToClipboard(String content) {
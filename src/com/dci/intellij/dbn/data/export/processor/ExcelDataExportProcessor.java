@@ -20,9 +20,11 @@ import org.apache.poi.ss.usermodel.Sheet;
 import org.apache.poi.ss.usermodel.Workbook;
 import org.apache.poi.xssf.streaming.SXSSFWorkbook;
 
+import java.io.BufferedOutputStream;
 import java.io.File;
 import java.io.FileOutputStream;
 import java.io.IOException;
+import java.io.OutputStream;
 import java.util.Date;
 
 public class ExcelDataExportProcessor extends DataExportProcessor{
@@ -57,6 +59,14 @@ public class ExcelDataExportProcessor extends DataExportProcessor{
         return false;
     }
 
+    /**
+     * The xls workbook is held in memory entirely and is limited to 65536 rows
+     */
+    @Override
+    public boolean canExportFromDatabase() {
+        return false;
+    }
+
     @Override
     public String adjustFileName(String fileName) {
         if (!fileName.contains(".xls")) {
@@ -91,7 +101,7 @@ public class ExcelDataExportProcessor extends DataExportProcessor{
 
             Formatter formatter = getFormatter(connectionHandler.getProject());
             CellStyleCache cellStyleCache = new CellStyleCache(workbook, model.getProject());
-            for (short rowIndex = 0; rowIndex < model.getRowCount(); rowIndex++) {
+            for (int rowIndex = 0; model.hasRow(rowIndex); rowIndex++) {
                 Row row = sheet.createRow(rowIndex + 1);
                 for (int columnIndex = 0; columnIndex < model.getColumnCount(); columnIndex++){
                     checkCancelled();
@@ -127,11 +137,8 @@ public class ExcelDataExportProcessor extends DataExportProcessor{
             }
 
             File file = instructions.getFile();
-            try {
-                FileOutputStream fileOutputStream = new FileOutputStream(file);
-                workbook.write(fileOutputStream);
-                fileOutputStream.flush();
-                fileOutputStream.close();
+            try (OutputStream outputStream = new BufferedOutputStream(new FileOutputStream(file))) {
+                workbook.write(outputStream);
             } catch (IOException e) {
                 throw new DataExportException(
                         "Could not write file " + file.getPath() +".\n" +
@@ -16,6 +16,11 @@ public class ExcelXDataExportProcessor extends ExcelDataExportProcessor{
         return "xlsx";
     }
 
+    @Override
+    public boolean canExportFromDatabase() {
+        return true;
+    }
+
     @Override
     public String adjustFileName(String fileName) {
         if (!fileName.contains(".xlsx")) {
@@ -98,65 +98,63 @@ public class HTMLDataExportProcessor extends DataExportProcessor{
 
     @Override
     public void performExport(DataExportModel model, DataExportInstructions instructions, ConnectionHandler connectionHandler) throws DataExportException {
-        StringBuilder buffer = new StringBuilder();
-        buffer.append("<html>\n");
-        buffer.append("    <head>\n");
-        buffer.append("        <style type=\"text/css\">\n");
-        buffer.append("            tr{vertical-align:top;}\n");
-        buffer.append("            td {border:solid #a9a9a9; border-width:1px 0 0 1px; font-family:Verdana,serif; font-size:70%;}\n");
-        buffer.append("            table{border:solid #a9a9a9; border-width:0 1px 1px 0;}\n");
-        buffer.append("        </style>\n");
-        buffer.append("    </head>\n");
-        buffer.append("    <body>\n");
-        buffer.append("        <table border=\"1\" cellspacing=\"0\" cellpadding=\"2\">\n");
-        buffer.append("            <tr bgcolor=\"#d3d3d3\">\n");
-
-        if (instructions.createHeader()) {
-            for (int columnIndex = 0; columnIndex < model.getColumnCount(); columnIndex++){
-                String columnName = model.getColumnName(columnIndex);
-                buffer.append("                <td><b>").append(columnName).append("</b></td>\n");
+        writeContent(instructions, writer -> {
+            writer.write("<html>\n");
+            writer.write("    <head>\n");
+            writer.write("        <style type=\"text/css\">\n");
+            writer.write("            tr{vertical-align:top;}\n");
+            writer.write("            td {border:solid #a9a9a9; border-width:1px 0 0 1px; font-family:Verdana,serif; font-size:70%;}\n");
+            writer.write("            table{border:solid #a9a9a9; border-width:0 1px 1px 0;}\n");
+            writer.write("        </style>\n");
+            writer.write("    </head>\n");
+            writer.write("    <body>\n");
+            writer.write("        <table border=\"1\" cellspacing=\"0\" cellpadding=\"2\">\n");
+            writer.write("            <tr bgcolor=\"#d3d3d3\">\n");
+
+            if (instructions.createHeader()) {
+                for (int columnIndex = 0; columnIndex < model.getColumnCount(); columnIndex++){
+                    String columnName = model.getColumnName(columnIndex);
+                    writer.append("                <td><b>").append(columnName).append("</b></td>\n");
+                }
             }
-        }
-
-        buffer.append("            </tr>\n");
-
-        Formatter formatter = getFormatter(connectionHandler.getProject());
 
-        for (int rowIndex=0; rowIndex < model.getRowCount(); rowIndex++) {
-            buffer.append("            <tr>\n");
+            writer.write("            </tr>\n");
 
-            for (int columnIndex=0; columnIndex < model.getColumnCount(); columnIndex++){
-                checkCancelled();
-                GenericDataType genericDataType = model.getGenericDataType(columnIndex);
-                Object object = model.getValue(rowIndex, columnIndex);
-                String value = formatValue(formatter, object);
-                value = value.replaceAll("<", "&lt;");
-                value = value.replaceAll(">", "&gt;");
+            Formatter formatter = getFormatter(connectionHandler.getProject());
 
-                if (StringUtil.isEmptyOrSpaces(value)) value = "&nbsp;";
+            for (int rowIndex=0; model.hasRow(rowIndex); rowIndex++) {
+                writer.write("            <tr>\n");
 
-                boolean isNoWrap =
-                        genericDataType == GenericDataType.NUMERIC ||
-                        genericDataType == GenericDataType.DATE_TIME ||
-                        value.length() < 100;
+                for (int columnIndex=0; columnIndex < model.getColumnCount(); columnIndex++){
+                    checkCancelled();
+                    GenericDataType genericDataType = model.getGenericDataType(columnIndex);
+                    Object object = model.getValue(rowIndex, columnIndex);
+                    String value = formatValue(formatter, object);
+                    value = value.replaceAll("<", "&lt;");
+                    value = value.replaceAll(">", "&gt;");
 
-                boolean isAlignRight = genericDataType == GenericDataType.NUMERIC;
+                    if (StringUtil.isEmptyOrSpaces(value)) value = "&nbsp;";
 
-                buffer.append("                <td");
-                if (isNoWrap) buffer.append(" nowrap");
-                if (isAlignRight) buffer.append(" align=\"right\"");
-                buffer.append(">");
-                buffer.append(value);
-                buffer.append("</td>\n");
-            }
+                    boolean isNoWrap =
+                            genericDataType == GenericDataType.NUMERIC ||
+                            genericDataType == GenericDataType.DATE_TIME ||
+                            value.length() < 100;
 
-            buffer.append("            </tr>\n");
-        }
-        buffer.append("        </table>\n");
-        buffer.append("    </body>\n");
-        buffer.append("</html>\n");
+                    boolean isAlignRight = genericDataType == GenericDataType.NUMERIC;
 
+                    writer.write("                <td");
+                    if (isNoWrap) writer.write(" nowrap");
+                    if (isAlignRight) writer.write(" align=\"right\"");
+                    writer.write(">");
+                    writer.write(value);
+                    writer.write("</td>\n");
+                }
 
-        writeContent(instructions, buffer.toString());
+                writer.write("            </tr>\n");
+            }
+            writer.write("        </table>\n");
+            writer.write("    </body>\n");
+            writer.write("</html>\n");
+        });
     }
 }
@@ -64,58 +64,58 @@ public class SQLDataExportProcessor extends DataExportProcessor{
         CodeStyleCaseOption kco = styleCaseSettings.getKeywordCaseOption();
         CodeStyleCaseOption oco = styleCaseSettings.getObjectCaseOption();
 
-        StringBuilder buffer = new StringBuilder();
-        for (int rowIndex=0; rowIndex < model.getRowCount(); rowIndex++) {
-            buffer.append(kco.format("insert into "));
-            buffer.append(oco.format(model.getTableName()));
-            buffer.append(" (");
-
-            int realColumnIndex = 0;
-            for (int columnIndex=0; columnIndex < model.getColumnCount(); columnIndex++){
-                GenericDataType genericDataType = model.getGenericDataType(columnIndex);
-                if (genericDataType == GenericDataType.LITERAL ||
-                        genericDataType == GenericDataType.NUMERIC ||
-                        genericDataType == GenericDataType.DATE_TIME) {
-                    if (realColumnIndex > 0) buffer.append(", ");
-                    buffer.append(oco.format(model.getColumnName(columnIndex)));
-                    realColumnIndex++;
+        writeContent(instructions, writer -> {
+            for (int rowIndex=0; model.hasRow(rowIndex); rowIndex++) {
+                writer.write(kco.format("insert into "));
+                writer.write(oco.format(model.getTableName()));
+                writer.write(" (");
+
+                int realColumnIndex = 0;
+                for (int columnIndex=0; columnIndex < model.getColumnCount(); columnIndex++){
+                    GenericDataType genericDataType = model.getGenericDataType(columnIndex);
+                    if (genericDataType == GenericDataType.LITERAL ||
+                            genericDataType == GenericDataType.NUMERIC ||
+                            genericDataType == GenericDataType.DATE_TIME) {
+                        if (realColumnIndex > 0) writer.write(", ");
+                        writer.write(oco.format(model.getColumnName(columnIndex)));
+                        realColumnIndex++;
+                    }
                 }
-            }
-            buffer.append(kco.format(") values ("));
-
-            realColumnIndex = 0;
-            for (int columnIndex=0; columnIndex < model.getColumnCount(); columnIndex++){
-                checkCancelled();
-                GenericDataType genericDataType = model.getGenericDataType(columnIndex);
-                if (genericDataType == GenericDataType.LITERAL ||
-                        genericDataType == GenericDataType.NUMERIC ||
-                        genericDataType == GenericDataType.DATE_TIME) {
-                    if (columnIndex > 0) buffer.append(", ");
-                    Object object = model.getValue(rowIndex, columnIndex);
-                    String value = object == null ? null : object.toString();
-                    if (value == null) {
-                        buffer.append(kco.format("null"));
-                    } else {
-                        if (genericDataType == GenericDataType.LITERAL) {
-                            buffer.append("'");
-                            value = StringUtil.replace(value, "'", "''");
-                            buffer.append(value);
-                            buffer.append("'");
-                        } else if (genericDataType == GenericDataType.NUMERIC) {
-                            buffer.append(value);
-                        } else if (genericDataType == GenericDataType.DATE_TIME) {
-                            Date date = (Date) object;
-                            DatabaseMetadataInterface metadataInterface = connectionHandler.getInterfaceProvider().getMetadataInterface();
-                            String dateString = metadataInterface.createDateString(date);
-                            buffer.append(dateString);
+                writer.write(kco.format(") values ("));
+
+                realColumnIndex = 0;
+                for (int columnIndex=0; columnIndex < model.getColumnCount(); columnIndex++){
+                    checkCancelled();
+                    GenericDataType genericDataType = model.getGenericDataType(columnIndex);
+                    if (genericDataType == GenericDataType.LITERAL ||
+                            genericDataType == GenericDataType.NUMERIC ||
+                            genericDataType == GenericDataType.DATE_TIME) {
+                        if (columnIndex > 0) writer.write(", ");
+                        Object object = model.getValue(rowIndex, columnIndex);
+                        String value = object == null ? null : object.toString();
+                        if (value == null) {
+                            writer.write(kco.format("null"));
+                        } else {
+                            if (genericDataType == GenericDataType.LITERAL) {
+                                writer.write("'");
+                                value = StringUtil.replace(value, "'", "''");
+                                writer.write(value);
+                                writer.write("'");
+                            } else if (genericDataType == GenericDataType.NUMERIC) {
+                                writer.write(value);
+                            } else if (genericDataType == GenericDataType.DATE_TIME) {
+                                Date date = (Date) object;
+                                DatabaseMetadataInterface metadataInterface = connectionHandler.getInterfaceProvider().getMetadataInterface();
+                                String dateString = metadataInterface.createDateString(date);
+                                writer.write(dateString);
+                            }
                         }
+                        realColumnIndex++;
                     }
-                    realColumnIndex++;
                 }
-            }
 
-            buffer.append(");\n\n");
-        }
-        writeContent(instructions, buffer.toString());
+                writer.write(");\n\n");
+            }
+        });
     }
 }
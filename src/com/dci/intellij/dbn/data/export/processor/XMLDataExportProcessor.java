@@ -59,63 +59,61 @@ public class XMLDataExportProcessor extends DataExportProcessor{
 
     @Override
     public void performExport(DataExportModel model, DataExportInstructions instructions, ConnectionHandler connectionHandler) throws DataExportException {
-        StringBuilder buffer = new StringBuilder();
-        buffer.append("<table name=\"");
-        buffer.append(model.getTableName());
-        buffer.append("\">\n");
-        Formatter formatter = getFormatter(connectionHandler.getProject());
-
-        for (int rowIndex=0; rowIndex < model.getRowCount(); rowIndex++) {
-            buffer.append("    <row index=\"");
-            buffer.append(rowIndex);
-            buffer.append("\">\n");
-            for (int columnIndex=0; columnIndex < model.getColumnCount(); columnIndex++){
-                checkCancelled();
-                String columnName = model.getColumnName(columnIndex);
-                GenericDataType genericDataType = model.getGenericDataType(columnIndex);
-
-                String value = null;
-                if (genericDataType.isOneOf(
-                        GenericDataType.BOOLEAN,
-                        GenericDataType.LITERAL,
-                        GenericDataType.NUMERIC,
-                        GenericDataType.ROWID,
-                        GenericDataType.DATE_TIME,
-                        GenericDataType.XMLTYPE,
-                        GenericDataType.CLOB,
-                        GenericDataType.BLOB)) {
-
-                    Object object = model.getValue(rowIndex, columnIndex);
-                    value = formatValue(formatter, object);
-                }
-
-                if (value == null) value = "";
-
-                boolean isCDATA = StringUtil.containsOneOf(value, "\n", "<", ">");
-                boolean isWrap = isCDATA || value.length() > 100;
-
-                buffer.append("        <column name=\"");
-                buffer.append(columnName);
-                buffer.append("\">");
-                if (isWrap) {
-                    buffer.append("\n");
-                }
+        writeContent(instructions, writer -> {
+            writer.write("<table name=\"");
+            writer.write(model.getTableName());
+            writer.write("\">\n");
+            Formatter formatter = getFormatter(connectionHandler.getProject());
+
+            for (int rowIndex=0; model.hasRow(rowIndex); rowIndex++) {
+                writer.write("    <row index=\"");
+                writer.write(String.valueOf(rowIndex));
+                writer.write("\">\n");
+                for (int columnIndex=0; columnIndex < model.getColumnCount(); columnIndex++){
+                    checkCancelled();
+                    String columnName = model.getColumnName(columnIndex);
+                    GenericDataType genericDataType = model.getGenericDataType(columnIndex);
+
+                    String value = null;
+                    if (genericDataType.isOneOf(
+                            GenericDataType.BOOLEAN,
+                            GenericDataType.LITERAL,
+                            GenericDataType.NUMERIC,
+                            GenericDataType.ROWID,
+                            GenericDataType.DATE_TIME,
+                            GenericDataType.XMLTYPE,
+                            GenericDataType.CLOB,
+                            GenericDataType.BLOB)) {
+
+                        Object object = model.getValue(rowIndex, columnIndex);
+                        value = formatValue(formatter, object);
+                    }
+
+                    if (value == null) value = "";
+
+                    boolean isCDATA = StringUtil.containsOneOf(value, "\n", "<", ">");
+                    boolean isWrap = isCDATA || value.length() > 100;
+
+                    writer.write("        <column name=\"");
+                    writer.write(columnName);
+                    writer.write("\">");
+                    if (isWrap) {
+                        writer.write("\n");
+                    }
                 
-                if (isCDATA) {
-                    buffer.append("<![CDATA[");
-                    buffer.append(value);
-                    buffer.append("]]>");
-                } else {
-                    buffer.append(value);
+                    if (isCDATA) {
+                        writer.write("<![CDATA[");
+                        writer.write(value);
+                        writer.write("]]>");
+                    } else {
+                        writer.write(value);
+                    }
+                    writer.write(isWrap ? "\n        </column>\n" : "</column>\n");
                 }
-                buffer.append(isWrap ? "\n        </column>\n" : "</column>\n");
-            }
-
-            buffer.append("    </row>\n");
-        }
-        buffer.append("</table>\n");
 
-
-        writeContent(instructions, buffer.toString());
+                writer.write("    </row>\n");
+            }
+            writer.write("</table>\n");
+        });
     }
 }
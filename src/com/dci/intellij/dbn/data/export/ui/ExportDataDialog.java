@@ -10,6 +10,7 @@ import com.dci.intellij.dbn.data.export.DataExportInstructions;
 import com.dci.intellij.dbn.data.export.DataExportManager;
 import com.dci.intellij.dbn.data.grid.ui.table.resultSet.ResultSetTable;
 import com.dci.intellij.dbn.execution.ExecutionResult;
+import com.dci.intellij.dbn.object.DBDataset;
 import com.dci.intellij.dbn.object.common.DBObject;
 import com.dci.intellij.dbn.object.lookup.DBObjectRef;
 import org.jetbrains.annotations.NotNull;
@@ -81,11 +82,22 @@ public class ExportDataDialog extends DBNDialog<ExportDataForm> {
                             DataExportManager exportManager = DataExportManager.getInstance(connectionHandler.getProject());
                             DataExportInstructions exportInstructions = getComponent().getExportInstructions();
                             exportManager.setExportInstructions(exportInstructions);
-                            exportManager.exportSortableTableContent(
-                                    table,
-                                    exportInstructions,
-                                    connectionHandler,
-                                    () -> Dispatch.run(() -> ExportDataDialog.super.doOKAction()));
+
+                            Runnable successCallback = () -> Dispatch.run(() -> ExportDataDialog.super.doOKAction());
+                            DBObject sourceObject = DBObjectRef.get(sourceObjectRef);
+                            if (exportInstructions.getScope() == DataExportInstructions.Scope.DATABASE && sourceObject instanceof DBDataset) {
+                                exportManager.exportDatasetContent(
+                                        (DBDataset) sourceObject,
+                                        exportInstructions,
+                                        connectionHandler,
+                                        successCallback);
+                            } else {
+                                exportManager.exportSortableTableContent(
+                                        table,
+                                        exportInstructions,
+                                        connectionHandler,
+                                        successCallback);
+                            }
                         })
         );
     }
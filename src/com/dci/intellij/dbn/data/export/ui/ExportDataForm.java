@@ -1,6 +1,7 @@
 package com.dci.intellij.dbn.data.export.ui;
 
 import com.dci.intellij.dbn.common.Icons;
+import com.dci.intellij.dbn.common.options.ui.ConfigurationEditorUtil;
 import com.dci.intellij.dbn.common.ui.DBNFormImpl;
 import com.dci.intellij.dbn.common.ui.DBNHeaderForm;
 import com.dci.intellij.dbn.common.util.MessageUtil;
@@ -11,11 +12,13 @@ import com.dci.intellij.dbn.data.export.DataExportFormat;
 import com.dci.intellij.dbn.data.export.DataExportInstructions;
 import com.dci.intellij.dbn.data.export.DataExportManager;
 import com.dci.intellij.dbn.data.export.processor.DataExportProcessor;
+import com.dci.intellij.dbn.object.DBDataset;
 import com.dci.intellij.dbn.object.DBTable;
 import com.dci.intellij.dbn.object.common.DBObject;
 import com.dci.intellij.dbn.object.common.DBSchemaObject;
 import com.dci.intellij.dbn.object.lookup.DBObjectRef;
 import com.intellij.openapi.fileChooser.FileChooserDescriptor;
+import com.intellij.openapi.options.ConfigurationException;
 import com.intellij.openapi.project.Project;
 import com.intellij.openapi.ui.TextFieldWithBrowseButton;
 import com.intellij.util.ui.UIUtil;
@@ -38,6 +41,7 @@ public class ExportDataForm extends DBNFormImpl<ExportDataDialog> {
     private JPanel mainPanel;
     private JRadioButton scopeGlobalRadioButton;
     private JRadioButton scopeSelectionRadioButton;
+    private JRadioButton scopeDatabaseRadioButton;
     private JRadioButton formatSQLRadioButton;
     private JRadioButton formatExcelRadioButton;
     private JRadioButton formatCSVRadioButton;
@@ -61,10 +65,13 @@ public class ExportDataForm extends DBNFormImpl<ExportDataDialog> {
     private JPanel optionsPanel;
     private JComboBox<CharsetOption> encodingComboBox;
     private JLabel encodingLabel;
+    private JLabel fetchSizeLabel;
+    private JTextField fetchSizeTextField;
 
     private DataExportInstructions instructions;
     private ConnectionHandlerRef connectionHandlerRef;
     private DBObjectRef sourceObjectRef;
+    private boolean databaseScopeAvailable;
 
     ExportDataForm(ExportDataDialog parentComponent, DataExportInstructions instructions, boolean hasSelection, @NotNull ConnectionHandler connectionHandler, @Nullable DBObject sourceObject) {
         super(parentComponent);
@@ -81,6 +88,7 @@ public class ExportDataForm extends DBNFormImpl<ExportDataDialog> {
 
         scopeGlobalRadioButton.addActionListener(actionListener);
         scopeSelectionRadioButton.addActionListener(actionListener);
+        scopeDatabaseRadioButton.addActionListener(actionListener);
         formatSQLRadioButton.addActionListener(actionListener);
         formatHTMLRadioButton.addActionListener(actionListener);
         formatXMLRadioButton.addActionListener(actionListener);
@@ -94,6 +102,8 @@ public class ExportDataForm extends DBNFormImpl<ExportDataDialog> {
         scopeSelectionRadioButton.setEnabled(hasSelection);
         scopeSelectionRadioButton.setSelected(hasSelection);
         scopeGlobalRadioButton.setSelected(!hasSelection);
+        databaseScopeAvailable = sourceObject instanceof DBDataset;
+        scopeDatabaseRadioButton.setEnabled(databaseScopeAvailable);
 
         formatSQLRadioButton.setEnabled(sourceObject instanceof DBTable);
 
@@ -110,6 +120,7 @@ public class ExportDataForm extends DBNFormImpl<ExportDataDialog> {
         formatCustomRadioButton.setSelected(format == DataExportFormat.CUSTOM);
 
         valueSeparatorTextField.setText(instructions.getValueSeparator());
+        fetchSizeTextField.setText(Integer.toString(instructions.getFetchSize()));
         createHeaderCheckBox.setSelected(instructions.createHeader());
 
 
@@ -159,8 +170,9 @@ public class ExportDataForm extends DBNFormImpl<ExportDataDialog> {
     }
 
     DataExportInstructions getExportInstructions() {
-        instructions.setScope(scopeSelectionRadioButton.isSelected() ?
-                DataExportInstructions.Scope.SELECTION  :
+        instructions.setScope(
+                scopeSelectionRadioButton.isSelected() ? DataExportInstructions.Scope.SELECTION :
+                scopeDatabaseRadioButton.isSelected() ? DataExportInstructions.Scope.DATABASE :
                 DataExportInstructions.Scope.GLOBAL);
         instructions.setCreateHeader(createHeaderCheckBox.isSelected());
         instructions.quoteValuesContainingSeparator(quoteValuesCheckBox.isSelected());
@@ -180,6 +192,14 @@ public class ExportDataForm extends DBNFormImpl<ExportDataDialog> {
         CharsetOption charsetOption = getSelection(encodingComboBox);
         Charset charset = charsetOption == null ? Charset.defaultCharset() : charsetOption.getCharset();
         instructions.setCharset(charset);
+
+        if (fetchSizeTextField.isEnabled()) {
+            try {
+                instructions.setFetchSize(Integer.parseInt(fetchSizeTextField.getText().trim()));
+            } catch (NumberFormatException ignore) {
+                // validated on export
+            }
+        }
         return instructions;
     }
 
@@ -220,6 +240,15 @@ public class ExportDataForm extends DBNFormImpl<ExportDataDialog> {
             return;
         }
 
+        if (fetchSizeTextField.isEnabled()) {
+            try {
+                ConfigurationEditorUtil.validateIntegerInputValue(fetchSizeTextField, "Fetch size", true, 1, 10000, null);
+            } catch (ConfigurationException e) {
+                MessageUtil.showErrorDialog(project, e.getTitle(), e.getMessage());
+                return;
+            }
+        }
+
         if (destinationFileRadioButton.isSelected()) {
             File file = getExportInstructions().getFile();
             if (file.exists()) {
@@ -244,8 +273,15 @@ public class ExportDataForm extends DBNFormImpl<ExportDataDialog> {
         boolean canQuoteValues = processor != null && processor.canQuoteValues();
         boolean canExportToClipboard = processor != null && processor.canExportToClipboard();
         boolean supportsFileEncoding = processor != null && processor.supportsFileEncoding();
+        boolean canExportFromDatabase = processor != null && processor.canExportFromDatabase();
+
+        scopeDatabaseRadioButton.setEnabled(databaseScopeAvailable && canExportFromDatabase);
+        if (!scopeDatabaseRadioButton.isEnabled() && scopeDatabaseRadioButton.isSelected()) {
+            scopeGlobalRadioButton.setSelected(true);
+        }
 
-        destinationClipboardRadioButton.setEnabled(canExportToClipboard);
+        // records streamed from database would be buffered entirely for the clipboard
+        destinationClipboardRadioButton.setEnabled(canExportToClipboard && !scopeDatabaseRadioButton.isSelected());
         quoteValuesCheckBox.setEnabled(canQuoteValues);
         quoteAllValuesCheckBox.setEnabled(canQuoteValues);
         createHeaderCheckBox.setEnabled(canCreateHeader);
@@ -258,6 +294,8 @@ public class ExportDataForm extends DBNFormImpl<ExportDataDialog> {
         fileNameTextField.setEnabled(destinationFileRadioButton.isSelected());
         fileLocationTextField.setEnabled(destinationFileRadioButton.isSelected());
         encodingComboBox.setEnabled(destinationFileRadioButton.isSelected() && supportsFileEncoding);
+        fetchSizeLabel.setEnabled(scopeDatabaseRadioButton.isSelected());
+        fetchSizeTextField.setEnabled(scopeDatabaseRadioButton.isSelected());
 
         String fileNameBase = sourceObjectRef == null ? instructions.getBaseName() : sourceObjectRef.objectName;
         if (fileNameBase != null && processor != null) {
@@ -136,6 +136,7 @@ public class DataSearchComponent extends DBNFormImpl implements Disposable, Sele
 
     @Override
     public void modelChanged() {
+        searchResultController.invalidateCache();
         searchResultController.updateResult(findModel);
     }
 
@@ -14,7 +14,7 @@ import java.util.Set;
 
 public class DataSearchResult implements Disposable {
     private Set<DataSearchResultListener> listeners = new HashSet<>();
-    private List<DataSearchResultMatch> matches = java.util.Collections.emptyList();
+    private volatile List<DataSearchResultMatch> matches = java.util.Collections.emptyList();
     private DataSearchResultMatch selectedMatch;
     private int matchesLimit;
     private long updateTimestamp = 0;
@@ -74,20 +74,22 @@ public class DataSearchResult implements Disposable {
     }
 
     public Iterator<DataSearchResultMatch> getMatches(final DataModelCell cell) {
-        final DataSearchResultMatch first = matches.isEmpty() ? null : findMatch(null, cell);
-        if (first != null) {
+        final List<DataSearchResultMatch> matches = this.matches;
+        final int first = matches.isEmpty() ? -1 : findMatch(matches, cell);
+        if (first > -1) {
             return new Iterator<DataSearchResultMatch>() {
-                private DataSearchResultMatch next = first;
+                private int next = first;
 
                 @Override
                 public boolean hasNext() {
-                    return next != null;
+                    return next > -1;
                 }
 
                 @Override
                 public DataSearchResultMatch next() {
-                    DataSearchResultMatch current = next;
-                    next = findMatch(next, cell);
+                    DataSearchResultMatch current = matches.get(next);
+                    // matches of the same cell are adjacent
+                    next = next + 1 < matches.size() && cell.equals(matches.get(next + 1).getCell()) ? next + 1 : -1;
                     return current;
                 }
 
@@ -100,18 +102,14 @@ public class DataSearchResult implements Disposable {
         }
     }
 
-    private DataSearchResultMatch findMatch(DataSearchResultMatch previous, DataModelCell cell) {
-        int index = previous == null ? 0 : matches.indexOf(previous) + 1;
-        for (int i = index; i< matches.size(); i++) {
+    private static int findMatch(List<DataSearchResultMatch> matches, DataModelCell cell) {
+        for (int i = 0; i< matches.size(); i++) {
             DataSearchResultMatch match = matches.get(i);
             if (match != null && match.getCell().equals(cell)) {
-                return match;
-
-            } else if (previous != null) {
-                return null;
+                return i;
             }
         }
-        return null;
+        return -1;
     }
 
     public DataSearchResultMatch selectFirst(int fromRowIndex, int fromColumnIndex, DataSearchResultScrollPolicy scrollPolicy) {
@@ -9,15 +9,24 @@ import com.dci.intellij.dbn.data.model.DataModelCell;
 import com.dci.intellij.dbn.data.model.DataModelRow;
 import com.dci.intellij.dbn.data.model.basic.BasicDataModel;
 import com.intellij.find.FindManager;
+import com.intellij.find.FindModel;
 import com.intellij.find.FindResult;
 import com.intellij.openapi.Disposable;
+import com.intellij.openapi.util.text.StringUtil;
 
 import java.awt.*;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
+import java.util.stream.IntStream;
 
 public class DataSearchResultController implements Disposable {
+    private static final int CHUNK_SIZE = 500;
+    private static final int PUBLISH_INTERVAL = 200;
+
     private SearchableDataComponent searchableComponent;
+    private volatile DataSearchValueCache valueCache;
+    private volatile SearchState lastSearch;
 
     DataSearchResultController(SearchableDataComponent searchableComponent) {
         this.searchableComponent = searchableComponent;
@@ -64,43 +73,82 @@ public class DataSearchResultController implements Disposable {
         }
     }
 
+    /**
+     * Discards the formatted values cached for the current rows (to be called whenever the data model changes)
+     */
+    void invalidateCache() {
+        valueCache = null;
+        lastSearch = null;
+    }
+
     void updateResult(DataFindModel findModel) {
+        FindModel query = new FindModel();
+        query.copyFrom(findModel);
+
+        // rows are captured on the dispatch thread (the only one changing the live row list)
+        BasicTable table = searchableComponent.getTable();
+        DataModel dataModel = table.getModel();
+        DataSearchValueCache currentValueCache = this.valueCache;
+        List<DataModelRow> rows = currentValueCache == null ? new ArrayList<DataModelRow>(dataModel.getRows()) : null;
+
         Background.run(() -> {
-            BasicTable table = searchableComponent.getTable();
-            DataModel dataModel = table.getModel();
             DataSearchResult searchResult = dataModel.getSearchResult();
 
             long updateTimestamp = System.currentTimeMillis();
             searchResult.startUpdating(updateTimestamp);
 
-            FindManager findManager = FindManager.getInstance(table.getProject());
+            DataSearchValueCache valueCache = currentValueCache;
+            if (valueCache == null) {
+                valueCache = new DataSearchValueCache(rows);
+                this.valueCache = valueCache;
+            }
 
-            List<DataSearchResultMatch> matches = new ArrayList<>();
-            for (Object r : dataModel.getRows()) {
-                DataModelRow row = (DataModelRow) r;
-                for (Object c : row.getCells()) {
-                    DataModelCell cell = (DataModelCell) c;
-                    String userValue = cell.getFormattedUserValue();
-                    if (userValue != null) {
-                        int findOffset = 0;
-                        while (true) {
-                            FindResult findResult = findManager.findString(userValue, findOffset, findModel);
-                            if (findResult.isStringFound()) {
-                                int startOffset = findResult.getStartOffset();
-                                int endOffset = findResult.getEndOffset();
-
-                                searchResult.checkTimestamp(updateTimestamp);
-                                DataSearchResultMatch match = new DataSearchResultMatch(cell, startOffset, endOffset);
-                                matches.add(match);
-
-                                findOffset = endOffset;
-                            } else {
-                                break;
-                            }
+            // a query extending the previous one can only match cells matched by the previous one
+            SearchState lastSearch = this.lastSearch;
+            long[] candidates = lastSearch != null && lastSearch.valueCache == valueCache && lastSearch.isExtendedBy(query) ? lastSearch.hits : null;
+            int size = candidates == null ? valueCache.size() : candidates.length;
+
+            SearchChunk[] chunks = new SearchChunk[(size + CHUNK_SIZE - 1) / CHUNK_SIZE];
+            for (int i = 0; i < chunks.length; i++) {
+                chunks[i] = new SearchChunk(i * CHUNK_SIZE, Math.min(size, (i + 1) * CHUNK_SIZE));
+            }
+
+            FindManager findManager = FindManager.getInstance(table.getProject());
+            SearchPublisher publisher = new SearchPublisher(table, searchResult, chunks);
+            DataSearchValueCache cache = valueCache;
+            IntStream.range(0, chunks.length).parallel().forEach(i -> {
+                SearchChunk chunk = chunks[i];
+                for (int index = chunk.from; index < chunk.to; index++) {
+                    searchResult.checkTimestamp(updateTimestamp);
+                    if (candidates == null) {
+                        String[] values = cache.getValues(index);
+                        for (int columnIndex = 0; columnIndex < values.length; columnIndex++) {
+                            chunk.search(findManager, query, cache, index, columnIndex);
                         }
+                    } else {
+                        long candidate = candidates[index];
+                        chunk.search(findManager, query, cache, (int) (candidate >>> 32), (int) candidate);
                     }
                 }
+                publisher.completed(i);
+            });
+
+            searchResult.checkTimestamp(updateTimestamp);
+            List<DataSearchResultMatch> matches = new ArrayList<>();
+            int hitCount = 0;
+            for (SearchChunk chunk : chunks) {
+                matches.addAll(chunk.matches);
+                hitCount += chunk.hitCount;
+            }
+
+            long[] hits = new long[hitCount];
+            int offset = 0;
+            for (SearchChunk chunk : chunks) {
+                System.arraycopy(chunk.hits, 0, hits, offset, chunk.hitCount);
+                offset += chunk.hitCount;
             }
+            this.lastSearch = new SearchState(query, valueCache, hits);
+
             searchResult.setMatches(matches);
 
             searchResult.stopUpdating();
@@ -120,8 +168,116 @@ public class DataSearchResultController implements Disposable {
         });
     }
 
+    /**
+     * Range of rows (or of previous hits) searched by one fork-join task
+     */
+    private static class SearchChunk {
+        private final int from;
+        private final int to;
+        private final List<DataSearchResultMatch> matches = new ArrayList<>();
+        private long[] hits = new long[16];
+        private int hitCount;
+        private volatile boolean completed;
+
+        SearchChunk(int from, int to) {
+            this.from = from;
+            this.to = to;
+        }
+
+        void search(FindManager findManager, FindModel query, DataSearchValueCache valueCache, int rowIndex, int columnIndex) {
+            String value = valueCache.getValues(rowIndex)[columnIndex];
+            if (value != null) {
+                int findOffset = 0;
+                DataModelCell cell = null;
+                while (true) {
+                    FindResult findResult = findManager.findString(value, findOffset, query);
+                    if (findResult.isStringFound()) {
+                        int startOffset = findResult.getStartOffset();
+                        int endOffset = findResult.getEndOffset();
+                        if (cell == null) {
+                            cell = valueCache.getRow(rowIndex).getCellAtIndex(columnIndex);
+                            if (cell == null) break;
+                            addHit(rowIndex, columnIndex);
+                        }
+
+                        matches.add(new DataSearchResultMatch(cell, startOffset, endOffset));
+                        findOffset = endOffset;
+                    } else {
+                        break;
+                    }
+                }
+            }
+        }
+
+        private void addHit(int rowIndex, int columnIndex) {
+            if (hitCount == hits.length) hits = Arrays.copyOf(hits, hitCount * 2);
+            hits[hitCount++] = ((long) rowIndex << 32) | columnIndex;
+        }
+    }
+
+    /**
+     * Streams the matches of the leading completed chunks to the grid while the search is still running
+     */
+    private static class SearchPublisher {
+        private final BasicTable table;
+        private final DataSearchResult searchResult;
+        private final SearchChunk[] chunks;
+        private final List<DataSearchResultMatch> matches = new ArrayList<>();
+        private int published;
+        private long lastPublishTimestamp = System.currentTimeMillis();
+
+        SearchPublisher(BasicTable table, DataSearchResult searchResult, SearchChunk[] chunks) {
+            this.table = table;
+            this.searchResult = searchResult;
+            this.chunks = chunks;
+        }
+
+        synchronized void completed(int index) {
+            chunks[index].completed = true;
+            int published = this.published;
+            while (this.published < chunks.length && chunks[this.published].completed) {
+                matches.addAll(chunks[this.published].matches);
+                this.published++;
+            }
+
+            long timestamp = System.currentTimeMillis();
+            if (this.published > published && this.published < chunks.length && timestamp - lastPublishTimestamp > PUBLISH_INTERVAL) {
+                lastPublishTimestamp = timestamp;
+                searchResult.setMatches(new ArrayList<>(matches));
+                Dispatch.run(() -> GUIUtil.repaint(table));
+            }
+        }
+    }
+
+    private static class SearchState {
+        private final FindModel query;
+        private final DataSearchValueCache valueCache;
+        private final long[] hits;
+
+        SearchState(FindModel query, DataSearchValueCache valueCache, long[] hits) {
+            this.query = query;
+            this.valueCache = valueCache;
+            this.hits = hits;
+        }
+
+        boolean isExtendedBy(FindModel query) {
+            String previous = this.query.getStringToFind();
+            String current = query.getStringToFind();
+            if (StringUtil.isEmpty(previous) || current == null) return false;
+            if (this.query.isRegularExpressions() || query.isRegularExpressions()) return false;
+            if (this.query.isWholeWordsOnly() || query.isWholeWordsOnly()) return false;
+            if (this.query.isCaseSensitive() != query.isCaseSensitive()) return false;
+
+            return query.isCaseSensitive() ?
+                    current.contains(previous) :
+                    StringUtil.containsIgnoreCase(current, previous);
+        }
+    }
+
     @Override
     public void dispose() {
         searchableComponent = null;
+        valueCache = null;
+        lastSearch = null;
     }
 }
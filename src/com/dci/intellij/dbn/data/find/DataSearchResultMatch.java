@@ -2,21 +2,26 @@ package com.dci.intellij.dbn.data.find;
 
 import com.dci.intellij.dbn.common.dispose.Failsafe;
 import com.dci.intellij.dbn.data.model.DataModelCell;
+import com.dci.intellij.dbn.data.model.DataModelRow;
 import com.dci.intellij.dbn.language.common.WeakRef;
 
 public class DataSearchResultMatch {
-    private WeakRef<DataModelCell> cell;
+    // cells of read-only models are created on demand, hence the row is referenced instead
+    private WeakRef<DataModelRow> row;
+    private int columnIndex;
     private int startOffset;
     private int endOffset;
 
     public DataSearchResultMatch(DataModelCell cell, int startOffset, int endOffset) {
-        this.cell = WeakRef.from(cell);
+        this.row = WeakRef.from(cell.getRow());
+        this.columnIndex = cell.getIndex();
         this.startOffset = startOffset;
         this.endOffset = endOffset;
     }
 
     public DataModelCell getCell() {
-        return Failsafe.nn(cell.get());
+        DataModelRow row = Failsafe.nn(this.row.get());
+        return Failsafe.nn(row.getCellAtIndex(columnIndex));
     }
 
     public int getStartOffset() {
@@ -28,11 +33,11 @@ public class DataSearchResultMatch {
     }
 
     public int getColumnIndex() {
-        return getCell().getIndex();
+        return columnIndex;
     }
 
     public int getRowIndex() {
-        return getCell().getRow().getIndex();
+        return Failsafe.nn(row.get()).getIndex();
     }
 
     @Override
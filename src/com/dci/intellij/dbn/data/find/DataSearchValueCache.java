@@ -0,0 +1,57 @@
+package com.dci.intellij.dbn.data.find;
+
+import com.dci.intellij.dbn.common.locale.Formatter;
+import com.dci.intellij.dbn.data.model.DataModelCell;
+import com.dci.intellij.dbn.data.model.DataModelRow;
+import com.dci.intellij.dbn.data.model.resultSet.ResultSetDataModelRow;
+
+import java.util.List;
+
+/**
+ * Formatted cell values of a snapshot of the data model rows, reused between searches
+ * until the data model changes. Values are resolved lazily, one row at a time.
+ */
+class DataSearchValueCache {
+    private final List<DataModelRow> rows;
+    private final String[][] values;
+
+    DataSearchValueCache(List<DataModelRow> rows) {
+        this.rows = rows;
+        this.values = new String[rows.size()][];
+    }
+
+    int size() {
+        return rows.size();
+    }
+
+    DataModelRow getRow(int rowIndex) {
+        return rows.get(rowIndex);
+    }
+
+    String[] getValues(int rowIndex) {
+        // concurrent searches may resolve the same row twice, which is harmless
+        String[] rowValues = values[rowIndex];
+        if (rowValues == null) {
+            DataModelRow row = rows.get(rowIndex);
+            if (row instanceof ResultSetDataModelRow) {
+                // format the stored values directly, without creating cells for columnar stored rows
+                ResultSetDataModelRow resultSetRow = (ResultSetDataModelRow) row;
+                Formatter formatter = resultSetRow.getModel().getFormatter();
+                rowValues = new String[resultSetRow.getModel().getColumnCount()];
+                for (int i = 0; i < rowValues.length; i++) {
+                    Object userValue = resultSetRow.getUserValueAtIndex(i);
+                    rowValues[i] = userValue == null ? null : formatter.formatObject(userValue);
+                }
+            } else {
+                List cells = row.getCells();
+                rowValues = new String[cells.size()];
+                for (int i = 0; i < rowValues.length; i++) {
+                    DataModelCell cell = (DataModelCell) cells.get(i);
+                    rowValues[i] = cell.getFormattedUserValue();
+                }
+            }
+            values[rowIndex] = rowValues;
+        }
+        return rowValues;
+    }
+}
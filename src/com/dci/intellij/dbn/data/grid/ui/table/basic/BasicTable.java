@@ -269,8 +269,15 @@ public class BasicTable<T extends BasicDataModel> extends DBNTableWithGutter<T>
     @Override
     public void tableChanged(TableModelEvent e) {
         super.tableChanged(e);
-        if (e.getFirstRow() != e.getLastRow()) {
+        if (e.getFirstRow() == TableModelEvent.HEADER_ROW) {
+            // full reload, widths measured for the previous data must not be kept
             accommodateColumnsSize();
+        } else if (e.getFirstRow() != e.getLastRow()) {
+            if (e.getType() == TableModelEvent.INSERT) {
+                accommodateColumnsSize(e.getFirstRow(), e.getLastRow());
+            } else {
+                accommodateColumnsSize();
+            }
         }
 
         if (tableGutter != null) {
@@ -92,7 +92,7 @@ public class BasicTableCellRenderer extends DBNColoredTableCellRenderer {
                  int lastEndOffset = 0;
                  SimpleTextAttributes searchResultAttributes = configTextAttributes.getSearchResult();
                  DataSearchResultMatch selectedMatch = searchResult.getSelectedMatch();
-                 if (selectedMatch != null && selectedMatch.getCell() == cell) {
+                 if (selectedMatch != null && cell.equals(selectedMatch.getCell())) {
                     searchResultAttributes = configTextAttributes.getSelection();
                  }
 
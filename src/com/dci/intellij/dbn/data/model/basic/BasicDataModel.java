@@ -47,7 +47,8 @@ public class BasicDataModel<
     private DataModelState state;
     private Set<TableModelListener> tableModelListeners = new HashSet<>();
     private Set<DataModelListener> dataModelListeners = new HashSet<>();
-    private List<R> rows = new ArrayList<>();
+    /** replaced by background loaders (volatile for safe publication of the new rows) */
+    private volatile List<R> rows = new ArrayList<>();
     private ProjectRef projectRef;
     private Filter<R> filter;
     private boolean environmentReadonly;
@@ -12,6 +12,7 @@ import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
 
 @Nullifiable
@@ -26,7 +27,6 @@ public class BasicDataModelRow<
     private int index;
 
     public BasicDataModelRow(M model) {
-        cells = new ArrayList<C>(model.getColumnCount());
         this.model = WeakRef.from(model);
     }
 
@@ -36,6 +36,9 @@ public class BasicDataModelRow<
     }
 
     protected void addCell(C cell) {
+        if (cells == null) {
+            cells = new ArrayList<>(getModel().getColumnCount());
+        }
         cells.add(cell);
     }
 
@@ -47,13 +50,13 @@ public class BasicDataModelRow<
 
     @Override
     public List<C> getCells() {
-        return cells;
+        return cells == null ? Collections.emptyList() : cells;
     }
 
 
     @Override
     public final C getCell(String columnName) {
-        for (C cell : cells) {
+        for (C cell : getCells()) {
             if (cell.getColumnInfo().getName().equals(columnName)) {
                 return cell;
             }
@@ -75,7 +78,7 @@ public class BasicDataModelRow<
     @Nullable
     @Override
     public C getCellAtIndex(int index) {
-        return cells.size() > index ? cells.get(index) : null;
+        return cells != null && cells.size() > index ? cells.get(index) : null;
     }
 
     @Override
@@ -89,7 +92,7 @@ public class BasicDataModelRow<
     }
 
     public int indexOf(C cell) {
-        return cells.indexOf(cell);
+        return getCells().indexOf(cell);
     }
 
     public Project getProject() {
@@ -2,7 +2,10 @@ package com.dci.intellij.dbn.data.model.resultSet;
 
 import com.dci.intellij.dbn.common.dispose.Disposer;
 import com.dci.intellij.dbn.common.dispose.Failsafe;
+import com.dci.intellij.dbn.common.filter.Filter;
+import com.dci.intellij.dbn.common.list.FiltrableList;
 import com.dci.intellij.dbn.common.thread.Background;
+import com.dci.intellij.dbn.common.thread.Dispatch;
 import com.dci.intellij.dbn.connection.ConnectionHandler;
 import com.dci.intellij.dbn.connection.ResourceUtil;
 import com.dci.intellij.dbn.connection.jdbc.DBNConnection;
@@ -25,9 +28,13 @@ public class ResultSetDataModel<
         extends SortableDataModel<R, C> {
 
     private DBNResultSet resultSet;
+    private ResultSetDataStore dataStore;
     private ConnectionHandler connectionHandler;
     private boolean resultSetExhausted = false;
 
+    /** rows holding the longest string value of each column, tracked while fetching (replaced on every fetch) */
+    private volatile WidestValues widestValues;
+
     /** execute duration, -1 unknown */
     private long executeDuration = -1;
     /** fetch duration, -1 unknown */
@@ -50,7 +57,10 @@ public class ResultSetDataModel<
     }
 
     protected R createRow(int resultSetRowIndex) throws SQLException {
-        return (R) new ResultSetDataModelRow(this, getResultSet(), resultSetRowIndex);
+        if (dataStore == null) {
+            dataStore = new ResultSetDataStore(getColumnCount());
+        }
+        return (R) new ResultSetDataModelRow(this, getResultSet(), dataStore, resultSetRowIndex);
     }
 
     @NotNull
@@ -91,7 +101,9 @@ public class ResultSetDataModel<
         int count = 0;
 
         final List<R> oldRows = getRows();
-        List<R> newRows = reset ? new ArrayList<>(oldRows.size()) : new ArrayList<>(oldRows);
+        List<R> newRows = reset ? new ArrayList<>(oldRows.size()) : new ArrayList<>(Math.min(records, 1000));
+        // every fetch fills its own store, which is only published (with the new rows) once the batch is complete
+        dataStore = null;
 
         if (resultSet == null || ResourceUtil.isClosed(resultSet)) {
             resultSetExhausted = true;
@@ -113,6 +125,7 @@ public class ResultSetDataModel<
                     }
                 }
             } finally {
+                dataStore = null;
                 fetchDuration = System.currentTimeMillis() - init;
                 connection.set(ResourceStatus.ACTIVE, false);
                 connection.updateLastAccess();
@@ -120,25 +133,128 @@ public class ResultSetDataModel<
         }
 
         checkDisposed();
-
-        sort(newRows);
-        setRows(newRows);
+        trackWidestValues(newRows, reset);
 
         if (reset) {
+            sort(newRows);
+            setRows(newRows);
             disposeRows(oldRows);
+
+            int newRowCount = getRowCount();
+            notifyListeners(null, new TableModelEvent(ResultSetDataModel.this, TableModelEvent.HEADER_ROW));
+            if (newRowCount > originalRowCount) notifyRowsInserted(originalRowCount, newRowCount);
+            if (newRowCount < originalRowCount) notifyRowsDeleted(newRowCount, originalRowCount);
+            int updateIndex = Math.min(originalRowCount, newRowCount);
+            if (updateIndex > 0) notifyRowsUpdated(0, updateIndex);
+            return newRowCount;
+        }
+
+        if (newRows.isEmpty()) return originalRowCount;
+
+        if (getFullRows().isEmpty()) {
+            // nothing published yet (e.g. initial fetch), the batch becomes the row list
+            sort(newRows);
+            setRows(newRows);
+            int newRowCount = getRowCount();
+            if (newRowCount > 0) notifyRowsInserted(0, newRowCount);
+            return newRowCount;
         }
 
+        // the live row list is only changed on the dispatch thread (where the ui reads it), hence no copy is needed
+        return Dispatch.callConditional(() -> appendRows(newRows));
+    }
+
+    private int appendRows(List<R> newRows) {
+        checkDisposed();
+        int originalRowCount = getRowCount();
+        int changeIndex = merge(getRows(), newRows);
+        getState().setRowCount(getRowCount());
+
         int newRowCount = getRowCount();
-        if (reset) notifyListeners(null, new TableModelEvent(ResultSetDataModel.this, TableModelEvent.HEADER_ROW));
         if (newRowCount > originalRowCount) notifyRowsInserted(originalRowCount, newRowCount);
-        if (newRowCount < originalRowCount) notifyRowsDeleted(newRowCount, originalRowCount);
-        int updateIndex = Math.min(originalRowCount, newRowCount);
-        if (updateIndex > 0) notifyRowsUpdated(0, updateIndex);
-
 
+        // change index refers to the full list, the visible rows may be filtered
+        int updateIndex = getVisibleIndex(changeIndex);
+        if (updateIndex < originalRowCount) notifyRowsUpdated(updateIndex, originalRowCount);
         return newRowCount;
     }
 
+    private List<R> getFullRows() {
+        List<R> rows = getRows();
+        return rows instanceof FiltrableList ? ((FiltrableList<R>) rows).getFullList() : rows;
+    }
+
+    /**
+     * Number of visible rows before the given index of the full (unfiltered) row list
+     */
+    private int getVisibleIndex(int fullIndex) {
+        Filter<R> filter = getFilter();
+        if (filter == null) return fullIndex;
+
+        List<R> fullRows = getFullRows();
+        int index = 0;
+        for (int i = 0; i < fullIndex; i++) {
+            if (filter.accepts(fullRows.get(i))) index++;
+        }
+        return index;
+    }
+
+    /**
+     * Updates a copy of the widest values with the given rows, published once complete
+     * (the ui reads them while the next records are fetched in background)
+     */
+    private void trackWidestValues(List<R> rows, boolean reset) {
+        int columnCount = getColumnCount();
+        WidestValues widestValues = this.widestValues;
+        widestValues = reset || widestValues == null || widestValues.lengths.length != columnCount ?
+                new WidestValues(columnCount) :
+                new WidestValues(widestValues);
+
+        int[] widestValueLengths = widestValues.lengths;
+        Object[] widestValueRows = widestValues.rows;
+        for (R row : rows) {
+            for (int i = 0; i < columnCount; i++) {
+                Object userValue = row.getUserValueAtIndex(i);
+                if (userValue instanceof String) {
+                    int length = ((String) userValue).length();
+                    if (length > widestValueLengths[i]) {
+                        widestValueLengths[i] = length;
+                        widestValueRows[i] = row;
+                    }
+                }
+            }
+        }
+        this.widestValues = widestValues;
+    }
+
+    @Nullable
+    @Override
+    public Object getWidestValueAt(int columnIndex) {
+        WidestValues widestValues = this.widestValues;
+        if (widestValues != null && columnIndex >= 0 && columnIndex < widestValues.rows.length) {
+            R row = (R) widestValues.rows[columnIndex];
+            if (Failsafe.check(row)) {
+                return row.getCellAtIndex(columnIndex);
+            }
+        }
+        return null;
+    }
+
+    private static class WidestValues {
+        private final int[] lengths;
+        private final Object[] rows;
+
+        WidestValues(int columnCount) {
+            lengths = new int[columnCount];
+            rows = new Object[columnCount];
+        }
+
+        WidestValues(WidestValues source) {
+            lengths = source.lengths.clone();
+            rows = source.rows.clone();
+        }
+    }
+
     public long getFetchDuration() {
         return fetchDuration;
     }
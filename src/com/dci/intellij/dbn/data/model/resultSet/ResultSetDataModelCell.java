@@ -24,6 +24,13 @@ public class ResultSetDataModelCell<
         }
     }
 
+    /**
+     * Value view over columnar stored rows (see {@link ResultSetDataStore})
+     */
+    protected ResultSetDataModelCell(R row, Object userValue, int index) {
+        super(row, userValue, index);
+    }
+
     @NotNull
     @Override
     public M getModel() {
@@ -36,6 +43,25 @@ public class ResultSetDataModelCell<
         return super.getRow();
     }
 
+    /**
+     * Cells of columnar stored rows are created on every access,
+     * hence equality is given by the row and the column index
+     */
+    @Override
+    public boolean equals(Object obj) {
+        if (this == obj) return true;
+        if (obj instanceof ResultSetDataModelCell) {
+            ResultSetDataModelCell that = (ResultSetDataModelCell) obj;
+            return this.index == that.index && this.row.get() != null && this.row.get() == that.row.get();
+        }
+        return false;
+    }
+
+    @Override
+    public int hashCode() {
+        return 31 * System.identityHashCode(row.get()) + index;
+    }
+
     protected DBNConnection getConnection() {
         return getRow().getModel().getResultSet().getConnection();
     }
@@ -2,11 +2,14 @@ package com.dci.intellij.dbn.data.model.resultSet;
 
 import com.dci.intellij.dbn.data.model.ColumnInfo;
 import com.dci.intellij.dbn.data.model.sortable.SortableDataModelRow;
+import com.dci.intellij.dbn.data.type.DBDataType;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
 import java.sql.ResultSet;
 import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
 
 
 public class ResultSetDataModelRow<
@@ -16,6 +19,10 @@ public class ResultSetDataModelRow<
 
     private int resultSetRowIndex;
 
+    /** columnar value storage (cells are created on every access), null if the row holds its own cells */
+    private ResultSetDataStore dataStore;
+    private int dataStoreIndex;
+
     public ResultSetDataModelRow(M model, ResultSet resultSet, int resultSetRowIndex) throws SQLException {
         super(model);
         this.resultSetRowIndex = resultSetRowIndex;
@@ -26,6 +33,29 @@ public class ResultSetDataModelRow<
         }
     }
 
+    /**
+     * Row without cells, to be populated by the subclass with already loaded values
+     */
+    protected ResultSetDataModelRow(M model, int resultSetRowIndex) {
+        super(model);
+        this.resultSetRowIndex = resultSetRowIndex;
+    }
+
+    protected ResultSetDataModelRow(M model, ResultSet resultSet, ResultSetDataStore dataStore, int resultSetRowIndex) throws SQLException {
+        super(model);
+        this.resultSetRowIndex = resultSetRowIndex;
+        this.dataStore = dataStore;
+
+        int columnCount = model.getColumnCount();
+        Object[] values = new Object[columnCount];
+        for (int i = 0; i < columnCount; i++) {
+            ResultSetColumnInfo columnInfo = (ResultSetColumnInfo) model.getColumnInfo(i);
+            DBDataType dataType = columnInfo.getDataType();
+            values[i] = dataType.getValueFromResultSet(resultSet, columnInfo.getResultSetColumnIndex());
+        }
+        this.dataStoreIndex = dataStore.append(values);
+    }
+
     @NotNull
     @Override
     public M getModel() {
@@ -48,6 +78,42 @@ public class ResultSetDataModelRow<
     @Nullable
     @Override
     public C getCellAtIndex(int index) {
-        return super.getCellAtIndex(index);
+        if (dataStore == null) {
+            return super.getCellAtIndex(index);
+        }
+
+        if (index < 0 || index >= dataStore.getColumnCount()) {
+            return null;
+        }
+
+        // cells of store backed rows are transient views, equal by row and column (see ResultSetDataModelCell)
+        Object userValue = dataStore.getValue(dataStoreIndex, index);
+        return (C) new ResultSetDataModelCell(this, userValue, index);
+    }
+
+    /**
+     * User value of the cell at the given index, without creating the cell for store backed rows
+     */
+    @Nullable
+    public Object getUserValueAtIndex(int index) {
+        if (dataStore == null) {
+            C cell = super.getCellAtIndex(index);
+            return cell == null ? null : cell.getUserValue();
+        }
+        return index < 0 || index >= dataStore.getColumnCount() ? null : dataStore.getValue(dataStoreIndex, index);
+    }
+
+    @Override
+    public List<C> getCells() {
+        if (dataStore == null) {
+            return super.getCells();
+        }
+
+        int columnCount = dataStore.getColumnCount();
+        List<C> cells = new ArrayList<>(columnCount);
+        for (int i = 0; i < columnCount; i++) {
+            cells.add(getCellAtIndex(i));
+        }
+        return cells;
     }
 }
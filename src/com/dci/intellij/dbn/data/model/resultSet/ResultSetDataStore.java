@@ -0,0 +1,292 @@
+package com.dci.intellij.dbn.data.model.resultSet;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.sql.Time;
+import java.sql.Timestamp;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Column oriented storage for the values of a read-only result set data model.
+ * Numeric and date values are held in primitive arrays, strings are dictionary encoded.
+ * A column falls back to plain object storage as soon as a value can not be represented
+ * in its primitive form without loss (the restored value must be equal and of the same class)
+ *
+ * A store is filled by one single fetch batch and not changed anymore once the rows of the batch
+ * are published to the model (it is not safe for concurrent appends and reads)
+ */
+public class ResultSetDataStore {
+    private static final int INITIAL_CAPACITY = 64;
+    private static final int MAX_DICTIONARY_SIZE = 0xFFFF;
+
+    private final Column[] columns;
+    private int size;
+
+    public ResultSetDataStore(int columnCount) {
+        this.columns = new Column[columnCount];
+    }
+
+    /**
+     * Appends a row of values
+     * @return the index of the row in the store
+     */
+    public int append(Object[] values) {
+        int index = size;
+        for (int i = 0; i < columns.length; i++) {
+            Object value = values[i];
+            if (value != null) {
+                Column column = columns[i];
+                if (column == null) {
+                    column = createColumn(value);
+                    columns[i] = column;
+                }
+
+                if (!column.set(index, value)) {
+                    column = new ObjectColumn(column, size);
+                    column.set(index, value);
+                    columns[i] = column;
+                }
+            }
+        }
+        size++;
+        return index;
+    }
+
+    public Object getValue(int rowIndex, int columnIndex) {
+        Column column = columns[columnIndex];
+        return column == null ? null : column.get(rowIndex);
+    }
+
+    public int getSize() {
+        return size;
+    }
+
+    public int getColumnCount() {
+        return columns.length;
+    }
+
+    private static Column createColumn(Object value) {
+        LongCodec codec = LongCodec.get(value);
+        if (codec != null) return new LongColumn(codec);
+        if (value instanceof BigDecimal) return new DecimalColumn();
+        if (value.getClass() == Double.class) return new DoubleColumn();
+        if (value instanceof String) return new StringColumn();
+        return new ObjectColumn();
+    }
+
+    private static int grow(int capacity, int index) {
+        int newCapacity = Math.max(capacity, INITIAL_CAPACITY);
+        while (newCapacity <= index) {
+            newCapacity = newCapacity + (newCapacity >> 1);
+        }
+        return newCapacity;
+    }
+
+    /**************************************************************
+     *                          Columns                           *
+     **************************************************************/
+    private interface Column {
+        Object get(int index);
+
+        /**
+         * @return false if the value can not be stored by this column
+         */
+        boolean set(int index, Object value);
+    }
+
+    private static class ObjectColumn implements Column {
+        private Object[] values = new Object[0];
+
+        ObjectColumn() {}
+
+        ObjectColumn(Column source, int size) {
+            values = new Object[grow(0, size)];
+            for (int i = 0; i < size; i++) {
+                values[i] = source.get(i);
+            }
+        }
+
+        @Override
+        public Object get(int index) {
+            return index < values.length ? values[index] : null;
+        }
+
+        @Override
+        public boolean set(int index, Object value) {
+            if (index >= values.length) values = Arrays.copyOf(values, grow(values.length, index));
+            values[index] = value;
+            return true;
+        }
+    }
+
+    private static class LongColumn implements Column {
+        private final LongCodec codec;
+        private final BitSet present = new BitSet();
+        private long[] values = new long[0];
+
+        LongColumn(LongCodec codec) {
+            this.codec = codec;
+        }
+
+        @Override
+        public Object get(int index) {
+            return present.get(index) ? codec.decode(values[index]) : null;
+        }
+
+        @Override
+        public boolean set(int index, Object value) {
+            if (!codec.accepts(value)) return false;
+            if (index >= values.length) values = Arrays.copyOf(values, grow(values.length, index));
+            values[index] = codec.encode(value);
+            present.set(index);
+            return true;
+        }
+    }
+
+    private static class DoubleColumn implements Column {
+        private final BitSet present = new BitSet();
+        private double[] values = new double[0];
+
+        @Override
+        public Object get(int index) {
+            return present.get(index) ? values[index] : null;
+        }
+
+        @Override
+        public boolean set(int index, Object value) {
+            if (value.getClass() != Double.class) return false;
+            if (index >= values.length) values = Arrays.copyOf(values, grow(values.length, index));
+            values[index] = (Double) value;
+            present.set(index);
+            return true;
+        }
+    }
+
+    /**
+     * Decimals as unscaled long value and scale (covers the vast majority of NUMBER values)
+     */
+    private static class DecimalColumn implements Column {
+        private final BitSet present = new BitSet();
+        private long[] unscaledValues = new long[0];
+        private byte[] scales = new byte[0];
+
+        @Override
+        public Object get(int index) {
+            return present.get(index) ? BigDecimal.valueOf(unscaledValues[index], scales[index]) : null;
+        }
+
+        @Override
+        public boolean set(int index, Object value) {
+            if (value.getClass() != BigDecimal.class) return false;
+
+            BigDecimal decimal = (BigDecimal) value;
+            int scale = decimal.scale();
+            BigInteger unscaledValue = decimal.unscaledValue();
+            if (scale < Byte.MIN_VALUE || scale > Byte.MAX_VALUE || unscaledValue.bitLength() > 63) return false;
+
+            if (index >= scales.length) {
+                int capacity = grow(scales.length, index);
+                unscaledValues = Arrays.copyOf(unscaledValues, capacity);
+                scales = Arrays.copyOf(scales, capacity);
+            }
+            unscaledValues[index] = unscaledValue.longValue();
+            scales[index] = (byte) scale;
+            present.set(index);
+            return true;
+        }
+    }
+
+    /**
+     * Dictionary encoded strings (code 0 is reserved for null)
+     */
+    private static class StringColumn implements Column {
+        private final List<String> dictionary = new ArrayList<>();
+        private final Map<String, Integer> codes = new HashMap<>();
+        private char[] values = new char[0];
+
+        @Override
+        public Object get(int index) {
+            int code = index < values.length ? values[index] : 0;
+            return code == 0 ? null : dictionary.get(code - 1);
+        }
+
+        @Override
+        public boolean set(int index, Object value) {
+            if (value.getClass() != String.class) return false;
+
+            String string = (String) value;
+            Integer code = codes.get(string);
+            if (code == null) {
+                if (dictionary.size() == MAX_DICTIONARY_SIZE) return false;
+                dictionary.add(string);
+                code = dictionary.size();
+                codes.put(string, code);
+            }
+
+            if (index >= values.length) values = Arrays.copyOf(values, grow(values.length, index));
+            values[index] = (char) code.intValue();
+            return true;
+        }
+    }
+
+    /**************************************************************
+     *                           Codecs                           *
+     **************************************************************/
+    private enum LongCodec {
+        INTEGER(Integer.class) {
+            @Override long encode(Object value) {return (Integer) value;}
+            @Override Object decode(long value) {return (int) value;}
+        },
+        LONG(Long.class) {
+            @Override long encode(Object value) {return (Long) value;}
+            @Override Object decode(long value) {return value;}
+        },
+        SHORT(Short.class) {
+            @Override long encode(Object value) {return (Short) value;}
+            @Override Object decode(long value) {return (short) value;}
+        },
+        DATE(java.sql.Date.class) {
+            @Override long encode(Object value) {return ((java.sql.Date) value).getTime();}
+            @Override Object decode(long value) {return new java.sql.Date(value);}
+        },
+        TIME(Time.class) {
+            @Override long encode(Object value) {return ((Time) value).getTime();}
+            @Override Object decode(long value) {return new Time(value);}
+        },
+        TIMESTAMP(Timestamp.class) {
+            @Override boolean accepts(Object value) {
+                // sub-millisecond precision can not be restored from the epoch millis
+                return super.accepts(value) && ((Timestamp) value).getNanos() % 1000000 == 0;
+            }
+            @Override long encode(Object value) {return ((Timestamp) value).getTime();}
+            @Override Object decode(long value) {return new Timestamp(value);}
+        };
+
+        private final Class<?> valueClass;
+
+        LongCodec(Class<?> valueClass) {
+            this.valueClass = valueClass;
+        }
+
+        boolean accepts(Object value) {
+            return value.getClass() == valueClass;
+        }
+
+        abstract long encode(Object value);
+        abstract Object decode(long value);
+
+        static LongCodec get(Object value) {
+            for (LongCodec codec : values()) {
+                if (codec.accepts(value)) {
+                    return codec;
+                }
+            }
+            return null;
+        }
+    }
+}
@@ -82,6 +82,46 @@ public class SortableDataModel<
         updateRowIndexes(rows, 0);
     }
 
+    /**
+     * Appends a batch of new rows in place. If sorting is active, the batch is sorted on its own
+     * and merged into the (already sorted) rows, leaving the leading rows untouched.
+     * Live rows must only be changed on the dispatch thread, where the ui reads them
+     * @return the index of the first row which changed position
+     */
+    protected int merge(List<R> rows, List<R> batch) {
+        if (rows instanceof FiltrableList) {
+            FiltrableList<R> filtrableList = (FiltrableList<R>) rows;
+            rows = filtrableList.getFullList();
+        }
+
+        int size = rows.size();
+        rows.addAll(batch);
+        int changeIndex = size;
+        if (getSortingState().isValid()) {
+            boolean nullsFirst = DataGridSettings.getInstance(getProject()).getSortingSettings().isNullsFirst();
+            if (nullsFirst != sortingNullsFirst) {
+                // existing rows were sorted with different settings
+                sort(rows);
+                return 0;
+            }
+
+            Collections.sort(batch);
+            int i = size - 1;
+            int j = batch.size() - 1;
+            int k = rows.size() - 1;
+            while (j > -1) {
+                if (i > -1 && rows.get(i).compareTo(batch.get(j)) > 0) {
+                    rows.set(k--, rows.get(i--));
+                } else {
+                    rows.set(k--, batch.get(j--));
+                }
+            }
+            changeIndex = k + 1;
+        }
+        updateRowIndexes(rows, changeIndex);
+        return changeIndex;
+    }
+
     private static final Comparator<DataModelRow> INDEX_COMPARATOR = new Comparator<DataModelRow>() {
         @Override
         public int compare(DataModelRow row1, DataModelRow row2) {
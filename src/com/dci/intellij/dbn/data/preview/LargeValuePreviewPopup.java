@@ -38,6 +38,8 @@ import java.sql.SQLException;
 
 public class LargeValuePreviewPopup extends DBNFormImpl {
     public static final int INITIAL_MAX_SIZE = 4000;
+    // larger contents are only shown entirely in the lob editor, which pages through them
+    public static final int MAX_SIZE = 1024 * 1024;
     private JPanel mainPanel;
     private JTextArea valueTextArea;
     private JScrollPane valueScrollPane;
@@ -123,15 +125,14 @@ public class LargeValuePreviewPopup extends DBNFormImpl {
         if (userValue instanceof LargeObjectValue) {
             LargeObjectValue largeObjectValue = (LargeObjectValue) userValue;
             try {
-                text = initial ?
-                        largeObjectValue.read(INITIAL_MAX_SIZE) :
-                        largeObjectValue.read();
+                int maxSize = initial ? INITIAL_MAX_SIZE : MAX_SIZE;
+                text = largeObjectValue.read(maxSize);
                 text = CommonUtil.nvl(text, "");
 
                 long contentSize = largeObjectValue.size();
-                if (initial && contentSize > INITIAL_MAX_SIZE) {
-                    contentInfoText = getNumberOfLines(text) + " lines, " + INITIAL_MAX_SIZE + " characters (partially loaded)";
-                    loadContentVisible = true;
+                if (contentSize > maxSize) {
+                    contentInfoText = getNumberOfLines(text) + " lines, " + maxSize + " characters (partially loaded)";
+                    loadContentVisible = initial;
                     loadContentCaption = "Load entire content";
                 } else {
                     contentInfoText = getNumberOfLines(text) + " lines, " + text.length() + " characters";
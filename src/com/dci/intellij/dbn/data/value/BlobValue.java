@@ -21,7 +21,6 @@ public class BlobValue extends LargeObjectValue {
     private static final Logger LOGGER = LoggerFactory.createLogger();
 
     private Blob blob;
-    private InputStream inputStream;
 
     public BlobValue() {}
 
@@ -118,33 +117,52 @@ public class BlobValue extends LargeObjectValue {
         } else {
             long totalLength = blob.length();
             int size = (int) (maxSize == 0 ? totalLength : Math.min(maxSize, totalLength));
+            InputStream inputStream = blob.getBinaryStream();
             try {
+                // read in chunks, the stream may return less than requested on a single call
                 byte[] buffer = new byte[size];
-                inputStream = blob.getBinaryStream();
-                inputStream.read(buffer, 0, size);
-                return new String(buffer);
+                int position = 0;
+                while (position < size) {
+                    int count = inputStream.read(buffer, position, Math.min(READ_CHUNK_SIZE, size - position));
+                    if (count == -1) break;
+                    position += count;
+                }
+                return new String(buffer, 0, position);
             } catch (IOException e) {
                 throw new SQLException("Could not read value from BLOB.");
             } finally {
-                if (totalLength <= size) {
-                    release();
-                }
+                close(inputStream);
             }
         }
     }
 
     @Override
-    public void release() {
+    public String read(long offset, int length) throws SQLException {
+        if (blob == null) {
+            return null;
+        } else {
+            long totalLength = blob.length();
+            if (offset >= totalLength) return "";
+
+            int size = (int) Math.min(length, totalLength - offset);
+            return new String(blob.getBytes(offset + 1, size));
+        }
+    }
+
+    private static void close(InputStream inputStream) {
         if (inputStream != null) {
             try {
                 inputStream.close();
-                inputStream = null;
             } catch (IOException e) {
                 LOGGER.error("Could not close BLOB input stream.", e);
             }
         }
     }
 
+    @Override
+    public void release() {
+        // streams are closed after every read
+    }
 
     @Override
     public long size() throws SQLException {
@@ -23,7 +23,6 @@ public class ClobValue extends LargeObjectValue {
     private static final Logger LOGGER = LoggerFactory.createLogger();
 
     private Clob clob;
-    private Reader reader;
 
     public ClobValue() {
     }
@@ -120,37 +119,58 @@ public class ClobValue extends LargeObjectValue {
 
     @Override
     public String read(int maxSize) throws SQLException {
-        if (clob == null) {            return null;
+        if (clob == null) {
+            return null;
         } else {
             long totalLength = clob.length();
             int size = (int) (maxSize == 0 ? totalLength : Math.min(maxSize, totalLength));
+            Reader reader = clob.getCharacterStream();
             try {
-                char[] buffer = new char[size];
-                reader = clob.getCharacterStream();
-                reader.read(buffer, 0, size);
-                return new String(buffer);
+                // read in chunks, the reader may return less than requested on a single call
+                StringBuilder buffer = new StringBuilder(size);
+                char[] chunk = new char[Math.min(READ_CHUNK_SIZE, Math.max(size, 1))];
+                while (buffer.length() < size) {
+                    int count = reader.read(chunk, 0, Math.min(chunk.length, size - buffer.length()));
+                    if (count == -1) break;
+                    buffer.append(chunk, 0, count);
+                }
+                return buffer.toString();
             } catch (IOException e) {
                 throw new SQLException("Could not read value from CLOB.");
             } finally {
-                if (totalLength <= size) {
-                    release();
-                }
+                close(reader);
             }
         }
     }
 
     @Override
-    public void release(){
+    public String read(long offset, int length) throws SQLException {
+        if (clob == null) {
+            return null;
+        } else {
+            long totalLength = clob.length();
+            if (offset >= totalLength) return "";
+
+            int size = (int) Math.min(length, totalLength - offset);
+            return clob.getSubString(offset + 1, size);
+        }
+    }
+
+    private static void close(Reader reader) {
         if (reader != null) {
             try {
                 reader.close();
-                reader = null;
             } catch (IOException e) {
                 LOGGER.error("Could not close CLOB input reader.", e);
             }
         }
     }
 
+    @Override
+    public void release(){
+        // readers are closed after every read
+    }
+
     @Override
     public long size() throws SQLException {
         return clob == null ? 0 : clob.length();
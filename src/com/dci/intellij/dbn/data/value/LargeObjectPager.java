@@ -0,0 +1,78 @@
+package com.dci.intellij.dbn.data.value;
+
+import com.dci.intellij.dbn.common.util.CommonUtil;
+import org.jetbrains.annotations.NotNull;
+
+import java.sql.SQLException;
+
+/**
+ * Fixed size pages of a large object value, read on demand. The most recently read pages
+ * are kept in a small ring buffer, so paging back and forth does not hit the database again.
+ */
+public class LargeObjectPager {
+    public static final int PAGE_SIZE = 256 * 1024;
+    private static final int BUFFER_SIZE = 4;
+
+    private final LargeObjectValue value;
+    private final long size;
+    private final int[] bufferedPages = new int[BUFFER_SIZE];
+    private final String[] bufferedContents = new String[BUFFER_SIZE];
+    private int bufferIndex;
+    private int page;
+
+    public LargeObjectPager(@NotNull LargeObjectValue value) throws SQLException {
+        this.value = value;
+        this.size = value.size();
+        for (int i = 0; i < BUFFER_SIZE; i++) {
+            bufferedPages[i] = -1;
+        }
+    }
+
+    public long getSize() {
+        return size;
+    }
+
+    public int getPage() {
+        return page;
+    }
+
+    public int getPageCount() {
+        return (int) Math.max(1, (size + PAGE_SIZE - 1) / PAGE_SIZE);
+    }
+
+    public long getPageStart() {
+        return (long) page * PAGE_SIZE;
+    }
+
+    public long getPageEnd() {
+        return Math.min(size, getPageStart() + PAGE_SIZE);
+    }
+
+    public boolean hasPreviousPage() {
+        return page > 0;
+    }
+
+    public boolean hasNextPage() {
+        return page < getPageCount() - 1;
+    }
+
+    /**
+     * Moves to the given page and returns its content
+     */
+    @NotNull
+    public synchronized String readPage(int page) throws SQLException {
+        page = Math.max(0, Math.min(page, getPageCount() - 1));
+        this.page = page;
+        for (int i = 0; i < BUFFER_SIZE; i++) {
+            if (bufferedPages[i] == page) {
+                return bufferedContents[i];
+            }
+        }
+
+        String content = CommonUtil.nvl(value.read((long) page * PAGE_SIZE, PAGE_SIZE), "");
+        bufferedPages[bufferIndex] = page;
+        bufferedContents[bufferIndex] = content;
+        bufferIndex = (bufferIndex + 1) % BUFFER_SIZE;
+        return content;
+    }
+}
@@ -3,7 +3,18 @@ package com.dci.intellij.dbn.data.value;
 import java.sql.SQLException;
 
 public abstract class LargeObjectValue extends ValueAdapter<String> {
+    protected static final int READ_CHUNK_SIZE = 8192;
+
     public abstract String read(int maxSize) throws SQLException;
+
+    /**
+     * Reads a segment of the content without streaming the content before it
+     * @param offset zero based start of the segment (characters for character lobs, bytes for binary lobs)
+     * @param length maximum length of the segment
+     * @return the segment, or null if the value is null
+     */
+    public abstract String read(long offset, int length) throws SQLException;
+
     public abstract long size() throws SQLException;
     public abstract void release();
 }
@@ -66,6 +66,15 @@ public class XmlTypeValue extends LargeObjectValue{
         return xmlType == null ? null : xmlType.getStringVal();
     }
 
+    @Override
+    @Nullable
+    public String read(long offset, int length) throws SQLException {
+        String value = read(0);
+        if (value == null) return null;
+        if (offset >= value.length()) return "";
+        return value.substring((int) offset, (int) Math.min(value.length(), offset + length));
+    }
+
     @Override
     public void write(Connection connection, PreparedStatement preparedStatement, int parameterIndex, @Nullable String value) throws SQLException {
         connection = DBNConnection.getInner(connection);
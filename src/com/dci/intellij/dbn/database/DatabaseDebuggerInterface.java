@@ -11,10 +11,12 @@ import com.dci.intellij.dbn.database.common.debug.DebuggerVersionInfo;
 import com.dci.intellij.dbn.database.common.debug.ExecutionBacktraceInfo;
 import com.dci.intellij.dbn.database.common.debug.ExecutionStatusInfo;
 import com.dci.intellij.dbn.database.common.debug.VariableInfo;
+import com.dci.intellij.dbn.database.common.debug.VariablesInfo;
 import com.dci.intellij.dbn.editor.DBContentType;
 import com.dci.intellij.dbn.object.type.DBObjectType;
 
 import java.sql.SQLException;
+import java.util.List;
 
 public interface DatabaseDebuggerInterface extends DatabaseInterface{
 
@@ -63,6 +65,11 @@ public interface DatabaseDebuggerInterface extends DatabaseInterface{
 
     VariableInfo getVariableInfo(String variableName, Integer frameNumber, DBNConnection connection) throws SQLException;
 
+    /**
+     * Reads the values of all given variables of the frame in one call
+     */
+    VariablesInfo getVariablesInfo(List<String> variableNames, Integer frameNumber, DBNConnection connection) throws SQLException;
+
     BasicOperationInfo setVariableValue(String variableName, Integer frameNumber, String value, DBNConnection connection) throws SQLException;
 
     ExecutionBacktraceInfo getExecutionBacktraceInfo(DBNConnection connection) throws SQLException;
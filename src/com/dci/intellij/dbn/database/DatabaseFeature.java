@@ -20,6 +20,7 @@ public enum DatabaseFeature {
     EXPLAIN_PLAN("Statement explain plan"),
     DATABASE_LOGGING("Database logging"),
     SESSION_CURRENT_SQL("Session current SQL"),
+    SESSION_CHANGES_LOADING("Loading only changed sessions"),
     SESSION_BROWSING("Session browsing"),
     SESSION_KILL("Kill session"),
     SESSION_DISCONNECT("Disconnect session"),
@@ -5,6 +5,7 @@ import org.jetbrains.annotations.NotNull;
 
 import java.sql.ResultSet;
 import java.sql.SQLException;
+import java.sql.Timestamp;
 import java.util.Date;
 
 public interface DatabaseMetadataInterface extends DatabaseInterface{
@@ -617,6 +618,18 @@ public interface DatabaseMetadataInterface extends DatabaseInterface{
      */
     ResultSet loadDebugObjects(String ownerName, DBNConnection connection) throws SQLException;
 
+    /**
+     * Loads the status of the objects of the given owner changed (LAST_DDL_TIME) since the given timestamp,
+     * together with all the invalid objects of the owner (objects get invalidated without their own ddl time changing).
+     * This is used to update the status of the objects incrementally.
+     *  <li> OBJECT_NAME (char)
+     *  <li> OBJECT_TYPE (char)
+     *  <li> STATUS (char - VALID / INVALID)
+     *  <li> DEBUGINFO (char - T / F)
+     *  <li> LAST_DDL_TIME (date)
+     */
+    ResultSet loadObjectStatusChanges(String ownerName, Timestamp changedSince, DBNConnection connection) throws SQLException;
+
     /**
      *  Loads object errors. To be used after compiling objects to hint on syntax errors.
      *  <li> LINE (number)
@@ -632,6 +645,12 @@ public interface DatabaseMetadataInterface extends DatabaseInterface{
 
     ResultSet loadObjectChangeTimestamp(String ownerName, String objectName, String objectType, DBNConnection connection) throws SQLException;
 
+    /**
+     * Loads the most recent LAST_DDL_TIME of the objects of the given owner
+     *  <li> LAST_DDL_TIME (date)
+     */
+    ResultSet loadSchemaChangeTimestamp(String ownerName, DBNConnection connection) throws SQLException;
+
     void enableTrigger(String ownerName, String triggerName, DBNConnection connection) throws SQLException;
 
     void disableTrigger(String ownerName, String triggerName, DBNConnection connection) throws SQLException;
@@ -642,6 +661,16 @@ public interface DatabaseMetadataInterface extends DatabaseInterface{
 
     ResultSet loadSessions(DBNConnection connection) throws SQLException;
 
+    /**
+     * Loads the sessions which were active in the last given number of seconds (same columns as {@link #loadSessions(DBNConnection)})
+     */
+    ResultSet loadSessionChanges(int seconds, DBNConnection connection) throws SQLException;
+
+    /**
+     * Loads the SESSION_ID and SERIAL_NUMBER of all sessions
+     */
+    ResultSet loadSessionIds(DBNConnection connection) throws SQLException;
+
     ResultSet loadSessionCurrentSql(Object sessionId, DBNConnection connection) throws SQLException;
 
     void killSession(Object sessionId, Object serialNumber, boolean immediate, DBNConnection connection) throws SQLException;
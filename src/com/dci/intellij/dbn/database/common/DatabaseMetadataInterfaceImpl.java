@@ -11,6 +11,7 @@ import org.jetbrains.annotations.NotNull;
 
 import java.sql.ResultSet;
 import java.sql.SQLException;
+import java.sql.Timestamp;
 import java.text.SimpleDateFormat;
 
 public abstract class DatabaseMetadataInterfaceImpl extends DatabaseInterfaceImpl implements DatabaseMetadataInterface {
@@ -377,6 +378,11 @@ public abstract class DatabaseMetadataInterfaceImpl extends DatabaseInterfaceImp
         return executeQuery(connection, "object-change-timestamp", ownerName, objectName, objectType);
     }
 
+    @Override
+    public ResultSet loadSchemaChangeTimestamp(String ownerName, DBNConnection connection) throws SQLException {
+        return executeQuery(connection, "schema-change-timestamp", ownerName);
+    }
+
     @Override
     public ResultSet loadInvalidObjects(String ownerName, DBNConnection connection) throws SQLException {
         return executeQuery(connection, "invalid-objects", ownerName);
@@ -387,6 +393,11 @@ public abstract class DatabaseMetadataInterfaceImpl extends DatabaseInterfaceImp
         return executeQuery(connection, "debug-objects", ownerName);
     }
 
+    @Override
+    public ResultSet loadObjectStatusChanges(String ownerName, Timestamp changedSince, DBNConnection connection) throws SQLException {
+        return executeQuery(connection, "object-status-changes", ownerName, changedSince);
+    }
+
     @Override
     public ResultSet loadCompileObjectErrors(String ownerName, String objectName, DBNConnection connection) throws SQLException {
         return executeQuery(connection, "object-compile-errors", ownerName, objectName);
@@ -428,6 +439,16 @@ public abstract class DatabaseMetadataInterfaceImpl extends DatabaseInterfaceImp
         return executeQuery(connection, "sessions");
     }
 
+    @Override
+    public ResultSet loadSessionChanges(int seconds, DBNConnection connection) throws SQLException {
+        return executeQuery(connection, "session-changes", seconds);
+    }
+
+    @Override
+    public ResultSet loadSessionIds(DBNConnection connection) throws SQLException {
+        return executeQuery(connection, "session-ids");
+    }
+
     @Override
     public ResultSet loadSessionCurrentSql(Object sessionId, DBNConnection connection) throws SQLException {
         return executeQuery(connection, "session-sql", sessionId);
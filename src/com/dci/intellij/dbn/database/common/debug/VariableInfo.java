@@ -7,6 +7,14 @@ import java.sql.Types;
 public class VariableInfo extends BasicOperationInfo {
     private String value;
 
+    public VariableInfo() {
+    }
+
+    VariableInfo(String value, String error) {
+        this.value = value;
+        this.error = error;
+    }
+
     @Override
     public void registerParameters(CallableStatement statement) throws SQLException {
         statement.registerOutParameter(1, Types.VARCHAR);
@@ -0,0 +1,52 @@
+package com.dci.intellij.dbn.database.common.debug;
+
+import com.dci.intellij.dbn.database.common.statement.CallableStatementOutput;
+import org.jetbrains.annotations.Nullable;
+
+import java.sql.CallableStatement;
+import java.sql.Clob;
+import java.sql.SQLException;
+import java.sql.Types;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Values of several variables read in one call. The listing holds one entry per variable (separated by chr(30)),
+ * each entry holding the variable name, the value (prefixed with 'V' if not null) and the error (separated by chr(31)).
+ */
+public class VariablesInfo implements CallableStatementOutput {
+    private static final String ENTRY_SEPARATOR = String.valueOf((char) 30);
+    private static final String FIELD_SEPARATOR = String.valueOf((char) 31);
+
+    private Map<String, VariableInfo> variables = new HashMap<>();
+
+    @Override
+    public void registerParameters(CallableStatement statement) throws SQLException {
+        statement.registerOutParameter(1, Types.CLOB);
+    }
+
+    @Override
+    public void read(CallableStatement statement) throws SQLException {
+        Clob clob = statement.getClob(1);
+        if (clob != null) {
+            try {
+                String listing = clob.getSubString(1, (int) clob.length());
+                for (String entry : listing.split(ENTRY_SEPARATOR)) {
+                    String[] fields = entry.split(FIELD_SEPARATOR, -1);
+                    if (fields.length == 3) {
+                        String value = fields[1].isEmpty() ? null : fields[1].substring(1);
+                        String error = fields[2].isEmpty() ? null : fields[2];
+                        variables.put(fields[0], new VariableInfo(value, error));
+                    }
+                }
+            } finally {
+                clob.free();
+            }
+        }
+    }
+
+    @Nullable
+    public VariableInfo getVariableInfo(String variableName) {
+        return variables.get(variableName);
+    }
+}
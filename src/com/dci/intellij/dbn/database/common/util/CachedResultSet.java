@@ -14,8 +14,14 @@ import org.jetbrains.annotations.Nullable;
 import java.sql.ResultSet;
 import java.sql.SQLException;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.IdentityHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 import java.util.stream.Collectors;
 
 import static com.dci.intellij.dbn.common.util.CommonUtil.nvl;
@@ -66,10 +72,9 @@ public class CachedResultSet extends DisposableBase implements ResultSetStub {
         } else {
             List<CachedResultSetRow> groupedRows = new ArrayList<>();
             try {
-
+                Set<RowKey> groupKeys = new HashSet<>();
                 for (CachedResultSetRow row : rows) {
-                    CachedResultSetRow matchingRow = find(groupedRows, row, columns);
-                    if (matchingRow == null) {
+                    if (groupKeys.add(new RowKey(row.get(columns)))) {
                         groupedRows.add(row.clone(columns));
                     } else {
                         // TODO ignore or pivot the rest of columns?
@@ -83,6 +88,18 @@ public class CachedResultSet extends DisposableBase implements ResultSetStub {
         }
     });
 
+    /**
+     * Hash indexes of the rows by the values of the key columns, built on first lookup
+     */
+    private MapLatent<Columns, Map<RowKey, List<CachedResultSetRow>>, RuntimeException> indexes = MapLatent.create(columns -> {
+        Map<RowKey, List<CachedResultSetRow>> index = new HashMap<>();
+        for (CachedResultSetRow row : rows) {
+            RowKey key = new RowKey(row.get(columns));
+            index.computeIfAbsent(key, k -> new ArrayList<>(1)).add(row);
+        }
+        return index;
+    });
+
     private CachedResultSet(@Nullable ResultSet source, @Nullable ResultSetCondition condition) throws SQLException {
         if (source instanceof CachedResultSet) {
             CachedResultSet cachedResultSet = (CachedResultSet) source;
@@ -124,9 +141,10 @@ public class CachedResultSet extends DisposableBase implements ResultSetStub {
      * @throws SQLException propagated from original result set evaluations
      */
     private void load(@NotNull ResultSet resultSet, @Nullable ResultSetCondition condition) throws SQLException {
+        CachedResultSetHeader header = new CachedResultSetHeader(columnNames);
         ResultSetUtil.forEachRow(resultSet, () -> {
             if (condition == null || condition.evaluate(resultSet)) {
-                CachedResultSetRow row = CachedResultSetRow.create(resultSet, columnNames);
+                CachedResultSetRow row = CachedResultSetRow.create(resultSet, header, columnNames);
                 rows.add(row);
             }
         });
@@ -140,6 +158,17 @@ public class CachedResultSet extends DisposableBase implements ResultSetStub {
         return new CachedResultSet(resultSet, condition);
     }
 
+    /**
+     * Creates a result set from already materialized rows (e.g. restored from a local snapshot)
+     */
+    public static CachedResultSet create(@NotNull List<String> columnNames, @NotNull List<CachedResultSetRow> rows) {
+        return new CachedResultSet(rows, columnNames);
+    }
+
+    public List<String> columnNames() {
+        return columnNames == null ? Collections.emptyList() : columnNames;
+    }
+
     public List<CachedResultSetRow> rows() {
         return rows;
     }
@@ -187,10 +216,15 @@ public class CachedResultSet extends DisposableBase implements ResultSetStub {
         columnNames = columnNames.stream().
                 map(columnName -> nvl(columnMapper.map(columnName), columnName)).
                 collect(Collectors.toList());
-        for (int i = 0; i < rows.size(); i++) {
-            CachedResultSetRow row = rows.get(i);
-            row.normalize(columnMapper);
+        // rows loaded from the same source share their header
+        Set<CachedResultSetHeader> headers = Collections.newSetFromMap(new IdentityHashMap<>());
+        for (CachedResultSetRow row : rows) {
+            CachedResultSetHeader header = row.getHeader();
+            if (headers.add(header)) {
+                header.normalize(columnMapper);
+            }
         }
+        indexes.reset();
         return this;
     }
 
@@ -200,6 +234,7 @@ public class CachedResultSet extends DisposableBase implements ResultSetStub {
             CachedResultSetRow row = rows.get(i);
             row.extend(columnName, value.resolve(this, i));
         }
+        indexes.reset();
         return this;
     }
 
@@ -249,6 +284,44 @@ public class CachedResultSet extends DisposableBase implements ResultSetStub {
         return first(whereCondition) != null;
     }
 
+    /**
+     * Rows having the given values in the key columns, looked up in a hash index of the key columns.
+     * The key columns should be a constant, as it identifies the index.
+     */
+    @NotNull
+    public List<CachedResultSetRow> lookup(@NotNull Columns keyColumns, Object ... keyValues) {
+        List<CachedResultSetRow> rows = indexes.get(keyColumns).get(new RowKey(keyValues));
+        return rows == null ? Collections.emptyList() : rows;
+    }
+
+    /**
+     * First row having the given values in the key columns and matching the condition
+     * @see #lookup(Columns, Object...)
+     */
+    @Nullable
+    public CachedResultSetRow first(@NotNull Condition whereCondition, @NotNull Columns keyColumns, Object ... keyValues) throws SQLException {
+        for (CachedResultSetRow row : lookup(keyColumns, keyValues)) {
+            if (whereCondition.evaluate(row)) {
+                return row;
+            }
+        }
+        return null;
+    }
+
+    @Nullable
+    public CachedResultSetRow first(@NotNull Columns keyColumns, Object ... keyValues) {
+        List<CachedResultSetRow> rows = lookup(keyColumns, keyValues);
+        return rows.isEmpty() ? null : rows.get(0);
+    }
+
+    public boolean exists(@NotNull Condition whereCondition, @NotNull Columns keyColumns, Object ... keyValues) throws SQLException {
+        return first(whereCondition, keyColumns, keyValues) != null;
+    }
+
+    public boolean exists(@NotNull Columns keyColumns, Object ... keyValues) {
+        return !lookup(keyColumns, keyValues).isEmpty();
+    }
+
     @NotNull
     public <T> List<T> list(String columnName, Class<T> columnType) {
         List<T> list = new ArrayList<>();
@@ -317,14 +390,27 @@ public class CachedResultSet extends DisposableBase implements ResultSetStub {
         }
     }
 
-    private static CachedResultSetRow find(List<CachedResultSetRow> list, CachedResultSetRow match, Columns columns) {
-        for (int i = 0; i < list.size(); i++) {
-            CachedResultSetRow row = list.get(i);
-            if (row.matches(match, columns)) {
-                return row;
-            }
+    private static class RowKey {
+        private final Object[] values;
+        private final int hashCode;
+
+        RowKey(Object[] values) {
+            this.values = values;
+            this.hashCode = Arrays.hashCode(values);
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) return true;
+            if (!(o instanceof RowKey)) return false;
+            RowKey that = (RowKey) o;
+            return hashCode == that.hashCode && Arrays.equals(values, that.values);
+        }
+
+        @Override
+        public int hashCode() {
+            return hashCode;
         }
-        return null;
     }
 
     @FunctionalInterface
@@ -332,13 +418,11 @@ public class CachedResultSet extends DisposableBase implements ResultSetStub {
         boolean evaluate(CachedResultSetRow row) throws SQLException;
 
         static Condition in(CachedResultSet source, Columns matchColumns) {
-            return row -> source.exists(sourceRow ->
-                    sourceRow.matches(row, matchColumns));
+            return row -> source.exists(matchColumns, row.get(matchColumns));
         }
 
         static Condition notIn(CachedResultSet source, Columns matchColumns) {
-            return row -> !source.exists(sourceRow ->
-                    sourceRow.matches(row, matchColumns));
+            return row -> !source.exists(matchColumns, row.get(matchColumns));
         }
     }
 
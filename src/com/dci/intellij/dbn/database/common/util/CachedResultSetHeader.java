@@ -0,0 +1,48 @@
+package com.dci.intellij.dbn.database.common.util;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Column name to value index mapping, shared by all the rows loaded from the same source
+ */
+public class CachedResultSetHeader {
+    private final Map<String, Integer> indexes = new ConcurrentHashMap<>();
+    private int columnCount;
+
+    public CachedResultSetHeader(List<String> columnNames) {
+        for (String columnName : columnNames) {
+            add(columnName);
+        }
+    }
+
+    int indexOf(String columnName) {
+        Integer index = indexes.get(columnName);
+        return index == null ? -1 : index;
+    }
+
+    /**
+     * @return the index of the column, added at the end if not yet present
+     */
+    synchronized int add(String columnName) {
+        return indexes.computeIfAbsent(columnName, name -> columnCount++);
+    }
+
+    synchronized void normalize(CachedResultSet.Mapper<String> columnMapper) {
+        for (String columnName : new ArrayList<>(indexes.keySet())) {
+            String newColumnName = columnMapper.map(columnName);
+            if (newColumnName != null && !newColumnName.equals(columnName)) {
+                rename(columnName, newColumnName);
+            }
+        }
+    }
+
+    private void rename(String columnName, String newColumnName) {
+        Integer index = indexes.remove(columnName);
+        if (index != null) {
+            indexes.put(newColumnName, index);
+        }
+    }
+}
@@ -6,33 +6,51 @@ import org.jetbrains.annotations.Nullable;
 
 import java.sql.ResultSet;
 import java.sql.SQLException;
-import java.util.HashMap;
-import java.util.HashSet;
+import java.util.Arrays;
 import java.util.List;
-import java.util.Map;
 
 import static com.dci.intellij.dbn.database.common.util.CachedResultSet.Columns;
 
+/**
+ * Row values held in an array, positioned by the column indexes of the header shared with the other rows of the same source
+ */
 public class CachedResultSetRow {
-    private Map<String, Object> values = new HashMap<>();
+    private static final Object[] NO_VALUES = new Object[0];
 
-    private CachedResultSetRow(@Nullable ResultSet source, List<String> columnNames) throws SQLException {
-        if (source != null) {
-            for (String columnName : columnNames) {
-                Object columnValue = source.getObject(columnName);
-                values.put(columnName, columnValue);
-            }
+    private final CachedResultSetHeader header;
+    private Object[] values;
+
+    private CachedResultSetRow(CachedResultSetHeader header, Object[] values) {
+        this.header = header;
+        this.values = values;
+    }
+
+    public static CachedResultSetRow create(ResultSet source, CachedResultSetHeader header, List<String> columnNames) throws SQLException {
+        Object[] values = new Object[columnNames.size()];
+        for (String columnName : columnNames) {
+            values[header.indexOf(columnName)] = source.getObject(columnName);
         }
+        return new CachedResultSetRow(header, values);
     }
 
-    public static CachedResultSetRow create(ResultSet source, List<String> columnNames) throws SQLException {
-        return new CachedResultSetRow(source, columnNames);
+    public static CachedResultSetRow create(CachedResultSetHeader header, Object[] values) {
+        return new CachedResultSetRow(header, values);
     }
 
+    @Nullable
     public Object get(String columnName) {
-        return values.get(columnName);
+        int index = header.indexOf(columnName);
+        return index >= 0 && index < values.length ? values[index] : null;
     }
 
+    Object[] get(Columns columns) {
+        String[] columnNames = columns.names();
+        Object[] values = new Object[columnNames.length];
+        for (int i = 0; i < columnNames.length; i++) {
+            values[i] = get(columnNames[i]);
+        }
+        return values;
+    }
 
     public boolean matches(CachedResultSetRow that, Columns columns) {
         for (String columnName : columns.names()) {
@@ -46,35 +64,32 @@ public class CachedResultSetRow {
     }
 
     public CachedResultSetRow clone(Columns columns) throws SQLException {
-        CachedResultSetRow clone = new CachedResultSetRow(null, null);
-        String[] columnNames = columns.names();
-        for (String columnName : values.keySet()) {
-            if (StringUtil.isOneOf(columnName, columnNames)) {
-                Object columnValue = get(columnName);
-                clone.values.put(columnName, columnValue);
+        Object[] cloneValues = values.length == 0 ? NO_VALUES : new Object[values.length];
+        for (String columnName : columns.names()) {
+            int index = header.indexOf(columnName);
+            if (index >= 0 && index < values.length) {
+                cloneValues[index] = values[index];
             }
         }
-        return clone;
+        return new CachedResultSetRow(header, cloneValues);
     }
 
     void extend(String columnName, Object columnValue){
-        values.put(columnName, columnValue);
+        int index = header.add(columnName);
+        if (index >= values.length) {
+            values = Arrays.copyOf(values, index + 1);
+        }
+        values[index] = columnValue;
     }
 
-    void normalize(CachedResultSet.Mapper<String> columnMapper) {
-        for (String columnName : new HashSet<>(values.keySet())) {
-            String newColumnName = columnMapper.map(columnName);
-            if (newColumnName != null && !newColumnName.equals(columnName)) {
-                Object columnValue = values.remove(columnName);
-                values.put(newColumnName, columnValue);
-            }
-        }
+    CachedResultSetHeader getHeader() {
+        return header;
     }
 
     @Override
     public String toString() {
         StringBuilder builder = new StringBuilder();
-        for (Object column : values.values()) {
+        for (Object column : values) {
             if (builder.length() > 0) builder.append(" / ");
             builder.append(column);
         }
@@ -54,6 +54,14 @@ public class GenericMetadataInterface extends DatabaseMetadataInterfaceImpl {
             "TABLE_NAME",
             "PK_NAME"};
 
+    private static final Columns KEY_COLUMN_IDENTIFIER = () -> new String[]{
+            "TABLE_NAME",
+            "COLUMN_NAME"};
+
+    private static final Columns FK_COLUMN_IDENTIFIER = () -> new String[]{
+            "FKTABLE_NAME",
+            "FKCOLUMN_NAME"};
+
     private static final Columns FK_IDENTIFIER = () -> new String[]{
             "PKTABLE_CAT",
             "PKTABLE_SCHEM",
@@ -167,18 +175,16 @@ public class GenericMetadataInterface extends DatabaseMetadataInterfaceImpl {
                 CachedResultSet primaryKeysRs = loadPrimaryKeysRaw(ownerName, datasetName, connection);
                 return primaryKeysRs.exists(row ->
                         row.get("PK_NAME") != null &&
-                        match(ownerName,   resolveOwner(row, "TABLE_CAT", "TABLE_SCHEM")) &&
-                        match(datasetName, row.get("TABLE_NAME")) &&
-                        match(columnName,  row.get("COLUMN_NAME")));
+                        match(ownerName,   resolveOwner(row, "TABLE_CAT", "TABLE_SCHEM")),
+                        KEY_COLUMN_IDENTIFIER, datasetName, columnName);
             }
 
             @Override
             protected boolean isForeignKey(String ownerName, String datasetName, String columnName) throws SQLException {
                 CachedResultSet foreignKeysRs = loadForeignKeysRaw(ownerName, datasetName, connection);
                 return foreignKeysRs.exists(row ->
-                        match(ownerName,   resolveOwner(row, "FKTABLE_CAT", "FKTABLE_SCHEM")) &&
-                        match(datasetName, row.get("FKTABLE_NAME")) &&
-                        match(columnName,  row.get("FKCOLUMN_NAME")));
+                        match(ownerName,   resolveOwner(row, "FKTABLE_CAT", "FKTABLE_SCHEM")),
+                        FK_COLUMN_IDENTIFIER, datasetName, columnName);
             }
 
             @Override
@@ -186,9 +192,8 @@ public class GenericMetadataInterface extends DatabaseMetadataInterfaceImpl {
                 CachedResultSet primaryKeysRs = loadPrimaryKeysRaw(ownerName, datasetName, connection);
                 return primaryKeysRs.exists(row ->
                         row.get("PK_NAME") == null &&
-                                match(ownerName,   resolveOwner(row, "TABLE_CAT", "TABLE_SCHEM")) &&
-                                match(datasetName, row.get("TABLE_NAME")) &&
-                                match(columnName,  row.get("COLUMN_NAME")));
+                                match(ownerName,   resolveOwner(row, "TABLE_CAT", "TABLE_SCHEM")),
+                        KEY_COLUMN_IDENTIFIER, datasetName, columnName);
             }
         };
     }
@@ -408,9 +413,11 @@ public class GenericMetadataInterface extends DatabaseMetadataInterfaceImpl {
     private static CachedResultSet.ColumnValue methodOverloadEnricher() {
         return (resultSet, index) -> {
             CachedResultSetRow currentRow = resultSet.rowAt(index);
-            int count = resultSet.count(row -> row.matches(currentRow, METHOD_SIMPLE_IDENTIFIER));
-            if (count > 1) {
-                CachedResultSetRow previousRow = resultSet.previous(row -> row.matches(currentRow, METHOD_SIMPLE_IDENTIFIER), index);
+            List<CachedResultSetRow> overloads = resultSet.lookup(METHOD_SIMPLE_IDENTIFIER, currentRow.get(METHOD_SIMPLE_IDENTIFIER));
+            if (overloads.size() > 1) {
+                // overloads are indexed in row order, and rows are enriched in row order
+                int position = overloads.indexOf(currentRow);
+                CachedResultSetRow previousRow = position > 0 ? overloads.get(position - 1) : null;
                 int previousOverload = previousRow == null ? 0 : (int) previousRow.get("METHOD_OVERLOAD");
                 return previousOverload + 1;
             }
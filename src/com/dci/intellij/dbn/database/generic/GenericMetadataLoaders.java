@@ -20,6 +20,9 @@ import static com.dci.intellij.dbn.database.DatabaseInterface.cached;
 import static com.dci.intellij.dbn.database.generic.GenericMetadataTranslators.resolve;
 
 public interface GenericMetadataLoaders {
+    CachedResultSet.Columns SCHEMA_IDENTIFIER = () -> new String[]{"TABLE_SCHEM"};
+    CachedResultSet.Columns CATALOG_IDENTIFIER = () -> new String[]{"TABLE_CAT"};
+
     CachedResultSet.Mapper<String> METHOD_COLUMNS = original -> {
         switch (original) {
             case "FUNCTION_CAT":
@@ -248,7 +251,7 @@ public interface GenericMetadataLoaders {
                         return new String[]{ownerName, null};
                     } else {
                         CachedResultSet schemasRs = loadSchemasRaw(connection);
-                        CachedResultSetRow schemaRow = schemasRs.first(row -> ownerName.equals(row.get("TABLE_SCHEM")));
+                        CachedResultSetRow schemaRow = schemasRs.first(SCHEMA_IDENTIFIER, ownerName);
                         String catalogName = schemaRow == null ? null : (String) schemaRow.get("TABLE_CATALOG");
                         return new String[]{catalogName, ownerName};
                     }
@@ -284,7 +287,7 @@ public interface GenericMetadataLoaders {
                 return true;
             } else {
                 CachedResultSet catalogsRs = loadCatalogsRaw(connection);
-                return catalogsRs.exists(row -> catalog.equals(row.get("TABLE_CAT")));
+                return catalogsRs.exists(CATALOG_IDENTIFIER, catalog);
             }
         }
     }
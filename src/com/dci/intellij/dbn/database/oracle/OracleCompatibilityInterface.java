@@ -44,6 +44,7 @@ public class OracleCompatibilityInterface extends DatabaseCompatibilityInterface
             case SESSION_DISCONNECT: return true;
             case SESSION_KILL: return true;
             case SESSION_CURRENT_SQL: return true;
+            case SESSION_CHANGES_LOADING: return true;
             case CONNECTION_ERROR_RECOVERY: return true;
             case UPDATABLE_RESULT_SETS: return true;
             case CURRENT_SCHEMA: return true;
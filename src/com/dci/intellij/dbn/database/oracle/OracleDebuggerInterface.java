@@ -15,10 +15,12 @@ import com.dci.intellij.dbn.database.common.debug.DebuggerVersionInfo;
 import com.dci.intellij.dbn.database.common.debug.ExecutionBacktraceInfo;
 import com.dci.intellij.dbn.database.common.debug.ExecutionStatusInfo;
 import com.dci.intellij.dbn.database.common.debug.VariableInfo;
+import com.dci.intellij.dbn.database.common.debug.VariablesInfo;
 import com.dci.intellij.dbn.editor.DBContentType;
 import com.dci.intellij.dbn.object.type.DBObjectType;
 
 import java.sql.SQLException;
+import java.util.List;
 import java.util.StringTokenizer;
 
 import static com.dci.intellij.dbn.editor.code.content.GuardedBlockMarker.END_OFFSET_IDENTIFIER;
@@ -154,6 +156,12 @@ public class OracleDebuggerInterface extends DatabaseDebuggerInterfaceImpl imple
         return executeCall(connection, new VariableInfo(), "get-variable", variableName, frameNumber);
     }
 
+    @Override
+    public VariablesInfo getVariablesInfo(List<String> variableNames, Integer frameNumber, DBNConnection connection) throws SQLException {
+        String variableNamesList = String.join(",", variableNames);
+        return executeCall(connection, new VariablesInfo(), "get-variables", variableNamesList, frameNumber);
+    }
+
     @Override
     public BasicOperationInfo setVariableValue(String variableName, Integer frameNumber, String value, DBNConnection connection) throws SQLException {
         return executeCall(connection, new BasicOperationInfo(), "set-variable-value", frameNumber, variableName, value);
@@ -29,13 +29,19 @@ import com.dci.intellij.dbn.options.ProjectSettingsManager;
 import com.dci.intellij.dbn.vfs.DatabaseFileSystem;
 import com.dci.intellij.dbn.vfs.file.DBEditableObjectVirtualFile;
 import com.dci.intellij.dbn.vfs.file.DBSourceCodeVirtualFile;
+import com.intellij.ProjectTopics;
 import com.intellij.openapi.components.PersistentStateComponent;
 import com.intellij.openapi.components.State;
 import com.intellij.openapi.components.Storage;
 import com.intellij.openapi.editor.Document;
 import com.intellij.openapi.fileChooser.FileChooser;
 import com.intellij.openapi.fileChooser.FileChooserDescriptor;
+import com.intellij.openapi.fileTypes.FileTypeEvent;
+import com.intellij.openapi.fileTypes.FileTypeListener;
+import com.intellij.openapi.fileTypes.FileTypeManager;
 import com.intellij.openapi.project.Project;
+import com.intellij.openapi.roots.ModuleRootEvent;
+import com.intellij.openapi.roots.ModuleRootListener;
 import com.intellij.openapi.ui.DialogWrapper;
 import com.intellij.openapi.ui.SelectFromListDialog;
 import com.intellij.openapi.util.text.StringUtil;
@@ -43,6 +49,8 @@ import com.intellij.openapi.vfs.VirtualFile;
 import com.intellij.openapi.vfs.VirtualFileEvent;
 import com.intellij.openapi.vfs.VirtualFileListener;
 import com.intellij.openapi.vfs.VirtualFileManager;
+import com.intellij.openapi.vfs.VirtualFileMoveEvent;
+import com.intellij.openapi.vfs.VirtualFilePropertyEvent;
 import org.jdom.Element;
 import org.jetbrains.annotations.NonNls;
 import org.jetbrains.annotations.NotNull;
@@ -52,8 +60,6 @@ import javax.swing.*;
 import java.io.File;
 import java.io.IOException;
 import java.util.ArrayList;
-import java.util.Arrays;
-import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 
@@ -68,11 +74,16 @@ public class DDLFileAttachmentManager extends AbstractProjectComponent implement
 
     public static final String COMPONENT_NAME = "DBNavigator.Project.DDLFileAttachmentManager";
 
-    private Map<String, DBObjectRef<DBSchemaObject>> mappings = new HashMap<>();
+    private final DDLFileAttachmentRegistry mappings = new DDLFileAttachmentRegistry();
+    private final DDLFileLookupIndex lookupIndex;
+
     private DDLFileAttachmentManager(Project project) {
         super(project);
+        lookupIndex = new DDLFileLookupIndex(project);
         VirtualFileManager.getInstance().addVirtualFileListener(virtualFileListener);
         EventUtil.subscribe(project, project, SourceCodeManagerListener.TOPIC, sourceCodeManagerListener);
+        EventUtil.subscribe(project, project, ProjectTopics.PROJECT_ROOTS, moduleRootListener);
+        EventUtil.subscribe(project, FileTypeManager.TOPIC, fileTypeListener);
     }
 
     private SourceCodeManagerListener sourceCodeManagerListener = new SourceCodeManagerAdapter() {
@@ -127,11 +138,7 @@ public class DDLFileAttachmentManager extends AbstractProjectComponent implement
 
 
     public boolean hasAttachedDDLFiles(DBObjectRef<DBSchemaObject> objectRef) {
-        for (String filePath : mappings.keySet()) {
-            DBObjectRef<DBSchemaObject> mappedObjectRef = mappings.get(filePath);
-            if (mappedObjectRef.equals(objectRef)) return true;
-        }
-        return false;
+        return mappings.hasFileUrls(objectRef);
     }
 
 
@@ -177,7 +184,7 @@ public class DDLFileAttachmentManager extends AbstractProjectComponent implement
 
     public void attachDDLFile(DBObjectRef<DBSchemaObject> objectRef, VirtualFile virtualFile) {
         if (objectRef != null) {
-            mappings.put(virtualFile.getUrl(), objectRef);
+            mappings.add(virtualFile.getUrl(), objectRef);
             EventUtil.notify(getProject(),
                     DDLFileAttachmentManagerListener.TOPIC,
                     (listener) -> listener.ddlFileAttached(virtualFile));
@@ -191,7 +198,7 @@ public class DDLFileAttachmentManager extends AbstractProjectComponent implement
         FileConnectionMappingManager connectionMappingManager = FileConnectionMappingManager.getInstance(getProject());
         ConnectionHandler activeConnection = connectionMappingManager.getConnectionHandler(virtualFile);
         if (activeConnection == null) {
-            DBSchemaObject schemaObject = objectRef.get();
+            DBSchemaObject schemaObject = DBObjectRef.get(objectRef);
             if (schemaObject != null) {
                 ConnectionHandler connectionHandler = schemaObject.getConnectionHandler();
                 connectionMappingManager.setConnectionHandler(virtualFile, connectionHandler);
@@ -207,14 +214,9 @@ public class DDLFileAttachmentManager extends AbstractProjectComponent implement
     private List<VirtualFile> lookupApplicableDDLFiles(@NotNull DBObjectRef<DBSchemaObject> objectRef) {
         List<VirtualFile> fileList = new ArrayList<>();
 
-        Project project = getProject();
         List<DDLFileType> ddlFileTypes = getDdlFileTypes(objectRef);
         for (DDLFileType ddlFileType : ddlFileTypes) {
-            for (String extension : ddlFileType.getExtensions()) {
-                String fileName = objectRef.getFileName().toLowerCase() + '.' + extension;
-                VirtualFile[] files = VirtualFileUtil.lookupFilesForName(project, fileName);
-                fileList.addAll(Arrays.asList(files));
-            }
+            fileList.addAll(lookupIndex.lookup(objectRef.getFileName(), ddlFileType.getExtensions()));
         }
         return fileList;
     }
@@ -409,15 +411,9 @@ public class DDLFileAttachmentManager extends AbstractProjectComponent implement
         return null;
     }
 
+    @NotNull
     private List<String> getAttachedFileUrls(DBObjectRef<DBSchemaObject> objectRef) {
-        List<String> fileUrls = new ArrayList<>();
-        for (String fileUrl : mappings.keySet()) {
-            DBObjectRef<DBSchemaObject> fileObjectRef = mappings.get(fileUrl);
-            if (fileObjectRef.equals(objectRef)) {
-                fileUrls.add(fileUrl);
-            }
-        }
-        return fileUrls;
+        return mappings.getFileUrls(objectRef);
     }
 
     /***************************************
@@ -439,8 +435,14 @@ public class DDLFileAttachmentManager extends AbstractProjectComponent implement
      ************************************************/
 
     private VirtualFileListener virtualFileListener = new VirtualFileListener() {
+        @Override
+        public void fileCreated(@NotNull VirtualFileEvent event) {
+            lookupIndex.fileCreated(event.getFile());
+        }
+
         @Override
         public void fileDeleted(@NotNull VirtualFileEvent event) {
+            lookupIndex.fileDeleted(event.getFile());
             DBObjectRef<DBSchemaObject> objectRef = mappings.get(event.getFile().getUrl());
             DBSchemaObject object = DBObjectRef.get(objectRef);
             if (object != null) {
@@ -448,6 +450,36 @@ public class DDLFileAttachmentManager extends AbstractProjectComponent implement
                 DatabaseFileSystem.getInstance().reopenEditor(object);
             }
         }
+
+        @Override
+        public void fileMoved(@NotNull VirtualFileMoveEvent event) {
+            lookupIndex.fileMoved(event.getFile());
+        }
+
+        @Override
+        public void propertyChanged(@NotNull VirtualFilePropertyEvent event) {
+            if (VirtualFile.PROP_NAME.equals(event.getPropertyName())) {
+                lookupIndex.fileRenamed(event.getFile(), (String) event.getOldValue());
+            }
+        }
+    };
+
+    /************************************************
+     *        ModuleRootListener, FileTypeListener  *
+     ************************************************/
+
+    private ModuleRootListener moduleRootListener = new ModuleRootListener() {
+        @Override
+        public void rootsChanged(ModuleRootEvent event) {
+            lookupIndex.invalidate();
+        }
+    };
+
+    private FileTypeListener fileTypeListener = new FileTypeListener() {
+        @Override
+        public void fileTypesChanged(@NotNull FileTypeEvent event) {
+            lookupIndex.invalidate();
+        }
     };
 
     /*********************************************
@@ -457,10 +489,10 @@ public class DDLFileAttachmentManager extends AbstractProjectComponent implement
     @Override
     public Element getState() {
         Element element = new Element("state");
-        for (String fileUrl : mappings.keySet()) {
+        for (Map.Entry<String, DBObjectRef<DBSchemaObject>> mapping : mappings.getAll().entrySet()) {
             Element childElement = new Element("mapping");
-            childElement.setAttribute("file-url", fileUrl);
-            DBObjectRef<DBSchemaObject> objectRef = mappings.get(fileUrl);
+            childElement.setAttribute("file-url", mapping.getKey());
+            DBObjectRef<DBSchemaObject> objectRef = mapping.getValue();
             objectRef.writeState(childElement);
             element.addContent(childElement);
         }
@@ -486,7 +518,7 @@ public class DDLFileAttachmentManager extends AbstractProjectComponent implement
                 if (virtualFile != null) {
                     DBObjectRef<DBSchemaObject> objectRef = DBObjectRef.from(childElement);
                     if (objectRef != null) {
-                        mappings.put(fileUrl, objectRef);
+                        mappings.add(fileUrl, objectRef);
                     }
                 }
             }
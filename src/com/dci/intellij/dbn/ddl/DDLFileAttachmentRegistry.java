@@ -0,0 +1,69 @@
+package com.dci.intellij.dbn.ddl;
+
+import com.dci.intellij.dbn.object.common.DBSchemaObject;
+import com.dci.intellij.dbn.object.lookup.DBObjectRef;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * DDL file attachments keyed by file url, with a reverse index of the attached file urls by object.
+ * Lookups are lock free, changes go through the registry for both directions to stay consistent.
+ */
+class DDLFileAttachmentRegistry {
+    private final Map<String, DBObjectRef<DBSchemaObject>> mappings = new ConcurrentHashMap<>();
+    private final Map<DBObjectRef<DBSchemaObject>, Set<String>> objectMappings = new ConcurrentHashMap<>();
+
+    @Nullable
+    DBObjectRef<DBSchemaObject> get(String fileUrl) {
+        return mappings.get(fileUrl);
+    }
+
+    @NotNull
+    Map<String, DBObjectRef<DBSchemaObject>> getAll() {
+        return mappings;
+    }
+
+    @NotNull
+    List<String> getFileUrls(DBObjectRef<DBSchemaObject> objectRef) {
+        Set<String> fileUrls = objectRef == null ? null : objectMappings.get(objectRef);
+        return fileUrls == null ? new ArrayList<>() : new ArrayList<>(fileUrls);
+    }
+
+    boolean hasFileUrls(DBObjectRef<DBSchemaObject> objectRef) {
+        Set<String> fileUrls = objectRef == null ? null : objectMappings.get(objectRef);
+        return fileUrls != null && !fileUrls.isEmpty();
+    }
+
+    synchronized void add(String fileUrl, DBObjectRef<DBSchemaObject> objectRef) {
+        DBObjectRef<DBSchemaObject> oldObjectRef = mappings.put(fileUrl, objectRef);
+        if (oldObjectRef != null) {
+            unindex(fileUrl, oldObjectRef);
+        }
+        objectMappings.computeIfAbsent(objectRef, k -> ConcurrentHashMap.newKeySet()).add(fileUrl);
+    }
+
+    @Nullable
+    synchronized DBObjectRef<DBSchemaObject> remove(String fileUrl) {
+        DBObjectRef<DBSchemaObject> objectRef = mappings.remove(fileUrl);
+        if (objectRef != null) {
+            unindex(fileUrl, objectRef);
+        }
+        return objectRef;
+    }
+
+    private void unindex(String fileUrl, DBObjectRef<DBSchemaObject> objectRef) {
+        Set<String> fileUrls = objectMappings.get(objectRef);
+        if (fileUrls != null) {
+            fileUrls.remove(fileUrl);
+            if (fileUrls.isEmpty()) {
+                objectMappings.remove(objectRef);
+            }
+        }
+    }
+}
@@ -0,0 +1,145 @@
+package com.dci.intellij.dbn.ddl;
+
+import com.dci.intellij.dbn.language.common.DBLanguageFileType;
+import com.intellij.openapi.fileTypes.FileTypeManager;
+import com.intellij.openapi.project.Project;
+import com.intellij.openapi.roots.ProjectRootManager;
+import com.intellij.openapi.util.io.FileUtil;
+import com.intellij.openapi.vfs.VfsUtilCore;
+import com.intellij.openapi.vfs.VirtualFile;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Candidate DDL files of the project content (files of database language types), indexed by lower-case base name.
+ * The index is built on first lookup by walking the content roots once, and kept up to date from the vfs events.
+ * Changes which can not be applied incrementally (directory changes, file type or content root changes) drop the index.
+ */
+class DDLFileLookupIndex {
+    private final Project project;
+    private volatile Map<String, Set<VirtualFile>> files;
+
+    DDLFileLookupIndex(Project project) {
+        this.project = project;
+    }
+
+    /**
+     * Files of the project content named after the given base name with one of the given extensions (case insensitive)
+     */
+    @NotNull
+    List<VirtualFile> lookup(String baseName, List<String> extensions) {
+        List<VirtualFile> virtualFiles = new ArrayList<>();
+        Set<VirtualFile> candidates = getFiles().get(baseName.toLowerCase());
+        if (candidates != null) {
+            for (String extension : extensions) {
+                for (VirtualFile candidate : candidates) {
+                    String candidateExtension = candidate.getExtension();
+                    if (candidateExtension != null && candidateExtension.equalsIgnoreCase(extension)) {
+                        virtualFiles.add(candidate);
+                    }
+                }
+            }
+        }
+        return virtualFiles;
+    }
+
+    void fileCreated(VirtualFile virtualFile) {
+        Map<String, Set<VirtualFile>> files = this.files;
+        if (files != null) {
+            if (virtualFile.isDirectory()) {
+                invalidate();
+            } else if (isCandidate(virtualFile) && isInContent(virtualFile)) {
+                files.computeIfAbsent(getKey(virtualFile.getName()), k -> ConcurrentHashMap.newKeySet()).add(virtualFile);
+            }
+        }
+    }
+
+    void fileDeleted(VirtualFile virtualFile) {
+        fileRemoved(virtualFile, virtualFile.getName());
+    }
+
+    void fileRenamed(VirtualFile virtualFile, String oldName) {
+        fileRemoved(virtualFile, oldName);
+        fileCreated(virtualFile);
+    }
+
+    void fileMoved(VirtualFile virtualFile) {
+        fileRemoved(virtualFile, virtualFile.getName());
+        fileCreated(virtualFile);
+    }
+
+    void invalidate() {
+        files = null;
+    }
+
+    private void fileRemoved(VirtualFile virtualFile, String name) {
+        Map<String, Set<VirtualFile>> files = this.files;
+        if (files != null) {
+            if (virtualFile.isDirectory()) {
+                invalidate();
+            } else {
+                String key = getKey(name);
+                Set<VirtualFile> candidates = files.get(key);
+                if (candidates != null) {
+                    candidates.remove(virtualFile);
+                    if (candidates.isEmpty()) {
+                        files.remove(key);
+                    }
+                }
+            }
+        }
+    }
+
+    @NotNull
+    private Map<String, Set<VirtualFile>> getFiles() {
+        Map<String, Set<VirtualFile>> files = this.files;
+        if (files == null) {
+            synchronized (this) {
+                files = this.files;
+                if (files == null) {
+                    files = new ConcurrentHashMap<>();
+                    VirtualFile[] contentRoots = ProjectRootManager.getInstance(project).getContentRoots();
+                    for (VirtualFile contentRoot : contentRoots) {
+                        collectFiles(contentRoot, files);
+                    }
+                    this.files = files;
+                }
+            }
+        }
+        return files;
+    }
+
+    private static void collectFiles(VirtualFile directory, Map<String, Set<VirtualFile>> files) {
+        FileTypeManager fileTypeManager = FileTypeManager.getInstance();
+        for (VirtualFile virtualFile : directory.getChildren()) {
+            if (!fileTypeManager.isFileIgnored(virtualFile.getName())) {
+                if (virtualFile.isDirectory()) {
+                    collectFiles(virtualFile, files);
+                } else if (isCandidate(virtualFile)) {
+                    files.computeIfAbsent(getKey(virtualFile.getName()), k -> ConcurrentHashMap.newKeySet()).add(virtualFile);
+                }
+            }
+        }
+    }
+
+    private static boolean isCandidate(VirtualFile virtualFile) {
+        return virtualFile.getFileType() instanceof DBLanguageFileType &&
+                !FileTypeManager.getInstance().isFileIgnored(virtualFile.getName());
+    }
+
+    private boolean isInContent(VirtualFile virtualFile) {
+        VirtualFile[] contentRoots = ProjectRootManager.getInstance(project).getContentRoots();
+        return VfsUtilCore.isUnder(virtualFile, new HashSet<>(Arrays.asList(contentRoots)));
+    }
+
+    private static String getKey(String fileName) {
+        return FileUtil.getNameWithoutExtension(fileName).toLowerCase();
+    }
+}
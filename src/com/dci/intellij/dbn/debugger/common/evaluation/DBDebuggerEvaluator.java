@@ -25,6 +25,10 @@ public abstract class DBDebuggerEvaluator<F extends DBDebugStackFrame<? extends
         this.frame = frame;
     }
 
+    public F getFrame() {
+        return frame;
+    }
+
     public boolean evaluateCondition(@NotNull String expression) {
         return false;
     }
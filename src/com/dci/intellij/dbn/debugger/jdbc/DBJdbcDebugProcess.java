@@ -59,6 +59,7 @@ import java.util.Collection;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 
 import static com.dci.intellij.dbn.debugger.common.breakpoint.DBBreakpointUtil.getBreakpointId;
 import static com.dci.intellij.dbn.debugger.common.breakpoint.DBBreakpointUtil.setBreakpointId;
@@ -76,6 +77,9 @@ public abstract class DBJdbcDebugProcess<T extends ExecutionInput> extends XDebu
     private transient ExecutionBacktraceInfo backtraceInfo;
     private DBDebugConsoleLogger console;
 
+    /** variables evaluated as watches, loaded along with the frame variables on every suspend */
+    private final Set<String> watchedVariables = ConcurrentHashMap.newKeySet();
+
     public DBJdbcDebugProcess(@NotNull XDebugSession session, ConnectionHandler connectionHandler) {
         super(session);
         console = new DBDebugConsoleLogger(session);
@@ -105,6 +109,10 @@ public abstract class DBJdbcDebugProcess<T extends ExecutionInput> extends XDebu
         return debugConnection;
     }
 
+    public Set<String> getWatchedVariables() {
+        return watchedVariables;
+    }
+
     @Override
     public ConnectionHandler getConnectionHandler() {
         return connectionHandlerRef.ensure();
@@ -4,10 +4,10 @@ import com.dci.intellij.dbn.common.util.CommonUtil;
 import com.dci.intellij.dbn.common.util.StringUtil;
 import com.dci.intellij.dbn.database.common.debug.VariableInfo;
 import com.dci.intellij.dbn.debugger.common.evaluation.DBDebuggerEvaluator;
-import com.dci.intellij.dbn.debugger.common.frame.DBDebugValue;
 import com.dci.intellij.dbn.debugger.jdbc.DBJdbcDebugProcess;
 import com.dci.intellij.dbn.debugger.jdbc.frame.DBJdbcDebugStackFrame;
 import com.dci.intellij.dbn.debugger.jdbc.frame.DBJdbcDebugValue;
+import com.intellij.xdebugger.evaluation.XDebuggerEvaluator.XEvaluationCallback;
 import com.intellij.xdebugger.frame.XValueNode;
 import com.intellij.xdebugger.frame.XValuePlace;
 import org.jetbrains.annotations.NotNull;
@@ -20,20 +20,29 @@ public class DBJdbcDebuggerEvaluator extends DBDebuggerEvaluator<DBJdbcDebugStac
         super(frame);
     }
 
+    @Override
+    public void evaluate(@NotNull String expression, XEvaluationCallback callback) {
+        // watched variables are loaded along with the frame variables
+        DBJdbcDebugProcess debugProcess = getFrame().getDebugProcess();
+        debugProcess.getWatchedVariables().add(expression.toUpperCase());
+        super.evaluate(expression, callback);
+    }
+
     @Override
     public void computePresentation(@NotNull DBJdbcDebugValue debugValue, @NotNull final XValueNode node, @NotNull XValuePlace place) {
         Set<String> childVariableNames = debugValue.getChildVariableNames();
         try {
             DBJdbcDebugProcess debugProcess = debugValue.getDebugProcess();
-            String variableName = debugValue.getVariableName();
-            DBDebugValue parentValue = debugValue.getParentValue();
-            String databaseVariableName = parentValue == null ? variableName : parentValue.getVariableName() + "." + variableName;
-            VariableInfo variableInfo = debugProcess.getDebuggerInterface().getVariableInfo(
-                    databaseVariableName.toUpperCase(),
-                    debugValue.getStackFrame().getFrameIndex(),
-                    debugProcess.getDebugConnection());
+            String databaseVariableName = DBJdbcDebugStackFrame.getDatabaseVariableName(
+                    debugValue.getVariableName(),
+                    debugValue.getParentValue());
+            VariableInfo variableInfo = debugValue.getStackFrame().getVariableInfo(databaseVariableName);
             String value = variableInfo.getValue();
             String type = variableInfo.getError();
+            if (type != null) {
+                // stop loading unresolvable watches on later suspends
+                debugProcess.getWatchedVariables().remove(databaseVariableName);
+            }
 
             if (value == null) {
                 value = childVariableNames != null ? "" : "null";
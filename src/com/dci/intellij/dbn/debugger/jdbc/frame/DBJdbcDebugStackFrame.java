@@ -2,9 +2,14 @@ package com.dci.intellij.dbn.debugger.jdbc.frame;
 
 import com.dci.intellij.dbn.common.latent.Latent;
 import com.dci.intellij.dbn.common.latent.RuntimeLatent;
+import com.dci.intellij.dbn.connection.jdbc.DBNConnection;
+import com.dci.intellij.dbn.database.DatabaseDebuggerInterface;
 import com.dci.intellij.dbn.database.common.debug.DebuggerRuntimeInfo;
+import com.dci.intellij.dbn.database.common.debug.VariableInfo;
+import com.dci.intellij.dbn.database.common.debug.VariablesInfo;
 import com.dci.intellij.dbn.debugger.common.frame.DBDebugSourcePosition;
 import com.dci.intellij.dbn.debugger.common.frame.DBDebugStackFrame;
+import com.dci.intellij.dbn.debugger.common.frame.DBDebugValue;
 import com.dci.intellij.dbn.debugger.jdbc.DBJdbcDebugProcess;
 import com.dci.intellij.dbn.debugger.jdbc.evaluation.DBJdbcDebuggerEvaluator;
 import com.dci.intellij.dbn.execution.ExecutionInput;
@@ -16,10 +21,21 @@ import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
 import javax.swing.*;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 
 public class DBJdbcDebugStackFrame extends DBDebugStackFrame<DBJdbcDebugProcess, DBJdbcDebugValue> {
+    private static final int VARIABLES_BATCH_SIZE = 100;
+
     private DebuggerRuntimeInfo runtimeInfo;
+    /** database names of the variables presented in this frame */
+    private final Set<String> variableNames = ConcurrentHashMap.newKeySet();
+    private final Map<String, VariableInfo> variables = new ConcurrentHashMap<>();
     private RuntimeLatent<DBJdbcDebuggerEvaluator> evaluator =
             Latent.runtime(() -> new DBJdbcDebuggerEvaluator(DBJdbcDebugStackFrame.this));
 
@@ -52,9 +68,68 @@ public class DBJdbcDebugStackFrame extends DBDebugStackFrame<DBJdbcDebugProcess,
     @NotNull
     @Override
     public DBJdbcDebugValue createDebugValue(String variableName, DBJdbcDebugValue parentValue, Set<String> childVariableNames, Icon icon) {
+        variableNames.add(getDatabaseVariableName(variableName, parentValue));
+        if (childVariableNames != null) {
+            for (String childVariableName : childVariableNames) {
+                variableNames.add(childVariableName.toUpperCase());
+            }
+        }
         return new DBJdbcDebugValue(this, parentValue, variableName, childVariableNames, icon);
     }
 
+    public static String getDatabaseVariableName(String variableName, @Nullable DBDebugValue parentValue) {
+        String databaseVariableName = parentValue == null ? variableName : parentValue.getVariableName() + "." + variableName;
+        return databaseVariableName.toUpperCase();
+    }
+
+    /**
+     * Value of the given variable. On first access, all the variables presented in this frame and
+     * the watched variables are loaded in one call, and kept for the lifetime of the frame (i.e. of the suspend context)
+     */
+    @NotNull
+    public synchronized VariableInfo getVariableInfo(String databaseVariableName) throws SQLException {
+        VariableInfo variableInfo = variables.get(databaseVariableName);
+        if (variableInfo == null) {
+            DBJdbcDebugProcess debugProcess = getDebugProcess();
+            DatabaseDebuggerInterface debuggerInterface = debugProcess.getDebuggerInterface();
+            DBNConnection debugConnection = debugProcess.getDebugConnection();
+
+            Set<String> names = new LinkedHashSet<>();
+            names.add(databaseVariableName);
+            names.addAll(variableNames);
+            names.addAll(debugProcess.getWatchedVariables());
+            names.removeAll(variables.keySet());
+            // names are passed as a comma separated literal
+            names.removeIf(name -> name.indexOf(',') > -1 || name.indexOf('\'') > -1);
+
+            List<String> batch = new ArrayList<>(names);
+            for (int i = 0; i < batch.size(); i += VARIABLES_BATCH_SIZE) {
+                List<String> batchNames = batch.subList(i, Math.min(batch.size(), i + VARIABLES_BATCH_SIZE));
+                VariablesInfo variablesInfo = debuggerInterface.getVariablesInfo(batchNames, getFrameIndex(), debugConnection);
+                for (String name : batchNames) {
+                    VariableInfo info = variablesInfo.getVariableInfo(name);
+                    if (info != null) {
+                        variables.put(name, info);
+                    }
+                }
+            }
+
+            variableInfo = variables.get(databaseVariableName);
+            if (variableInfo == null) {
+                variableInfo = debuggerInterface.getVariableInfo(databaseVariableName, getFrameIndex(), debugConnection);
+                variables.put(databaseVariableName, variableInfo);
+            }
+        }
+        return variableInfo;
+    }
+
+    /**
+     * Drops the loaded variable values (e.g. after a value was modified)
+     */
+    public void resetVariables() {
+        variables.clear();
+    }
+
     @Nullable
     @Override
     protected DBJdbcDebugValue createSuspendReasonDebugValue() {
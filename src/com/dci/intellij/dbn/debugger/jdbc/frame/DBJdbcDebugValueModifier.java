@@ -38,6 +38,7 @@ public class DBJdbcDebugValueModifier extends XValueModifier {
             if (operationInfo.getError() != null) {
                 callback.errorOccurred("Could not change value. " + operationInfo.getError());
             } else {
+                value.getStackFrame().resetVariables();
                 callback.valueModified();
             }
         } catch (SQLException e) {
@@ -12,6 +12,7 @@ import com.dci.intellij.dbn.common.dispose.Nullifiable;
 import com.dci.intellij.dbn.common.dispose.RegisteredDisposable;
 import com.dci.intellij.dbn.common.thread.Background;
 import com.dci.intellij.dbn.common.thread.Dispatch;
+import com.dci.intellij.dbn.common.thread.Progress;
 import com.dci.intellij.dbn.common.ui.GUIUtil;
 import com.dci.intellij.dbn.common.util.EventUtil;
 import com.dci.intellij.dbn.common.util.MessageUtil;
@@ -71,6 +72,8 @@ import java.beans.PropertyChangeListener;
 import java.sql.SQLException;
 import java.util.List;
 
+import static com.dci.intellij.dbn.common.message.MessageCallback.conditional;
+import static com.dci.intellij.dbn.common.util.MessageUtil.options;
 import static com.dci.intellij.dbn.editor.data.DatasetEditorStatus.*;
 import static com.dci.intellij.dbn.editor.data.DatasetLoadInstruction.*;
 import static com.dci.intellij.dbn.editor.data.model.RecordStatus.INSERTING;
@@ -88,6 +91,7 @@ public class DatasetEditor extends DisposableUserDataHolderBase implements
 
     private static final DatasetLoadInstructions COL_VISIBILITY_STATUS_CHANGE_LOAD_INSTRUCTIONS = new DatasetLoadInstructions(USE_CURRENT_FILTER, PRESERVE_CHANGES, DELIBERATE_ACTION, REBUILD);
     private static final DatasetLoadInstructions CON_STATUS_CHANGE_LOAD_INSTRUCTIONS = new DatasetLoadInstructions(USE_CURRENT_FILTER);
+    private static final DatasetLoadInstructions STAGED_CHANGES_APPLIED_LOAD_INSTRUCTIONS = new DatasetLoadInstructions(USE_CURRENT_FILTER, PRESERVE_CHANGES);
 
     private DBObjectRef<DBDataset> datasetRef;
     private DBEditableObjectVirtualFile databaseFile;
@@ -302,6 +306,22 @@ public class DatasetEditor extends DisposableUserDataHolderBase implements
 
     public void loadData(final DatasetLoadInstructions instructions) {
         if (status.isNot(LOADING)) {
+            DatasetEditorModel model = getTableModel();
+            if (model.hasStagedChanges()) {
+                // staged changes refer to the loaded rows and do not survive a reload
+                MessageUtil.showQuestionDialog(
+                        getProject(),
+                        "Staged changes",
+                        "There are " + model.getStagedChangesCount() + " staged changes for " + getDataset().getQualifiedNameWithType() + " which were not applied yet.\n" +
+                                "Reloading the data will discard them.",
+                        options("Discard and Reload", "Cancel"), 1,
+                        (option) -> conditional(option == 0, () -> {
+                            model.discardStagedChanges();
+                            loadData(instructions);
+                        }));
+                return;
+            }
+
             ConnectionAction.invoke("loading table data", false, this,
                     (action) -> {
                         setLoading(true);
@@ -451,6 +471,32 @@ public class DatasetEditor extends DisposableUserDataHolderBase implements
         }
     }
 
+    public void applyStagedChanges() {
+        DatasetEditorModel model = getTableModel();
+        getEditorTable().stopCellEditing();
+        Progress.prompt(getProject(), "Applying staged changes", false,
+                (progress) -> {
+                    try {
+                        model.applyStagedChanges();
+                        loadData(STAGED_CHANGES_APPLIED_LOAD_INSTRUCTIONS);
+                    } catch (SQLException e) {
+                        MessageUtil.showErrorDialog(getProject(), "Could not apply staged changes to " + getDataset().getQualifiedNameWithType() + '.', e);
+                    }
+                });
+    }
+
+    public boolean isStagingChanges() {
+        return getTableModel().isStagingChanges();
+    }
+
+    public void setStagingChanges(boolean stagingChanges) {
+        getTableModel().setStagingChanges(stagingChanges);
+    }
+
+    public boolean hasStagedChanges() {
+        return getTableModel().hasStagedChanges();
+    }
+
     public void openRecordEditor() {
         DatasetEditorTable editorTable = getEditorTable();
         DatasetEditorModel model = getTableModel();
@@ -588,6 +634,15 @@ public class DatasetEditor extends DisposableUserDataHolderBase implements
                             model.cancelInsert(true);
                         }
                     }
+
+                    if (model.hasStagedChanges()) {
+                        try {
+                            model.applyStagedChanges();
+                        } catch (SQLException e1) {
+                            // failed changes remain staged (with the errors on the grid), the reload is skipped after commit
+                            MessageUtil.showErrorDialog(getProject(), "Could not apply staged changes to " + getDataset().getQualifiedNameWithType() + '.', e1);
+                        }
+                    }
                 }
 
                 if (action == TransactionAction.ROLLBACK || action == TransactionAction.ROLLBACK_IDLE) {
@@ -607,7 +662,8 @@ public class DatasetEditor extends DisposableUserDataHolderBase implements
                 DatasetEditorModel model = getTableModel();
                 DatasetEditorTable editorTable = getEditorTable();
                 if (action == TransactionAction.COMMIT || action == TransactionAction.ROLLBACK) {
-                    if (succeeded && isModified()) loadData(CON_STATUS_CHANGE_LOAD_INSTRUCTIONS);
+                    // reloading would discard the changes still staged (e.g. failed to apply)
+                    if (succeeded && isModified() && !model.hasStagedChanges()) loadData(CON_STATUS_CHANGE_LOAD_INSTRUCTIONS);
                 }
 
                 if (action == TransactionAction.DISCONNECT) {
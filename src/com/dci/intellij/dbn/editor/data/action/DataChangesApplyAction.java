@@ -0,0 +1,40 @@
+package com.dci.intellij.dbn.editor.data.action;
+
+import com.dci.intellij.dbn.common.Icons;
+import com.dci.intellij.dbn.common.dispose.Failsafe;
+import com.dci.intellij.dbn.editor.data.DatasetEditor;
+import com.dci.intellij.dbn.editor.data.model.DatasetEditorModel;
+import com.intellij.openapi.actionSystem.AnActionEvent;
+import com.intellij.openapi.actionSystem.Presentation;
+import com.intellij.openapi.project.Project;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+public class DataChangesApplyAction extends AbstractDataEditorAction {
+
+    public DataChangesApplyAction() {
+        super("Apply Staged Changes", Icons.ACTION_SAVE_CHANGES);
+    }
+
+    @Override
+    protected void actionPerformed(@NotNull AnActionEvent e, @NotNull Project project, @NotNull DatasetEditor datasetEditor) {
+        datasetEditor.applyStagedChanges();
+    }
+
+    @Override
+    protected void update(@NotNull AnActionEvent e, @NotNull Presentation presentation, @NotNull Project project, @Nullable DatasetEditor datasetEditor) {
+        if (Failsafe.check(datasetEditor) && datasetEditor.isStagingChanges()) {
+            DatasetEditorModel model = datasetEditor.getTableModel();
+            int count = model.getStagedChangesCount();
+            presentation.setText(count == 0 ? "Apply Staged Changes" : "Apply Staged Changes (" + count + " records)");
+            presentation.setVisible(true);
+            presentation.setEnabled(
+                    count > 0 &&
+                    !datasetEditor.isInserting() &&
+                    !datasetEditor.isLoading() &&
+                    datasetEditor.getConnectionHandler().isConnected());
+        } else {
+            presentation.setVisible(false);
+        }
+    }
+}
@@ -0,0 +1,58 @@
+package com.dci.intellij.dbn.editor.data.action;
+
+import com.dci.intellij.dbn.common.Icons;
+import com.dci.intellij.dbn.common.action.Lookup;
+import com.dci.intellij.dbn.editor.data.DatasetEditor;
+import com.intellij.openapi.actionSystem.AnActionEvent;
+import com.intellij.openapi.actionSystem.Presentation;
+import com.intellij.openapi.actionSystem.ToggleAction;
+import com.intellij.openapi.fileEditor.FileEditor;
+import com.intellij.openapi.project.DumbAware;
+import com.intellij.openapi.project.Project;
+import org.jetbrains.annotations.NotNull;
+
+public class DataChangesStagingToggleAction extends ToggleAction implements DumbAware {
+
+    public DataChangesStagingToggleAction() {
+        super("Stage Changes", null, Icons.DATA_EDITOR_ROW_MODIFIED);
+    }
+
+    @Override
+    public boolean isSelected(@NotNull AnActionEvent e) {
+        DatasetEditor datasetEditor = getDatasetEditor(e);
+        return datasetEditor != null && datasetEditor.isStagingChanges();
+    }
+
+    @Override
+    public void setSelected(@NotNull AnActionEvent e, boolean selected) {
+        DatasetEditor datasetEditor = getDatasetEditor(e);
+        if (datasetEditor != null) datasetEditor.setStagingChanges(selected);
+    }
+
+    @Override
+    public void update(@NotNull AnActionEvent e) {
+        super.update(e);
+        DatasetEditor datasetEditor = getDatasetEditor(e);
+        Presentation presentation = e.getPresentation();
+        Project project = e.getProject();
+        if (project == null || datasetEditor == null) {
+            presentation.setEnabled(false);
+        } else {
+            boolean isEnvironmentReadonlyData = datasetEditor.getDataset().getEnvironmentType().isReadonlyData();
+            presentation.setVisible(!datasetEditor.isReadonlyData() && !isEnvironmentReadonlyData);
+            presentation.setText(isSelected(e) ? "Stop Staging Changes" : "Stage Changes");
+
+            // staged changes have to be applied (or discarded by reload) before leaving the staging mode
+            boolean enabled =
+                    !datasetEditor.isInserting() &&
+                    !datasetEditor.hasStagedChanges() &&
+                    datasetEditor.getTableModel().canStageChanges();
+            presentation.setEnabled(enabled);
+        }
+    }
+
+    private static DatasetEditor getDatasetEditor(AnActionEvent e) {
+        FileEditor fileEditor = Lookup.getFileEditor(e);
+        return fileEditor instanceof DatasetEditor ? (DatasetEditor) fileEditor : null;
+    }
+}
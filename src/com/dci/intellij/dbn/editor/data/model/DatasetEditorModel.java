@@ -29,6 +29,7 @@ import com.dci.intellij.dbn.editor.data.ui.table.DatasetEditorTable;
 import com.dci.intellij.dbn.object.DBColumn;
 import com.dci.intellij.dbn.object.DBConstraint;
 import com.dci.intellij.dbn.object.DBDataset;
+import com.dci.intellij.dbn.object.DBTable;
 import com.dci.intellij.dbn.object.lookup.DBObjectRef;
 import com.intellij.openapi.diagnostic.Logger;
 import com.intellij.openapi.project.Project;
@@ -64,6 +65,9 @@ public class DatasetEditorModel
 
     private List<DatasetEditorModelRow> changedRows = new ArrayList<>();
 
+    private boolean stagingChanges;
+    private final DatasetEditorStagedChanges stagedChanges = new DatasetEditorStagedChanges();
+
     public DatasetEditorModel(DatasetEditor datasetEditor) throws SQLException {
         super(datasetEditor.getConnectionHandler());
         Project project = getProject();
@@ -268,6 +272,63 @@ public class DatasetEditorModel
         return datasetEditor == null ? DatasetEditorState.VOID : datasetEditor.getEditorState();
     }
 
+    /****************************************************************
+     *                        Staged changes                        *
+     ****************************************************************/
+    /**
+     * Changes can only be staged for tables with a primary key, as they are written back
+     * with statements identifying the records by key
+     */
+    public boolean canStageChanges() {
+        DBDataset dataset = getDataset();
+        return dataset instanceof DBTable && ((DBTable) dataset).getPrimaryKeyColumns().size() > 0;
+    }
+
+    public boolean isStagingChanges() {
+        return stagingChanges;
+    }
+
+    public void setStagingChanges(boolean stagingChanges) {
+        this.stagingChanges = stagingChanges;
+    }
+
+    public boolean hasStagedChanges() {
+        return !stagedChanges.isEmpty();
+    }
+
+    public int getStagedChangesCount() {
+        return stagedChanges.size();
+    }
+
+    void stageChange(DatasetEditorModelCell cell) {
+        if (cell.getRow().isNot(INSERTING)) {
+            stagedChanges.stageUpdate(cell);
+        }
+    }
+
+    void stageDelete(DatasetEditorModelRow row) {
+        stagedChanges.stageDelete(row);
+    }
+
+    public void applyStagedChanges() throws SQLException {
+        DBNConnection connection = getConnection();
+        stagedChanges.apply(this, connection);
+        connection.notifyDataChanges(getDataset().getVirtualFile());
+    }
+
+    /**
+     * Must be invoked before reloading the data, staged changes refer to the loaded rows
+     */
+    public void discardStagedChanges() {
+        for (DatasetEditorModelRow row : stagedChanges.clear()) {
+            // staged rows did not reach the database and must not be restored as changed on reload
+            row.reset();
+            for (DatasetEditorModelCell cell : row.getCells()) {
+                cell.reset();
+            }
+        }
+    }
+
     private boolean hasChanges() {
         return changedRows.size() > 0;
     }
@@ -364,7 +425,8 @@ public class DatasetEditorModel
                             int rsRowIndex = row.getResultSetRowIndex();
                             row.delete();
                             if (row.is(DELETED)) {
-                                shiftResultSetRowIndex(rsRowIndex, -1);
+                                // staged deletes do not affect the result set
+                                if (!stagingChanges) shiftResultSetRowIndex(rsRowIndex, -1);
                                 notifyRowUpdated(index);
                             }
                         }
@@ -438,7 +500,14 @@ public class DatasetEditorModel
             }
             try {
                 editorTable.stopCellEditing();
-                resultSetAdapter.insertRow();
+                if (stagingChanges) {
+                    // the record is written when the staged changes are applied
+                    resultSetAdapter.cancelInsertRow();
+                    stagedChanges.stageInsert(row);
+                    rebuild = false;
+                } else {
+                    resultSetAdapter.insertRow();
+                }
 
                 row.reset();
                 row.set(INSERTED, true);
@@ -58,11 +58,34 @@ public class DatasetEditorModelCell
             GenericDataType genericDataType = columnInfo.getDataType().getGenericDataType();
             boolean isValueAdapter = ValueAdapter.supports(genericDataType);
 
+            DatasetEditorModelRow row = getRow();
+            DatasetEditorModel model = getModel();
+            if (model.isStagingChanges() && !isValueAdapter) {
+                // value is written to the database when the staged changes are applied
+                clearError();
+                if (valueChanged) {
+                    model.stageChange(this);
+                    setUserValue(newUserValue);
+                    EventUtil.notify(getProject(),
+                            DatasetEditorModelCellValueListener.TOPIC,
+                            (listener) -> listener.valueChanged(this));
+                }
+
+                if (row.isNot(INSERTING)) {
+                    reset();
+                    set(MODIFIED, true);
+
+                    row.reset();
+                    row.set(RecordStatus.MODIFIED, true);
+                    model.set(MODIFIED, true);
+                }
+                return;
+            }
+
             if (!isValueAdapter && valueChanged) {
                 setUserValue(newUserValue);
             }
 
-            DatasetEditorModelRow row = getRow();
             ResultSetAdapter resultSetAdapter = getModel().getResultSetAdapter();
             try {
                 resultSetAdapter.scroll(row.getResultSetRowIndex());
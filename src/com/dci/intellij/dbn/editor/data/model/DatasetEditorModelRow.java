@@ -79,9 +79,14 @@ public class DatasetEditorModelRow
 
     public void delete() {
         try {
-            ResultSetAdapter resultSetAdapter = getModel().getResultSetAdapter();
-            resultSetAdapter.scroll(getResultSetRowIndex());
-            resultSetAdapter.deleteRow();
+            DatasetEditorModel model = getModel();
+            if (model.isStagingChanges()) {
+                model.stageDelete(this);
+            } else {
+                ResultSetAdapter resultSetAdapter = model.getResultSetAdapter();
+                resultSetAdapter.scroll(getResultSetRowIndex());
+                resultSetAdapter.deleteRow();
+            }
 
             reset();
             set(RecordStatus.DELETED, true);
@@ -0,0 +1,332 @@
+package com.dci.intellij.dbn.editor.data.model;
+
+import com.dci.intellij.dbn.common.util.CollectionUtil;
+import com.dci.intellij.dbn.connection.ConnectionHandler;
+import com.dci.intellij.dbn.connection.ResourceUtil;
+import com.dci.intellij.dbn.connection.jdbc.DBNConnection;
+import com.dci.intellij.dbn.connection.transaction.ConnectionSavepoint;
+import com.dci.intellij.dbn.data.type.DBDataType;
+import com.dci.intellij.dbn.data.type.DBNativeDataType;
+import com.dci.intellij.dbn.data.value.ValueAdapter;
+import com.dci.intellij.dbn.editor.data.DatasetEditorError;
+import com.dci.intellij.dbn.object.DBDataset;
+import org.jetbrains.annotations.NotNull;
+
+import java.sql.BatchUpdateException;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+
+/**
+ * Changes of the dataset editor collected in memory while the "stage changes" mode is active.
+ * On apply, the changes are written in one transaction as JDBC batches of parameterized statements.
+ * Consecutive rows producing the same statement text share one batch, so the order of the changes is preserved.
+ */
+class DatasetEditorStagedChanges {
+    private enum ChangeType {
+        UPDATE,
+        INSERT,
+        DELETE
+    }
+
+    private final Map<DatasetEditorModelRow, StagedRow> rows = new LinkedHashMap<>();
+
+    synchronized boolean isEmpty() {
+        return rows.isEmpty();
+    }
+
+    synchronized int size() {
+        return rows.size();
+    }
+
+    /**
+     * Discards the staged changes
+     * @return the rows which had staged changes
+     */
+    synchronized List<DatasetEditorModelRow> clear() {
+        List<DatasetEditorModelRow> stagedRows = new ArrayList<>(rows.keySet());
+        rows.clear();
+        return stagedRows;
+    }
+
+    /**
+     * Stages the change of a cell. Must be invoked before the new value is assigned to the cell,
+     * for the primary key of the row to be captured with the current values
+     */
+    synchronized void stageUpdate(DatasetEditorModelCell cell) {
+        DatasetEditorModelRow row = cell.getRow();
+        StagedRow stagedRow = rows.computeIfAbsent(row, r -> new StagedRow(r, ChangeType.UPDATE));
+        if (stagedRow.type != ChangeType.DELETE) {
+            stagedRow.cells.add(cell);
+        }
+    }
+
+    synchronized void stageInsert(DatasetEditorModelRow row) {
+        rows.put(row, new StagedRow(row, ChangeType.INSERT));
+    }
+
+    synchronized void stageDelete(DatasetEditorModelRow row) {
+        StagedRow stagedRow = rows.get(row);
+        if (stagedRow != null && stagedRow.type == ChangeType.INSERT) {
+            rows.remove(row);
+        } else {
+            // key captured on a previous update is still the one stored in the database
+            StagedRow deleteRow = new StagedRow(row, ChangeType.DELETE);
+            if (stagedRow != null) deleteRow.keyValues.putAll(stagedRow.keyValues);
+            rows.put(row, deleteRow);
+        }
+    }
+
+    /**
+     * Writes the staged changes to the database. If auto-commit is enabled the changes are committed
+     * as one transaction, otherwise they become part of the open transaction (rolled back to a savepoint on failure).
+     * Every failing row is reported on the grid and all changes remain staged.
+     */
+    void apply(@NotNull DatasetEditorModel model, @NotNull DBNConnection connection) throws SQLException {
+        List<StagedRow> stagedRows;
+        synchronized (this) {
+            stagedRows = new ArrayList<>(rows.values());
+        }
+        if (stagedRows.isEmpty()) return;
+
+        DBDataset dataset = model.getDataset();
+        String tableName = dataset.getSchema().getQuotedName(false) + "." + dataset.getQuotedName(false);
+        ConnectionHandler connectionHandler = model.getConnectionHandler();
+        try {
+            synchronized (connection) {
+                if (connection.getAutoCommit()) {
+                    connection.setAutoCommit(false);
+                    try {
+                        executeBatches(connection, tableName, stagedRows);
+                        ResourceUtil.commit(connection);
+                    } catch (SQLException e) {
+                        ResourceUtil.rollbackSilently(connection);
+                        throw e;
+                    } finally {
+                        connection.setAutoCommit(true);
+                    }
+                } else {
+                    ConnectionSavepoint.run(connection, () -> executeBatches(connection, tableName, stagedRows));
+                }
+            }
+        } catch (StagedRowException e) {
+            for (StagedRow failedRow : e.rows) {
+                DatasetEditorError error = new DatasetEditorError(connectionHandler, e.getCause());
+                failedRow.notifyError(error);
+            }
+            throw e.getCause();
+        }
+
+        synchronized (this) {
+            for (StagedRow stagedRow : stagedRows) {
+                rows.remove(stagedRow.row, stagedRow);
+            }
+        }
+    }
+
+    private static void executeBatches(DBNConnection connection, String tableName, List<StagedRow> stagedRows) throws SQLException {
+        String batchStatementText = null;
+        PreparedStatement statement = null;
+        List<StagedRow> batchRows = new ArrayList<>();
+        try {
+            for (StagedRow stagedRow : stagedRows) {
+                String statementText = stagedRow.createStatementText(tableName);
+                if (statementText == null) continue;
+
+                if (!Objects.equals(statementText, batchStatementText)) {
+                    executeBatch(statement, batchRows);
+                    ResourceUtil.close(statement);
+                    statement = connection.prepareStatement(statementText);
+                    batchStatementText = statementText;
+                    batchRows.clear();
+                }
+
+                try {
+                    stagedRow.bind(statement);
+                } catch (SQLException e) {
+                    throw new StagedRowException(stagedRow, e);
+                }
+                statement.addBatch();
+                batchRows.add(stagedRow);
+            }
+            executeBatch(statement, batchRows);
+        } finally {
+            ResourceUtil.close(statement);
+        }
+    }
+
+    private static void executeBatch(PreparedStatement statement, List<StagedRow> batchRows) throws SQLException {
+        if (statement == null || batchRows.isEmpty()) return;
+        try {
+            statement.executeBatch();
+        } catch (BatchUpdateException e) {
+            // drivers either stop at the first failing statement or mark all failing statements
+            List<StagedRow> failedRows = new ArrayList<>();
+            int[] updateCounts = e.getUpdateCounts();
+            if (updateCounts != null) {
+                for (int i = 0; i < updateCounts.length && i < batchRows.size(); i++) {
+                    if (updateCounts[i] == Statement.EXECUTE_FAILED) {
+                        failedRows.add(batchRows.get(i));
+                    }
+                }
+            }
+            if (failedRows.isEmpty()) {
+                int failedIndex = updateCounts == null ? 0 : updateCounts.length;
+                failedRows.add(batchRows.get(Math.min(failedIndex, batchRows.size() - 1)));
+            }
+            throw new StagedRowException(failedRows, e);
+        }
+    }
+
+    private static class StagedRowException extends SQLException {
+        private final List<StagedRow> rows;
+
+        StagedRowException(StagedRow row, SQLException cause) {
+            this(Collections.singletonList(row), cause);
+        }
+
+        StagedRowException(List<StagedRow> rows, SQLException cause) {
+            super(cause.getMessage(), cause.getSQLState(), cause.getErrorCode(), cause);
+            this.rows = rows;
+        }
+
+        @Override
+        public synchronized SQLException getCause() {
+            return (SQLException) super.getCause();
+        }
+    }
+
+    private static class StagedRow {
+        private final DatasetEditorModelRow row;
+        private final ChangeType type;
+        private final Set<DatasetEditorModelCell> cells = new LinkedHashSet<>();
+        private final Map<DatasetEditorColumnInfo, Object> keyValues = new LinkedHashMap<>();
+
+        StagedRow(DatasetEditorModelRow row, ChangeType type) {
+            this.row = row;
+            this.type = type;
+            if (type != ChangeType.INSERT) {
+                for (DatasetEditorModelCell cell : row.getCells()) {
+                    DatasetEditorColumnInfo columnInfo = cell.getColumnInfo();
+                    if (columnInfo.isPrimaryKey()) {
+                        keyValues.put(columnInfo, cell.getUserValue());
+                    }
+                }
+            }
+        }
+
+        private List<DatasetEditorModelCell> getValueCells() {
+            if (type == ChangeType.INSERT) {
+                List<DatasetEditorModelCell> valueCells = new ArrayList<>();
+                for (DatasetEditorModelCell cell : row.getCells()) {
+                    // lob values are written through value adapters and can not be staged
+                    Object userValue = cell.getUserValue();
+                    if (userValue != null && !(userValue instanceof ValueAdapter)) valueCells.add(cell);
+                }
+                return valueCells;
+            }
+            return type == ChangeType.UPDATE ? new ArrayList<>(cells) : new ArrayList<>();
+        }
+
+        /**
+         * @return the parameterized statement for the row, or null if there is nothing to write
+         */
+        String createStatementText(String tableName) throws StagedRowException {
+            List<DatasetEditorModelCell> valueCells = getValueCells();
+            if (type != ChangeType.DELETE && valueCells.isEmpty()) return null;
+            if (type != ChangeType.INSERT && keyValues.isEmpty()) {
+                throw new StagedRowException(this, new SQLException("No primary key defined for table"));
+            }
+
+            StringBuilder buffer = new StringBuilder();
+            switch (type) {
+                case UPDATE: {
+                    buffer.append("update ").append(tableName).append(" set ");
+                    for (DatasetEditorModelCell cell : valueCells) {
+                        buffer.append(getQuotedName(cell.getColumnInfo())).append(" = ?");
+                        if (!CollectionUtil.isLast(valueCells, cell)) buffer.append(", ");
+                    }
+                    appendKeyCondition(buffer);
+                    break;
+                }
+                case INSERT: {
+                    buffer.append("insert into ").append(tableName).append(" (");
+                    for (DatasetEditorModelCell cell : valueCells) {
+                        buffer.append(getQuotedName(cell.getColumnInfo()));
+                        if (!CollectionUtil.isLast(valueCells, cell)) buffer.append(", ");
+                    }
+                    buffer.append(") values (");
+                    for (DatasetEditorModelCell cell : valueCells) {
+                        buffer.append("?");
+                        if (!CollectionUtil.isLast(valueCells, cell)) buffer.append(", ");
+                    }
+                    buffer.append(")");
+                    break;
+                }
+                case DELETE: {
+                    buffer.append("delete from ").append(tableName);
+                    appendKeyCondition(buffer);
+                    break;
+                }
+            }
+            return buffer.toString();
+        }
+
+        private void appendKeyCondition(StringBuilder buffer) {
+            buffer.append(" where ");
+            boolean first = true;
+            for (DatasetEditorColumnInfo columnInfo : keyValues.keySet()) {
+                if (!first) buffer.append(" and ");
+                buffer.append(getQuotedName(columnInfo)).append(" = ?");
+                first = false;
+            }
+        }
+
+        void bind(PreparedStatement statement) throws SQLException {
+            int parameterIndex = 0;
+            for (DatasetEditorModelCell cell : getValueCells()) {
+                parameterIndex++;
+                getNativeDataType(cell.getColumnInfo()).setValueToStatement(statement, parameterIndex, cell.getUserValue());
+            }
+            if (type != ChangeType.INSERT) {
+                for (Map.Entry<DatasetEditorColumnInfo, Object> keyValue : keyValues.entrySet()) {
+                    parameterIndex++;
+                    getNativeDataType(keyValue.getKey()).setValueToStatement(statement, parameterIndex, keyValue.getValue());
+                }
+            }
+        }
+
+        void notifyError(DatasetEditorError error) {
+            row.notifyError(error, false, false);
+
+            // if error was not notified on row level, notify it on the first staged cell
+            if (!error.isNotified()) {
+                List<DatasetEditorModelCell> valueCells = getValueCells();
+                DatasetEditorModelCell cell = valueCells.isEmpty() ? row.getCellAtIndex(0) : valueCells.get(0);
+                if (cell != null) cell.notifyError(error, true);
+            }
+        }
+
+        private static String getQuotedName(DatasetEditorColumnInfo columnInfo) {
+            return columnInfo.getColumn().getQuotedName(false);
+        }
+
+        @NotNull
+        private static DBNativeDataType getNativeDataType(DatasetEditorColumnInfo columnInfo) throws SQLException {
+            DBDataType dataType = columnInfo.getDataType();
+            DBNativeDataType nativeDataType = dataType.getNativeDataType();
+            if (nativeDataType == null) {
+                throw new SQLException("Operation not supported for " + dataType.getName());
+            }
+            return nativeDataType;
+        }
+    }
+}
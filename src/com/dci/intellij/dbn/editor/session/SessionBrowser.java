@@ -14,6 +14,7 @@ import com.dci.intellij.dbn.connection.ConnectionId;
 import com.dci.intellij.dbn.connection.ConnectionProvider;
 import com.dci.intellij.dbn.connection.operation.options.OperationSettings;
 import com.dci.intellij.dbn.editor.session.model.SessionBrowserModel;
+import com.dci.intellij.dbn.editor.session.model.SessionBrowserModelChanges;
 import com.dci.intellij.dbn.editor.session.model.SessionBrowserModelRow;
 import com.dci.intellij.dbn.editor.session.options.SessionBrowserSettings;
 import com.dci.intellij.dbn.editor.session.ui.SessionBrowserDetailsForm;
@@ -92,8 +93,19 @@ public class SessionBrowser extends DisposableUserDataHolderBase implements File
                                         try {
                                             setLoading(true);
                                             SessionBrowserManager sessionBrowserManager = SessionBrowserManager.getInstance(getProject());
-                                            SessionBrowserModel model = sessionBrowserManager.loadSessions(sessionBrowserFile);
-                                            replaceModel(model);
+                                            SessionBrowserModel oldModel = getTableModel();
+                                            SessionBrowserModelChanges changes = null;
+                                            if (canMerge(oldModel)) {
+                                                boolean changesOnly = !force && getSettings().isLoadChangesOnly();
+                                                changes = sessionBrowserManager.loadSessionChanges(sessionBrowserFile, oldModel, changesOnly);
+                                            }
+
+                                            if (changes == null) {
+                                                SessionBrowserModel model = sessionBrowserManager.loadSessions(sessionBrowserFile);
+                                                replaceModel(model);
+                                            } else {
+                                                mergeModel(oldModel, changes);
+                                            }
                                         } finally {
                                             EventUtil.notify(getProject(),
                                                     SessionBrowserLoadListener.TOPIC,
@@ -129,6 +141,25 @@ public class SessionBrowser extends DisposableUserDataHolderBase implements File
         }
     }
 
+    /**
+     * Sessions are updated in place if the current model holds successfully loaded sessions
+     */
+    private static boolean canMerge(@Nullable SessionBrowserModel model) {
+        return model != null && !model.isDisposed() && model.getLoadError() == null && model.getColumnCount() > 0;
+    }
+
+    private void mergeModel(SessionBrowserModel model, SessionBrowserModelChanges changes) {
+        Dispatch.run(() -> {
+            SessionBrowserTable editorTable = getEditorTable();
+            if (editorTable.getModel() == model && !model.isDisposed()) {
+                boolean reordered = model.merge(changes);
+                if (reordered) {
+                    refreshTable();
+                }
+            }
+        });
+    }
+
     public void clearFilter() {
         SessionBrowserTable editorTable = getEditorTable();
         SessionBrowserFilterState filter = editorTable.getModel().getFilter();
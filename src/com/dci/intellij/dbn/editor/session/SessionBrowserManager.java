@@ -21,6 +21,8 @@ import com.dci.intellij.dbn.database.DatabaseFeature;
 import com.dci.intellij.dbn.database.DatabaseInterface;
 import com.dci.intellij.dbn.database.DatabaseMetadataInterface;
 import com.dci.intellij.dbn.editor.session.model.SessionBrowserModel;
+import com.dci.intellij.dbn.editor.session.model.SessionBrowserModelChanges;
+import com.dci.intellij.dbn.editor.session.model.SessionKey;
 import com.dci.intellij.dbn.editor.session.options.SessionBrowserSettings;
 import com.dci.intellij.dbn.editor.session.options.SessionInterruptionOption;
 import com.dci.intellij.dbn.options.ProjectSettingsManager;
@@ -43,8 +45,10 @@ import java.sql.ResultSet;
 import java.sql.SQLException;
 import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 import java.util.Timer;
 import java.util.TimerTask;
 
@@ -106,6 +110,51 @@ public class SessionBrowserManager extends AbstractProjectComponent implements P
         }
     }
 
+    /**
+     * Loads the sessions for updating the given model in place (see {@link SessionBrowserModel#merge(SessionBrowserModelChanges)})
+     * @param changesOnly only load the sessions active since the model was last loaded (if supported by the database)
+     * @return null if the sessions could not be loaded, or do not match the columns of the model
+     */
+    @Nullable
+    public SessionBrowserModelChanges loadSessionChanges(DBSessionBrowserVirtualFile sessionBrowserFile, SessionBrowserModel model, boolean changesOnly) {
+        ConnectionHandler connectionHandler = sessionBrowserFile.getConnectionHandler();
+        boolean delta = changesOnly && DatabaseFeature.SESSION_CHANGES_LOADING.isSupported(connectionHandler);
+
+        // overlap with the previous load, not to miss sessions active in between
+        int seconds = (int) ((System.currentTimeMillis() - model.getTimestamp()) / 1000) + 2;
+        try {
+            return DatabaseInterface.call(true,
+                    connectionHandler,
+                    (provider, connection) -> {
+                        DatabaseMetadataInterface metadataInterface = provider.getMetadataInterface();
+                        ResultSet resultSet = null;
+                        try {
+                            Set<SessionKey> liveSessions = null;
+                            if (delta) {
+                                liveSessions = new HashSet<>();
+                                resultSet = metadataInterface.loadSessionIds(connection);
+                                while (resultSet.next()) {
+                                    Object sessionId = resultSet.getObject("SESSION_ID");
+                                    Object serialNumber = resultSet.getObject("SERIAL_NUMBER");
+                                    liveSessions.add(SessionKey.of(sessionId, serialNumber));
+                                }
+                                ResourceUtil.close(resultSet);
+                                resultSet = metadataInterface.loadSessionChanges(seconds, connection);
+                            } else {
+                                resultSet = metadataInterface.loadSessions(connection);
+                            }
+                            return model.readChanges(resultSet, liveSessions);
+                        } finally {
+                            ResourceUtil.close(resultSet);
+                        }
+                    });
+
+        } catch (SQLException e) {
+            // fallback to full reload
+            return null;
+        }
+    }
+
     public String loadSessionCurrentSql(ConnectionHandler connectionHandler, Object sessionId) {
         if (DatabaseFeature.SESSION_CURRENT_SQL.isSupported(connectionHandler)) {
             try {
@@ -1,24 +1,37 @@
 package com.dci.intellij.dbn.editor.session.model;
 
 import com.dci.intellij.dbn.common.list.FiltrableList;
+import com.dci.intellij.dbn.common.util.Safe;
 import com.dci.intellij.dbn.common.util.StringUtil;
 import com.dci.intellij.dbn.connection.ConnectionHandler;
 import com.dci.intellij.dbn.connection.jdbc.DBNResultSet;
 import com.dci.intellij.dbn.data.model.DataModelState;
+import com.dci.intellij.dbn.data.model.resultSet.ResultSetColumnInfo;
 import com.dci.intellij.dbn.data.model.resultSet.ResultSetDataModel;
 import com.dci.intellij.dbn.data.model.sortable.SortableDataModelState;
+import com.dci.intellij.dbn.data.sorting.SortingInstruction;
+import com.dci.intellij.dbn.data.type.DBDataType;
 import com.dci.intellij.dbn.editor.session.SessionBrowserFilterState;
 import com.dci.intellij.dbn.editor.session.SessionBrowserFilterType;
 import com.dci.intellij.dbn.editor.session.SessionBrowserState;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
+import java.sql.ResultSet;
+import java.sql.ResultSetMetaData;
 import java.sql.SQLException;
 import java.util.ArrayList;
 import java.util.Collections;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
 
 public class SessionBrowserModel extends ResultSetDataModel<SessionBrowserModelRow, SessionBrowserModelCell>{
+    private static final String[] FILTER_COLUMNS = {"USER", "HOST", "STATUS"};
+
     private long timestamp = System.currentTimeMillis();
     private String loadError;
 
@@ -86,6 +99,165 @@ public class SessionBrowserModel extends ResultSetDataModel<SessionBrowserModelR
         return new SessionBrowserModelRow(this, getResultSet(), resultSetRowIndex);
     }
 
+    /**
+     * Reads the session values of the given result set, for updating the rows of this model in place.
+     * @param liveSessions the keys of all live sessions if the result set only holds the changed sessions, null otherwise
+     * @return null if the columns of the result set do not match the columns of this model
+     */
+    @Nullable
+    public SessionBrowserModelChanges readChanges(@NotNull ResultSet resultSet, @Nullable Set<SessionKey> liveSessions) throws SQLException {
+        int columnCount = getColumnCount();
+        ResultSetMetaData metaData = resultSet.getMetaData();
+        if (columnCount == 0 || metaData.getColumnCount() != columnCount) return null;
+
+        ConnectionHandler connectionHandler = getConnectionHandler();
+        for (int i = 0; i < columnCount; i++) {
+            ResultSetColumnInfo columnInfo = (ResultSetColumnInfo) getColumnInfo(i);
+            String columnName = columnInfo.translateName(metaData.getColumnName(columnInfo.getResultSetColumnIndex()), connectionHandler);
+            if (!Objects.equals(columnName, columnInfo.getName())) return null;
+        }
+
+        List<Object[]> sessions = new ArrayList<>();
+        while (resultSet.next()) {
+            checkDisposed();
+            Object[] values = new Object[columnCount];
+            for (int i = 0; i < columnCount; i++) {
+                ResultSetColumnInfo columnInfo = (ResultSetColumnInfo) getColumnInfo(i);
+                DBDataType dataType = columnInfo.getDataType();
+                values[i] = dataType.getValueFromResultSet(resultSet, columnInfo.getResultSetColumnIndex());
+            }
+            sessions.add(values);
+        }
+        return new SessionBrowserModelChanges(sessions, liveSessions);
+    }
+
+    /**
+     * Updates the rows of this model in place, matching the sessions by id and serial number.
+     * Unchanged rows are kept as they are, and only the changed cells are notified.
+     * If sessions were added or removed, or values changed in sorted or filtered columns,
+     * the rows are sorted again and notified as a whole. Must be invoked on the dispatch thread.
+     * @return true if the row structure changed (rows were added, removed or moved)
+     */
+    public boolean merge(@NotNull SessionBrowserModelChanges changes) {
+        checkDisposed();
+        timestamp = System.currentTimeMillis();
+        loadError = null;
+
+        List<SessionBrowserModelRow> rows = getRows();
+        if (rows instanceof FiltrableList) {
+            FiltrableList<SessionBrowserModelRow> filtrableList = (FiltrableList<SessionBrowserModelRow>) rows;
+            rows = filtrableList.getFullList();
+        }
+
+        int originalRowCount = getRowCount();
+        Map<SessionKey, SessionBrowserModelRow> unmatchedRows = new HashMap<>(rows.size());
+        for (SessionBrowserModelRow row : rows) {
+            unmatchedRows.put(row.getSessionKey(), row);
+        }
+
+        int sessionIdIndex = getColumnIndex("SESSION_ID");
+        int serialNumberIndex = getColumnIndex("SERIAL_NUMBER");
+        boolean[] reorderingColumns = getReorderingColumns();
+        boolean reorder = false;
+        List<SessionBrowserModelCell> changedCells = new ArrayList<>();
+
+        for (Object[] values : changes.getSessions()) {
+            Object sessionId = sessionIdIndex == -1 ? null : values[sessionIdIndex];
+            Object serialNumber = serialNumberIndex == -1 ? null : values[serialNumberIndex];
+            SessionBrowserModelRow row = unmatchedRows.remove(SessionKey.of(sessionId, serialNumber));
+            if (row == null) {
+                rows.add(new SessionBrowserModelRow(this, values, rows.size() + 1));
+                reorder = true;
+            } else {
+                for (int i = 0; i < values.length; i++) {
+                    SessionBrowserModelCell cell = row.getCellAtIndex(i);
+                    if (cell != null && !Safe.equal(cell.getUserValue(), values[i])) {
+                        cell.setUserValue(values[i]);
+                        changedCells.add(cell);
+                        reorder = reorder || reorderingColumns[i];
+                    }
+                }
+            }
+        }
+
+        // rows not reloaded are either gone, or unchanged if only the changed sessions were loaded
+        Set<SessionKey> liveSessions = changes.getLiveSessions();
+        Set<SessionBrowserModelRow> removedRows = Collections.newSetFromMap(new IdentityHashMap<>());
+        for (SessionBrowserModelRow row : unmatchedRows.values()) {
+            if (liveSessions == null || !liveSessions.contains(row.getSessionKey())) {
+                removedRows.add(row);
+            }
+        }
+        if (removedRows.size() > 0) {
+            rows.removeIf(row -> removedRows.contains(row));
+            for (SessionBrowserModelRow row : removedRows) {
+                disposeRow(row);
+            }
+            reorder = true;
+        }
+
+        if (reorder) {
+            sort();
+            getState().setRowCount(getRowCount());
+
+            int newRowCount = getRowCount();
+            if (newRowCount > originalRowCount) notifyRowsInserted(originalRowCount, newRowCount);
+            if (newRowCount < originalRowCount) notifyRowsDeleted(newRowCount, originalRowCount);
+            int updateIndex = Math.min(originalRowCount, newRowCount);
+            if (updateIndex > 0) notifyRowsUpdated(0, updateIndex);
+        } else if (changedCells.size() > 0) {
+            Map<SessionBrowserModelRow, Integer> rowIndexes = getVisibleRowIndexes(changedCells);
+            for (SessionBrowserModelCell cell : changedCells) {
+                Integer rowIndex = rowIndexes.get(cell.getRow());
+                if (rowIndex != null) {
+                    notifyCellUpdated(rowIndex, cell.getIndex());
+                }
+            }
+        }
+        return reorder;
+    }
+
+    /**
+     * Columns whose changes may move rows (sorted columns and columns of the active filter)
+     */
+    private boolean[] getReorderingColumns() {
+        boolean[] columns = new boolean[getColumnCount()];
+        for (SortingInstruction sortingInstruction : getSortingState().getSortingInstructions()) {
+            int columnIndex = getColumnIndex(sortingInstruction.getColumnName());
+            if (columnIndex > -1) columns[columnIndex] = true;
+        }
+
+        if (getFilter() != null) {
+            for (String columnName : FILTER_COLUMNS) {
+                int columnIndex = getColumnIndex(columnName);
+                if (columnIndex > -1) columns[columnIndex] = true;
+            }
+        }
+        return columns;
+    }
+
+    private Map<SessionBrowserModelRow, Integer> getVisibleRowIndexes(List<SessionBrowserModelCell> cells) {
+        Map<SessionBrowserModelRow, Integer> rowIndexes = new IdentityHashMap<>();
+        for (SessionBrowserModelCell cell : cells) {
+            rowIndexes.put(cell.getRow(), -1);
+        }
+
+        if (getFilter() == null) {
+            // row indexes are kept in sync with the full list
+            rowIndexes.replaceAll((row, index) -> row.getIndex());
+        } else {
+            int index = 0;
+            for (SessionBrowserModelRow row : getRows()) {
+                if (rowIndexes.containsKey(row)) {
+                    rowIndexes.put(row, index);
+                }
+                index++;
+            }
+            rowIndexes.values().removeIf(rowIndex -> rowIndex == -1);
+        }
+        return rowIndexes;
+    }
+
     public List<String> getDistinctValues(SessionBrowserFilterType filterType, String selectedValue) {
         switch (filterType) {
             case USER: return getDistinctValues("USER", selectedValue);
@@ -19,6 +19,10 @@ public class SessionBrowserModelCell
         super(row, resultSet, columnInfo);
     }
 
+    public SessionBrowserModelCell(SessionBrowserModelRow row, Object userValue, int index) {
+        super(row, userValue, index);
+    }
+
     @NotNull
     @Override
     public SessionBrowserModel getModel() {
@@ -0,0 +1,39 @@
+package com.dci.intellij.dbn.editor.session.model;
+
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Session values loaded for updating a {@link SessionBrowserModel} in place (see {@link SessionBrowserModel#merge(SessionBrowserModelChanges)}).
+ * The values are positioned by the column indexes of the model.
+ */
+public class SessionBrowserModelChanges {
+    private final List<Object[]> sessions;
+    private final Set<SessionKey> liveSessions;
+
+    /**
+     * @param sessions the values of all sessions, or only of the changed ones if the live sessions are given
+     * @param liveSessions the keys of all live sessions if only the changed sessions were loaded, null otherwise
+     */
+    public SessionBrowserModelChanges(@NotNull List<Object[]> sessions, @Nullable Set<SessionKey> liveSessions) {
+        this.sessions = sessions;
+        this.liveSessions = liveSessions;
+    }
+
+    @NotNull
+    public List<Object[]> getSessions() {
+        return sessions;
+    }
+
+    @Nullable
+    public Set<SessionKey> getLiveSessions() {
+        return liveSessions;
+    }
+
+    public boolean isDelta() {
+        return liveSessions != null;
+    }
+}
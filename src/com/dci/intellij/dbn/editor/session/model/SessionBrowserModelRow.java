@@ -18,6 +18,13 @@ public class SessionBrowserModelRow
         super(model, resultSet, resultSetRowIndex);
     }
 
+    public SessionBrowserModelRow(SessionBrowserModel model, Object[] values, int resultSetRowIndex) {
+        super(model, resultSetRowIndex);
+        for (int i = 0; i < values.length; i++) {
+            addCell(new SessionBrowserModelCell(this, values[i], i));
+        }
+    }
+
     @NotNull
     @Override
     protected SessionBrowserModelCell createCell(ResultSet resultSet, ColumnInfo columnInfo) throws SQLException {
@@ -50,6 +57,10 @@ public class SessionBrowserModelRow
         return getCellValue("SERIAL_NUMBER");
     }
 
+    public SessionKey getSessionKey() {
+        return SessionKey.of(getSessionId(), getSerialNumber());
+    }
+
     public String getSchema() {
         return (String) getCellValue("SCHEMA");
     }
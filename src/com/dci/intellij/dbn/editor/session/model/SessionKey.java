@@ -0,0 +1,41 @@
+package com.dci.intellij.dbn.editor.session.model;
+
+import java.util.Objects;
+
+/**
+ * Identity of a session across reloads. Values are compared in their string form,
+ * as the same id may be read with different java types by different queries.
+ */
+public final class SessionKey {
+    private final String sessionId;
+    private final String serialNumber;
+
+    private SessionKey(Object sessionId, Object serialNumber) {
+        this.sessionId = Objects.toString(sessionId, null);
+        this.serialNumber = Objects.toString(serialNumber, null);
+    }
+
+    public static SessionKey of(Object sessionId, Object serialNumber) {
+        return new SessionKey(sessionId, serialNumber);
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+
+        SessionKey that = (SessionKey) o;
+        return Objects.equals(sessionId, that.sessionId) &&
+                Objects.equals(serialNumber, that.serialNumber);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(sessionId, serialNumber);
+    }
+
+    @Override
+    public String toString() {
+        return sessionId + "," + serialNumber;
+    }
+}
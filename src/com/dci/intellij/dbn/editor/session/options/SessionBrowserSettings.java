@@ -12,6 +12,7 @@ public class SessionBrowserSettings extends BasicConfiguration<OperationSettings
     public static final String REMEMBER_OPTION_HINT = ""; //"\n\n(you can remember your option and change it at any time in Settings > Operations > Session Manager)";
 
     private boolean reloadOnFilterChange = false;
+    private boolean loadChangesOnly = false;
     private InteractiveOptionBroker<SessionInterruptionOption> disconnectSession =
             new InteractiveOptionBroker<SessionInterruptionOption>(
                     "disconnect-session",
@@ -69,6 +70,17 @@ public class SessionBrowserSettings extends BasicConfiguration<OperationSettings
         this.reloadOnFilterChange = reloadOnFilterChange;
     }
 
+    /**
+     * Timed refreshes only load the sessions active since the previous refresh (where supported by the database)
+     */
+    public boolean isLoadChangesOnly() {
+        return loadChangesOnly;
+    }
+
+    public void setLoadChangesOnly(boolean loadChangesOnly) {
+        this.loadChangesOnly = loadChangesOnly;
+    }
+
     /****************************************************
      *                   Configuration                  *
      ****************************************************/
@@ -88,6 +100,7 @@ public class SessionBrowserSettings extends BasicConfiguration<OperationSettings
         disconnectSession.readConfiguration(element);
         killSession.readConfiguration(element);
         reloadOnFilterChange = SettingsSupport.getBoolean(element, "reload-on-filter-change", reloadOnFilterChange);
+        loadChangesOnly = SettingsSupport.getBoolean(element, "load-changes-only", loadChangesOnly);
     }
 
     @Override
@@ -95,5 +108,6 @@ public class SessionBrowserSettings extends BasicConfiguration<OperationSettings
         disconnectSession.writeConfiguration(element);
         killSession.writeConfiguration(element);
         SettingsSupport.setBoolean(element, "reload-on-filter-change", reloadOnFilterChange);
+        SettingsSupport.setBoolean(element, "load-changes-only", loadChangesOnly);
     }
 }
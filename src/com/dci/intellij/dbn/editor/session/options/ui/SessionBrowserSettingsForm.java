@@ -16,6 +16,7 @@ public class SessionBrowserSettingsForm extends ConfigurationEditorForm<SessionB
     private JComboBox<SessionInterruptionOption> disconnectSessionComboBox;
     private JComboBox<SessionInterruptionOption> killSessionComboBox;
     private JCheckBox reloadOnFilterChangeCheckBox;
+    private JCheckBox loadChangesOnlyCheckBox;
 
     public SessionBrowserSettingsForm(SessionBrowserSettings settings) {
         super(settings);
@@ -47,6 +48,7 @@ public class SessionBrowserSettingsForm extends ConfigurationEditorForm<SessionB
         settings.getDisconnectSession().set(getSelection(disconnectSessionComboBox));
         settings.getKillSession().set(getSelection(killSessionComboBox));
         settings.setReloadOnFilterChange(reloadOnFilterChangeCheckBox.isSelected());
+        settings.setLoadChangesOnly(loadChangesOnlyCheckBox.isSelected());
     }
 
     @Override
@@ -55,5 +57,6 @@ public class SessionBrowserSettingsForm extends ConfigurationEditorForm<SessionB
         setSelection(disconnectSessionComboBox, settings.getDisconnectSession().get());
         setSelection(killSessionComboBox, settings.getKillSession().get());
         reloadOnFilterChangeCheckBox.setSelected(settings.isReloadOnFilterChange());
+        loadChangesOnlyCheckBox.setSelected(settings.isLoadChangesOnly());
     }
 }
@@ -4,7 +4,6 @@ import com.dci.intellij.dbn.common.AbstractProjectComponent;
 import com.dci.intellij.dbn.common.dispose.Failsafe;
 import com.dci.intellij.dbn.common.routine.ParametricRunnable;
 import com.dci.intellij.dbn.common.thread.Progress;
-import com.dci.intellij.dbn.common.util.CommonUtil;
 import com.dci.intellij.dbn.common.util.EventUtil;
 import com.dci.intellij.dbn.connection.ConnectionAction;
 import com.dci.intellij.dbn.connection.ConnectionHandler;
@@ -26,7 +25,6 @@ import com.dci.intellij.dbn.object.common.status.DBObjectStatus;
 import com.dci.intellij.dbn.object.common.status.DBObjectStatusHolder;
 import com.dci.intellij.dbn.vfs.file.DBEditableObjectVirtualFile;
 import com.dci.intellij.dbn.vfs.file.DBSourceCodeVirtualFile;
-import com.intellij.openapi.progress.ProgressIndicator;
 import com.intellij.openapi.project.Project;
 import com.intellij.openapi.ui.DialogWrapper;
 import org.jetbrains.annotations.NonNls;
@@ -155,7 +153,7 @@ public class DatabaseCompilerManager extends AbstractProjectComponent {
                 });
     }
 
-    private void doCompileObject(DBSchemaObject object, CompileType compileType, CompilerAction compilerAction) {
+    void doCompileObject(DBSchemaObject object, CompileType compileType, CompilerAction compilerAction) {
         DBContentType contentType = compilerAction.getContentType();
         DBObjectStatusHolder objectStatus = object.getStatus();
         if (objectStatus.isNot(contentType, DBObjectStatus.COMPILING)) {
@@ -222,12 +220,8 @@ public class DatabaseCompilerManager extends AbstractProjectComponent {
                             Progress.prompt(getProject(), "Compiling invalid objects", true,
                                     (progress) -> {
                                         Project project = getProject();
-                                        progress.setIndeterminate(false);
-                                        doCompileInvalidObjects(schema.getPackages(), "packages", progress, selectedCompileType);
-                                        doCompileInvalidObjects(schema.getFunctions(), "functions", progress, selectedCompileType);
-                                        doCompileInvalidObjects(schema.getProcedures(), "procedures", progress, selectedCompileType);
-                                        doCompileInvalidObjects(schema.getDatasetTriggers(), "dataset triggers", progress, selectedCompileType);
-                                        doCompileInvalidObjects(schema.getDatabaseTriggers(), "database triggers", progress, selectedCompileType);
+                                        InvalidObjectsCompiler compiler = new InvalidObjectsCompiler(this, schema, selectedCompileType, progress);
+                                        compiler.compile();
                                         EventUtil.notify(project,
                                                 CompileManagerListener.TOPIC,
                                                 (listener) -> listener.compileFinished(connectionHandler, null));
@@ -255,37 +249,6 @@ public class DatabaseCompilerManager extends AbstractProjectComponent {
                 });
     }
 
-    private void doCompileInvalidObjects(List<? extends DBSchemaObject> objects, String description, ProgressIndicator progressIndicator, CompileType compileType) {
-        if (progressIndicator.isCanceled()) return;
-
-        progressIndicator.setText("Compiling invalid " + description + "...");
-        int count = objects.size();
-        for (int i=0; i< count; i++) {
-            if (progressIndicator.isCanceled() || objects.size() == 0 /* may be disposed meanwhile*/) {
-                break;
-            } else {
-                DBSchemaObject object = objects.get(i);
-                progressIndicator.setFraction(CommonUtil.getProgressPercentage(i, count));
-                DBObjectStatusHolder objectStatus = object.getStatus();
-                if (object.getContentType().isBundle()) {
-                    for (DBContentType contentType : object.getContentType().getSubContentTypes()) {
-                        if (objectStatus.isNot(contentType, DBObjectStatus.VALID)) {
-                            CompilerAction compilerAction = new CompilerAction(CompilerActionSource.BULK_COMPILE, contentType);
-                            doCompileObject(object, compileType, compilerAction);
-                            progressIndicator.setText2("Compiling " + object.getQualifiedNameWithType());
-                        }
-                    }
-                } else {
-                    if (objectStatus.isNot(DBObjectStatus.VALID)) {
-                        CompilerAction compilerAction = new CompilerAction(CompilerActionSource.BULK_COMPILE, object.getContentType());
-                        doCompileObject(object, compileType, compilerAction);
-                        progressIndicator.setText2("Compiling " + object.getQualifiedNameWithType());
-                    }
-                }
-            }
-        }
-    }
-
     private void buildCompilationErrors(List<? extends DBSchemaObject> objects, List<CompilerResult> compilerErrors) {
         for (DBSchemaObject object : objects) {
             if (!object.getStatus().is(DBObjectStatus.VALID)) {
@@ -0,0 +1,318 @@
+package com.dci.intellij.dbn.execution.compiler;
+
+import com.dci.intellij.dbn.common.LoggerFactory;
+import com.dci.intellij.dbn.common.dispose.Failsafe;
+import com.dci.intellij.dbn.common.notification.NotificationGroup;
+import com.dci.intellij.dbn.common.notification.NotificationSupport;
+import com.dci.intellij.dbn.common.thread.ThreadFactory;
+import com.dci.intellij.dbn.common.thread.ThreadInfo;
+import com.dci.intellij.dbn.common.thread.ThreadMonitor;
+import com.dci.intellij.dbn.common.thread.ThreadProperty;
+import com.dci.intellij.dbn.editor.DBContentType;
+import com.dci.intellij.dbn.object.DBSchema;
+import com.dci.intellij.dbn.object.common.DBObject;
+import com.dci.intellij.dbn.object.common.DBSchemaObject;
+import com.dci.intellij.dbn.object.common.status.DBObjectStatus;
+import com.dci.intellij.dbn.object.common.status.DBObjectStatusHolder;
+import com.intellij.openapi.diagnostic.Logger;
+import com.intellij.openapi.progress.ProcessCanceledException;
+import com.intellij.openapi.progress.ProgressIndicator;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Compiles the invalid objects of a schema using several pool connections in parallel.
+ * The referenced objects of the invalid objects are loaded first, to build the dependency graph between them.
+ * An object is only compiled after the invalid objects it depends on were compiled, independent objects are compiled concurrently.
+ * Dependency cycles are broken by compiling the blocked object with the fewest pending dependencies first.
+ */
+class InvalidObjectsCompiler {
+    private static final Logger LOGGER = LoggerFactory.createLogger();
+    private static final int MAX_PARALLELISM = 4;
+    private static final int REPORTED_SLOWEST_OBJECTS = 5;
+
+    private final DatabaseCompilerManager compilerManager;
+    private final DBSchema schema;
+    private final CompileType compileType;
+    private final ProgressIndicator progress;
+    private final int parallelism;
+    private final Map<DBSchemaObject, CompileUnit> units = new LinkedHashMap<>();
+    private final AtomicInteger processed = new AtomicInteger();
+
+    InvalidObjectsCompiler(@NotNull DatabaseCompilerManager compilerManager, @NotNull DBSchema schema, CompileType compileType, @NotNull ProgressIndicator progress) {
+        this.compilerManager = compilerManager;
+        this.schema = schema;
+        this.compileType = compileType;
+        this.progress = progress;
+
+        // leave at least one pool connection for interactive work
+        int maxPoolSize = schema.getConnectionHandler().getSettings().getDetailSettings().getMaxConnectionPoolSize();
+        this.parallelism = Math.max(1, Math.min(MAX_PARALLELISM, maxPoolSize - 1));
+    }
+
+    void compile() {
+        progress.setIndeterminate(false);
+        progress.setText("Collecting invalid objects...");
+        collectUnits(schema.getPackages());
+        collectUnits(schema.getFunctions());
+        collectUnits(schema.getProcedures());
+        collectUnits(schema.getDatasetTriggers());
+        collectUnits(schema.getDatabaseTriggers());
+        if (units.isEmpty()) return;
+
+        progress.setText("Loading dependencies of invalid objects...");
+        loadDependencies();
+        if (isCancelled()) return;
+
+        progress.setText("Compiling invalid objects...");
+        processed.set(0);
+        long start = System.currentTimeMillis();
+        int compiled = compileUnits();
+        long duration = System.currentTimeMillis() - start;
+
+        if (compiled > 0) {
+            reportTiming(compiled, duration);
+        }
+    }
+
+    private void collectUnits(List<? extends DBSchemaObject> objects) {
+        for (DBSchemaObject object : objects) {
+            if (isCancelled()) return;
+
+            DBObjectStatusHolder objectStatus = object.getStatus();
+            List<DBContentType> contentTypes = new ArrayList<>();
+            DBContentType contentType = object.getContentType();
+            if (contentType.isBundle()) {
+                for (DBContentType subContentType : contentType.getSubContentTypes()) {
+                    if (objectStatus.isNot(subContentType, DBObjectStatus.VALID)) {
+                        contentTypes.add(subContentType);
+                    }
+                }
+            } else if (objectStatus.isNot(DBObjectStatus.VALID)) {
+                contentTypes.add(contentType);
+            }
+
+            if (contentTypes.size() > 0) {
+                units.put(object, new CompileUnit(object, contentTypes));
+            }
+        }
+    }
+
+    /**
+     * Loads the referenced objects of all units in parallel and links the units depending on each other
+     */
+    private void loadDependencies() {
+        Queue<CompileUnit> queue = new ConcurrentLinkedQueue<>(units.values());
+        ThreadInfo invoker = ThreadMonitor.current();
+        ExecutorService executorService = ThreadFactory.backgroundExecutor();
+
+        int workerCount = Math.min(parallelism, units.size());
+        List<Future<?>> workers = new ArrayList<>(workerCount);
+        for (int i = 0; i < workerCount; i++) {
+            workers.add(executorService.submit(() ->
+                    ThreadMonitor.run(
+                            invoker,
+                            ThreadProperty.BACKGROUND,
+                            () -> loadDependencies(queue))));
+        }
+
+        for (Future<?> worker : workers) {
+            try {
+                worker.get();
+            } catch (InterruptedException e) {
+                queue.clear();
+                Thread.currentThread().interrupt();
+                return;
+            } catch (ExecutionException e) {
+                LOGGER.warn("Error loading dependencies of invalid objects in schema " + schema.getName(), e.getCause());
+            }
+        }
+
+        for (CompileUnit unit : units.values()) {
+            for (DBObject referencedObject : unit.referencedObjects) {
+                CompileUnit dependency = units.get(referencedObject);
+                if (dependency != null && dependency != unit && dependency.dependents.add(unit)) {
+                    unit.pendingDependencies++;
+                }
+            }
+            unit.referencedObjects = null;
+        }
+    }
+
+    private void loadDependencies(Queue<CompileUnit> queue) {
+        CompileUnit unit = queue.poll();
+        while (unit != null && !isCancelled()) {
+            DBSchemaObject object = unit.object;
+            progress.setText2(object.getQualifiedNameWithType());
+            try {
+                unit.referencedObjects = new ArrayList<>(object.getReferencedObjects());
+            } catch (ProcessCanceledException e) {
+                return;
+            } catch (RuntimeException e) {
+                LOGGER.warn("Error loading dependencies of " + object.getQualifiedNameWithType(), e);
+            }
+
+            progress.setFraction((double) processed.incrementAndGet() / units.size());
+            unit = queue.poll();
+        }
+    }
+
+    /**
+     * Schedules the units in dependency order, keeping at most {@link #parallelism} compilations running
+     * @return the number of compiled units
+     */
+    private int compileUnits() {
+        BlockingQueue<CompileUnit> completed = new LinkedBlockingQueue<>();
+        Deque<CompileUnit> ready = new ArrayDeque<>();
+        for (CompileUnit unit : units.values()) {
+            if (unit.pendingDependencies == 0) {
+                ready.add(unit);
+                unit.scheduled = true;
+            }
+        }
+
+        ThreadInfo invoker = ThreadMonitor.current();
+        ExecutorService executorService = ThreadFactory.backgroundExecutor();
+        int remaining = units.size();
+        int running = 0;
+        int compiled = 0;
+        try {
+            while (remaining > 0) {
+                if (isCancelled()) break;
+
+                while (running < parallelism && !ready.isEmpty()) {
+                    CompileUnit unit = ready.poll();
+                    executorService.submit(() ->
+                            ThreadMonitor.run(
+                                    invoker,
+                                    ThreadProperty.BACKGROUND,
+                                    () -> compileUnit(unit, completed)));
+                    running++;
+                }
+
+                if (running == 0) {
+                    // all remaining units are part of (or depend on) a dependency cycle
+                    CompileUnit unit = getCycleBreaker();
+                    ready.add(unit);
+                    unit.scheduled = true;
+                    continue;
+                }
+
+                CompileUnit unit = completed.poll(100, TimeUnit.MILLISECONDS);
+                if (unit == null) continue;
+
+                running--;
+                remaining--;
+                compiled++;
+                for (CompileUnit dependent : unit.dependents) {
+                    dependent.pendingDependencies--;
+                    if (dependent.pendingDependencies == 0 && !dependent.scheduled) {
+                        ready.add(dependent);
+                        dependent.scheduled = true;
+                    }
+                }
+            }
+
+            // let the running compilations finish before reporting the compile operation as finished
+            while (running > 0) {
+                completed.take();
+                running--;
+                compiled++;
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        return compiled;
+    }
+
+    private CompileUnit getCycleBreaker() {
+        CompileUnit cycleBreaker = null;
+        for (CompileUnit unit : units.values()) {
+            if (!unit.scheduled && (cycleBreaker == null || unit.pendingDependencies < cycleBreaker.pendingDependencies)) {
+                cycleBreaker = unit;
+            }
+        }
+        return Failsafe.nn(cycleBreaker);
+    }
+
+    private void compileUnit(CompileUnit unit, BlockingQueue<CompileUnit> completed) {
+        DBSchemaObject object = unit.object;
+        long start = System.currentTimeMillis();
+        try {
+            for (DBContentType contentType : unit.contentTypes) {
+                if (isCancelled()) break;
+
+                progress.setText2("Compiling " + object.getQualifiedNameWithType());
+                CompilerAction compilerAction = new CompilerAction(CompilerActionSource.BULK_COMPILE, contentType);
+                compilerManager.doCompileObject(object, compileType, compilerAction);
+            }
+        } catch (ProcessCanceledException ignore) {
+        } catch (RuntimeException e) {
+            LOGGER.warn("Error compiling " + object.getQualifiedNameWithType(), e);
+        } finally {
+            unit.duration = System.currentTimeMillis() - start;
+            progress.setFraction((double) processed.incrementAndGet() / units.size());
+            completed.add(unit);
+        }
+    }
+
+    private void reportTiming(int compiled, long duration) {
+        List<CompileUnit> compiledUnits = new ArrayList<>();
+        for (CompileUnit unit : units.values()) {
+            if (unit.duration >= 0) {
+                compiledUnits.add(unit);
+                LOGGER.info("Compiled " + unit.object.getQualifiedNameWithType() + " in " + unit.duration + " ms");
+            }
+        }
+        compiledUnits.sort((unit1, unit2) -> Long.compare(unit2.duration, unit1.duration));
+
+        StringBuilder slowestObjects = new StringBuilder();
+        for (int i = 0; i < Math.min(REPORTED_SLOWEST_OBJECTS, compiledUnits.size()); i++) {
+            CompileUnit unit = compiledUnits.get(i);
+            if (i > 0) slowestObjects.append(", ");
+            slowestObjects.append(unit.object.getQualifiedNameWithType()).append(" (").append(unit.duration).append(" ms)");
+        }
+
+        NotificationSupport.sendInfoNotification(
+                compilerManager.getProject(),
+                NotificationGroup.COMPILER,
+                "Compiled {0} invalid objects of schema {1} in {2} ms (parallelism {3}). Slowest objects: {4}",
+                compiled, schema.getName(), duration, parallelism, slowestObjects);
+    }
+
+    private boolean isCancelled() {
+        return progress.isCanceled() || !Failsafe.check(schema);
+    }
+
+    private static class CompileUnit {
+        private final DBSchemaObject object;
+        private final List<DBContentType> contentTypes;
+        private final Set<CompileUnit> dependents = new LinkedHashSet<>();
+        private List<DBObject> referencedObjects = new ArrayList<>();
+        private int pendingDependencies;
+        private boolean scheduled;
+        private volatile long duration = -1;
+
+        CompileUnit(DBSchemaObject object, List<DBContentType> contentTypes) {
+            this.object = object;
+            this.contentTypes = contentTypes;
+        }
+    }
+}
@@ -9,6 +9,7 @@ import com.dci.intellij.dbn.common.util.EditorUtil;
 import com.dci.intellij.dbn.common.util.MessageUtil;
 import com.dci.intellij.dbn.common.util.StringUtil;
 import com.dci.intellij.dbn.data.editor.text.TextContentType;
+import com.dci.intellij.dbn.data.preview.LargeValuePreviewPopup;
 import com.dci.intellij.dbn.data.value.LargeObjectValue;
 import com.dci.intellij.dbn.editor.data.options.DataEditorQualifiedEditorSettings;
 import com.dci.intellij.dbn.editor.data.options.DataEditorSettings;
@@ -29,6 +30,7 @@ import com.intellij.openapi.fileTypes.SyntaxHighlighter;
 import com.intellij.openapi.fileTypes.SyntaxHighlighterFactory;
 import com.intellij.openapi.project.Project;
 import com.intellij.ui.IdeBorderFactory;
+import com.intellij.util.ui.UIUtil;
 import org.jetbrains.annotations.NotNull;
 
 import javax.swing.*;
@@ -51,9 +53,11 @@ public class MethodExecutionLargeValueResultForm extends DBNFormImpl<MethodExecu
         ArgumentValue argumentValue = executionResult.getArgumentValue(argumentRef);
         LargeObjectValue value = (LargeObjectValue) argumentValue.getValue();
         String text = null;
+        boolean partiallyLoaded = false;
         Project project = getProject();
         try {
-            text = value.read();
+            text = value.read(LargeValuePreviewPopup.MAX_SIZE);
+            partiallyLoaded = value.size() > LargeValuePreviewPopup.MAX_SIZE;
         } catch (SQLException e) {
             MessageUtil.showWarningDialog(project, "Load error", "Could not load value for argument " + argument.getName() + ". Cause: " + e.getMessage());
         }
@@ -74,6 +78,11 @@ public class MethodExecutionLargeValueResultForm extends DBNFormImpl<MethodExecu
                 "DBNavigator.Place.MethodExecutionResult.LobContentTypeEditor", true,
                 new ContentTypeComboBoxAction());
         actionsPanel.add(actionToolbar.getComponent(), BorderLayout.WEST);
+        if (partiallyLoaded) {
+            JLabel contentInfoLabel = new JLabel(LargeValuePreviewPopup.MAX_SIZE + " characters (partially loaded)");
+            contentInfoLabel.setForeground(UIUtil.getLabelDisabledForeground());
+            actionsPanel.add(contentInfoLabel, BorderLayout.EAST);
+        }
 
 
 /*
@@ -0,0 +1,127 @@
+package com.dci.intellij.dbn.language.common;
+
+import com.dci.intellij.dbn.common.util.Compactable;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.AbstractSet;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
+/**
+ * Set of token types backed by a bitset over {@link TokenType#getIdx()} (token indexes are dense and not shared with element types).
+ * The bitset only spans the words between the lowest and the highest index in the set.
+ * The set is append-only: it is populated while the element type lookup caches are built, and only read afterwards.
+ */
+public class TokenTypeSet extends AbstractSet<TokenType> implements Compactable {
+    private static final long[] NO_WORDS = new long[0];
+    private static final TokenType[] NO_TOKEN_TYPES = new TokenType[0];
+
+    private int wordOffset;
+    private long[] words = NO_WORDS;
+    private TokenType[] tokenTypes = NO_TOKEN_TYPES;
+    private int size;
+
+    public TokenTypeSet() {}
+
+    public TokenTypeSet(TokenType ... tokenTypes) {
+        for (TokenType tokenType : tokenTypes) {
+            add(tokenType);
+        }
+    }
+
+    public boolean contains(TokenType tokenType) {
+        int idx = tokenType.getIdx();
+        int index = (idx >>> 6) - wordOffset;
+        return index >= 0 && index < words.length && (words[index] & (1L << idx)) != 0;
+    }
+
+    @Override
+    public boolean contains(Object o) {
+        return o instanceof TokenType && contains((TokenType) o);
+    }
+
+    @Override
+    public boolean add(TokenType tokenType) {
+        int idx = tokenType.getIdx();
+        int index = ensureWord(idx >>> 6);
+        long mask = 1L << idx;
+        if ((words[index] & mask) != 0) return false;
+
+        words[index] |= mask;
+        if (size == tokenTypes.length) {
+            tokenTypes = Arrays.copyOf(tokenTypes, Math.max(4, size * 2));
+        }
+        tokenTypes[size] = tokenType;
+        size++;
+        return true;
+    }
+
+    @Override
+    public boolean addAll(@NotNull Collection<? extends TokenType> tokenTypes) {
+        if (tokenTypes instanceof TokenTypeSet) {
+            TokenTypeSet tokenTypeSet = (TokenTypeSet) tokenTypes;
+            boolean changed = false;
+            for (int i = 0; i < tokenTypeSet.size; i++) {
+                changed = add(tokenTypeSet.tokenTypes[i]) || changed;
+            }
+            return changed;
+        }
+        return super.addAll(tokenTypes);
+    }
+
+    private int ensureWord(int word) {
+        if (words.length == 0) {
+            words = new long[1];
+            wordOffset = word;
+        } else if (word < wordOffset) {
+            long[] newWords = new long[words.length + wordOffset - word];
+            System.arraycopy(words, 0, newWords, wordOffset - word, words.length);
+            words = newWords;
+            wordOffset = word;
+        } else if (word >= wordOffset + words.length) {
+            words = Arrays.copyOf(words, word - wordOffset + 1);
+        }
+        return word - wordOffset;
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    @Override
+    public void clear() {
+        wordOffset = 0;
+        words = NO_WORDS;
+        tokenTypes = NO_TOKEN_TYPES;
+        size = 0;
+    }
+
+    @NotNull
+    @Override
+    public Iterator<TokenType> iterator() {
+        return new Iterator<TokenType>() {
+            private int index;
+
+            @Override
+            public boolean hasNext() {
+                return index < size;
+            }
+
+            @Override
+            public TokenType next() {
+                if (index >= size) throw new NoSuchElementException();
+                return tokenTypes[index++];
+            }
+        };
+    }
+
+    @Override
+    public void compact() {
+        if (tokenTypes.length > size) {
+            tokenTypes = size == 0 ? NO_TOKEN_TYPES : Arrays.copyOf(tokenTypes, size);
+        }
+    }
+}
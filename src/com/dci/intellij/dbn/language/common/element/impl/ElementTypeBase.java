@@ -32,9 +32,12 @@ import org.jetbrains.annotations.Nullable;
 import javax.swing.*;
 import java.util.Set;
 import java.util.StringTokenizer;
+import java.util.concurrent.atomic.AtomicInteger;
 
 public abstract class ElementTypeBase extends IElementType implements ElementType {
     private static final Logger LOGGER = LoggerFactory.createLogger();
+    // element types are indexed separately from token types, to keep the token indexes dense
+    private static final AtomicInteger INDEXER = new AtomicInteger();
     private static final FormattingDefinition STATEMENT_FORMATTING = new FormattingDefinition(null, IndentDefinition.NORMAL, SpacingDefinition.MIN_LINE_BREAK, null);
 
     private int idx;
@@ -60,7 +63,7 @@ public abstract class ElementTypeBase extends IElementType implements ElementTyp
 
     ElementTypeBase(@NotNull ElementTypeBundle bundle, ElementTypeBase parent, String id, @Nullable String description) {
         super(id, bundle.getLanguageDialect(), false);
-        idx = TokenType.INDEXER.incrementAndGet();
+        idx = INDEXER.incrementAndGet();
         this.id = id.intern();
         this.hashCode = id.hashCode();
         this.description = description;
@@ -70,7 +73,7 @@ public abstract class ElementTypeBase extends IElementType implements ElementTyp
 
     ElementTypeBase(@NotNull ElementTypeBundle bundle, ElementTypeBase parent, String id, @NotNull Element def) throws ElementTypeDefinitionException {
         super(id, bundle.getLanguageDialect(), false);
-        idx = TokenType.INDEXER.incrementAndGet();
+        idx = INDEXER.incrementAndGet();
         String defId = def.getAttributeValue("id");
         this.hashCode = id.hashCode();
         if (!id.equals(defId)) {
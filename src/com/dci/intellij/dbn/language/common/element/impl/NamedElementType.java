@@ -2,6 +2,7 @@ package com.dci.intellij.dbn.language.common.element.impl;
 
 import com.dci.intellij.dbn.language.common.element.ElementTypeBundle;
 import com.dci.intellij.dbn.language.common.element.lookup.NamedElementTypeLookupCache;
+import com.dci.intellij.dbn.language.common.element.parser.ElementTypeReparser;
 import com.dci.intellij.dbn.language.common.element.parser.impl.NamedElementTypeParser;
 import com.dci.intellij.dbn.language.common.element.util.ElementTypeAttribute;
 import com.dci.intellij.dbn.language.common.element.util.ElementTypeDefinitionException;
@@ -9,14 +10,20 @@ import com.dci.intellij.dbn.language.common.psi.ExecutablePsiElement;
 import com.dci.intellij.dbn.language.common.psi.NamedPsiElement;
 import com.dci.intellij.dbn.language.common.psi.RootPsiElement;
 import com.intellij.lang.ASTNode;
+import com.intellij.lang.Language;
+import com.intellij.openapi.project.Project;
 import com.intellij.psi.PsiElement;
+import com.intellij.psi.tree.ICustomParsingType;
+import com.intellij.psi.tree.IReparseableElementTypeBase;
+import com.intellij.util.CharTable;
 import gnu.trove.THashSet;
 import org.jdom.Element;
 import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
 
 import java.util.Set;
 
-public class NamedElementType extends SequenceElementType {
+public class NamedElementType extends SequenceElementType implements IReparseableElementTypeBase, ICustomParsingType {
     private boolean definitionLoaded;
     private Set<ElementTypeBase> parents;
     private boolean truncateOnExecution;
@@ -80,4 +87,28 @@ public class NamedElementType extends SequenceElementType {
     public boolean truncateOnExecution() {
         return truncateOnExecution;
     }
+
+    /*********************************************************
+     *                      Reparse                          *
+     *********************************************************/
+    @Override
+    public boolean isParsable(@Nullable ASTNode parent, @NotNull CharSequence buffer, @NotNull Language fileLanguage, @NotNull Project project) {
+        return ElementTypeReparser.isParsable(this, parent, buffer);
+    }
+
+    @Override
+    public boolean isValidReparse(@NotNull ASTNode oldNode, @NotNull ASTNode newNode) {
+        return oldNode.getElementType() == newNode.getElementType();
+    }
+
+    @NotNull
+    @Override
+    public ASTNode parse(@NotNull CharSequence text, @NotNull CharTable table) {
+        return ElementTypeReparser.parse(this, text);
+    }
+
+    @Override
+    public ASTNode parseContents(@NotNull ASTNode chameleon) {
+        return ElementTypeReparser.parse(this, chameleon.getChars());
+    }
 }
@@ -1,6 +1,7 @@
 package com.dci.intellij.dbn.language.common.element.impl;
 
 import com.dci.intellij.dbn.common.util.CommonUtil;
+import com.dci.intellij.dbn.language.common.TokenType;
 import com.dci.intellij.dbn.language.common.element.ElementTypeBundle;
 import com.dci.intellij.dbn.language.common.element.lookup.OneOfElementTypeLookupCache;
 import com.dci.intellij.dbn.language.common.element.parser.BranchCheck;
@@ -12,15 +13,22 @@ import com.intellij.psi.PsiElement;
 import org.jdom.Element;
 import org.jetbrains.annotations.NotNull;
 
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
 
 public class OneOfElementType extends ElementTypeBase {
+    private static final ElementTypeRef[] NO_CHILDREN = new ElementTypeRef[0];
+
     protected final ElementTypeRef[] children;
     private boolean sortable;
     private boolean sorted;
+    private volatile DispatchTable dispatchTable;
 
     public OneOfElementType(ElementTypeBundle bundle, ElementTypeBase parent, String id, Element def) throws ElementTypeDefinitionException {
         super(bundle, parent, id, def);
@@ -86,7 +94,82 @@ public class OneOfElementType extends ElementTypeBase {
         return children;
     }
 
+    /**
+     * Returns the children in parse order (identifier-first children are moved to the end if the element is sortable)
+     */
+    public ElementTypeRef[] getSortedChildren() {
+        getDispatchTable();
+        return children;
+    }
+
+    /**
+     * Returns the children which could start with the given token, in parse order.
+     * The lookup table is built on first use, when the lookup caches of the children are complete.
+     */
+    public ElementTypeRef[] getChildren(TokenType tokenType) {
+        return getDispatchTable().get(tokenType);
+    }
+
+    private DispatchTable getDispatchTable() {
+        DispatchTable dispatchTable = this.dispatchTable;
+        if (dispatchTable == null) {
+            synchronized (this) {
+                dispatchTable = this.dispatchTable;
+                if (dispatchTable == null) {
+                    sort();
+                    dispatchTable = new DispatchTable(children);
+                    this.dispatchTable = dispatchTable;
+                }
+            }
+        }
+        return dispatchTable;
+    }
+
     public ElementTypeRef getFirstChild() {
         return children[0];
     }
+
+    /**
+     * Children by first possible token, indexed by {@link TokenType#getIdx()} relative to the lowest index
+     */
+    private static class DispatchTable {
+        private final int offset;
+        private final ElementTypeRef[][] children;
+
+        DispatchTable(ElementTypeRef[] children) {
+            Map<TokenType, List<ElementTypeRef>> candidates = new HashMap<>();
+            int minIdx = Integer.MAX_VALUE;
+            int maxIdx = -1;
+            for (ElementTypeRef child : children) {
+                Set<TokenType> tokenTypes = new HashSet<>(child.getLookupCache().getFirstPossibleTokens());
+                WrappingDefinition wrapping = child.elementType.getWrapping();
+                if (wrapping != null) {
+                    tokenTypes.add(wrapping.getBeginElementType().tokenType);
+                }
+
+                for (TokenType tokenType : tokenTypes) {
+                    candidates.computeIfAbsent(tokenType, t -> new ArrayList<>()).add(child);
+                    minIdx = Math.min(minIdx, tokenType.getIdx());
+                    maxIdx = Math.max(maxIdx, tokenType.getIdx());
+                }
+            }
+
+            this.offset = maxIdx < 0 ? 0 : minIdx;
+            this.children = new ElementTypeRef[maxIdx < 0 ? 0 : maxIdx - minIdx + 1][];
+
+            // children registered for the same tokens share one array
+            Map<List<ElementTypeRef>, ElementTypeRef[]> arrays = new HashMap<>();
+            for (Map.Entry<TokenType, List<ElementTypeRef>> entry : candidates.entrySet()) {
+                List<ElementTypeRef> tokenChildren = entry.getValue();
+                ElementTypeRef[] array = arrays.computeIfAbsent(tokenChildren, c -> c.toArray(NO_CHILDREN));
+                this.children[entry.getKey().getIdx() - offset] = array;
+            }
+        }
+
+        ElementTypeRef[] get(TokenType tokenType) {
+            int index = tokenType.getIdx() - offset;
+            ElementTypeRef[] tokenChildren = index >= 0 && index < children.length ? children[index] : null;
+            return tokenChildren == null ? NO_CHILDREN : tokenChildren;
+        }
+    }
 }
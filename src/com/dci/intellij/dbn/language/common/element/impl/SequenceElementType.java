@@ -2,6 +2,7 @@ package com.dci.intellij.dbn.language.common.element.impl;
 
 import com.dci.intellij.dbn.common.util.CommonUtil;
 import com.dci.intellij.dbn.language.common.TokenType;
+import com.dci.intellij.dbn.language.common.TokenTypeSet;
 import com.dci.intellij.dbn.language.common.element.ElementType;
 import com.dci.intellij.dbn.language.common.element.ElementTypeBundle;
 import com.dci.intellij.dbn.language.common.element.lookup.ElementLookupContext;
@@ -13,7 +14,6 @@ import com.dci.intellij.dbn.language.common.element.util.ElementTypeDefinitionEx
 import com.dci.intellij.dbn.language.common.psi.SequencePsiElement;
 import com.intellij.lang.ASTNode;
 import com.intellij.psi.PsiElement;
-import gnu.trove.THashSet;
 import org.jdom.Element;
 import org.jetbrains.annotations.NotNull;
 
@@ -113,7 +113,7 @@ public class SequenceElementType extends ElementTypeBase {
 
     public Set<TokenType> getFirstPossibleTokensFromIndex(ElementLookupContext context, int index) {
         if (children[index].optional) {
-            Set<TokenType> tokenTypes = new THashSet<>();
+            Set<TokenType> tokenTypes = new TokenTypeSet();
             for (int i=index; i< children.length; i++) {
                 ElementTypeLookupCache lookupCache = children[i].getLookupCache();
                 lookupCache.collectFirstPossibleTokens(context.reset(), tokenTypes);
@@ -2,10 +2,10 @@ package com.dci.intellij.dbn.language.common.element.lookup;
 
 import com.dci.intellij.dbn.common.latent.Latent;
 import com.dci.intellij.dbn.common.latent.RuntimeLatent;
-import com.dci.intellij.dbn.common.util.CollectionUtil;
 import com.dci.intellij.dbn.language.common.DBLanguage;
 import com.dci.intellij.dbn.language.common.SharedTokenTypeBundle;
 import com.dci.intellij.dbn.language.common.TokenType;
+import com.dci.intellij.dbn.language.common.TokenTypeSet;
 import com.dci.intellij.dbn.language.common.element.ElementType;
 import com.dci.intellij.dbn.language.common.element.impl.ElementTypeBase;
 import com.dci.intellij.dbn.language.common.element.impl.ElementTypeRef;
@@ -14,13 +14,12 @@ import com.dci.intellij.dbn.language.common.element.impl.LeafElementType;
 import com.dci.intellij.dbn.language.common.element.impl.SequenceElementType;
 import com.dci.intellij.dbn.language.common.element.impl.TokenElementType;
 import com.dci.intellij.dbn.language.common.element.impl.WrappingDefinition;
-import gnu.trove.THashSet;
 import org.jetbrains.annotations.Nullable;
 
 import java.util.Set;
 
 public abstract class ElementTypeLookupCache<T extends ElementTypeBase>/* implements ElementTypeLookupCache<T>*/ {
-    private RuntimeLatent<Set<TokenType>> nextPossibleTokens = Latent.runtime(() -> computeNextPossibleTokens());
+    private RuntimeLatent<TokenTypeSet> nextPossibleTokens = Latent.runtime(() -> computeNextPossibleTokens());
     public final T elementType;
 
     ElementTypeLookupCache(T elementType) {
@@ -32,7 +31,7 @@ public abstract class ElementTypeLookupCache<T extends ElementTypeBase>/* implem
     }
 
     public void cleanup() {
-        CollectionUtil.compact(nextPossibleTokens.get());
+        nextPossibleTokens.get().compact();
     }
 
     /**
@@ -46,8 +45,8 @@ public abstract class ElementTypeLookupCache<T extends ElementTypeBase>/* implem
         return nextPossibleTokens.get();
     }
 
-    private Set<TokenType> computeNextPossibleTokens() {
-        THashSet<TokenType> nextPossibleTokens = new THashSet<>();
+    private TokenTypeSet computeNextPossibleTokens() {
+        TokenTypeSet nextPossibleTokens = new TokenTypeSet();
         ElementType elementType = this.elementType;
         ElementType parentElementType = elementType.getParent();
         while (parentElementType != null) {
@@ -116,7 +115,7 @@ public abstract class ElementTypeLookupCache<T extends ElementTypeBase>/* implem
     public Set<TokenType> collectFirstPossibleTokens(ElementLookupContext context, @Nullable Set<TokenType> bucket) {
         WrappingDefinition wrapping = elementType.getWrapping();
         if (wrapping != null) {
-            bucket = initBucket(bucket);
+            bucket = initTokenBucket(bucket);
             bucket.add(wrapping.getBeginElementType().tokenType);
         }
         return bucket;
@@ -134,6 +133,11 @@ public abstract class ElementTypeLookupCache<T extends ElementTypeBase>/* implem
         return bucket;
     }
 
+    Set<TokenType> initTokenBucket(Set<TokenType> bucket) {
+        if (bucket == null) bucket = new TokenTypeSet();
+        return bucket;
+    }
+
     public abstract boolean containsToken(TokenType tokenType);
 
     public abstract boolean containsLeaf(LeafElementType elementType);
@@ -4,6 +4,7 @@ import com.dci.intellij.dbn.common.index.IndexedContainer;
 import com.dci.intellij.dbn.common.util.CollectionUtil;
 import com.dci.intellij.dbn.language.common.SharedTokenTypeBundle;
 import com.dci.intellij.dbn.language.common.TokenType;
+import com.dci.intellij.dbn.language.common.TokenTypeSet;
 import com.dci.intellij.dbn.language.common.element.impl.ElementTypeBase;
 import com.dci.intellij.dbn.language.common.element.impl.IdentifierElementType;
 import com.dci.intellij.dbn.language.common.element.impl.LeafElementType;
@@ -18,9 +19,9 @@ public abstract class ElementTypeLookupCacheIndexed<T extends ElementTypeBase> e
     Set<LeafElementType> firstPossibleLeafs;
     Set<LeafElementType> firstRequiredLeafs;
 
-    private IndexedContainer<TokenType> allPossibleTokens;
-    private Set<TokenType> firstPossibleTokens;
-    private Set<TokenType> firstRequiredTokens;
+    private TokenTypeSet allPossibleTokens;
+    private TokenTypeSet firstPossibleTokens;
+    private TokenTypeSet firstRequiredTokens;
     private Boolean startsWithIdentifier;
 
     ElementTypeLookupCacheIndexed(T elementType) {
@@ -29,9 +30,9 @@ public abstract class ElementTypeLookupCacheIndexed<T extends ElementTypeBase> e
             allPossibleLeafs = new IndexedContainer<>();
             firstPossibleLeafs = new THashSet<>();
             firstRequiredLeafs = new THashSet<>();
-            allPossibleTokens = new IndexedContainer<>();
-            firstPossibleTokens = new THashSet<>();
-            firstRequiredTokens = new THashSet<>();
+            allPossibleTokens = new TokenTypeSet();
+            firstPossibleTokens = new TokenTypeSet();
+            firstRequiredTokens = new TokenTypeSet();
         }
     }
 
@@ -42,9 +43,11 @@ public abstract class ElementTypeLookupCacheIndexed<T extends ElementTypeBase> e
         CollectionUtil.compact(firstPossibleLeafs);
         CollectionUtil.compact(firstRequiredLeafs);
 
-        CollectionUtil.compact(allPossibleTokens);
-        CollectionUtil.compact(firstPossibleTokens);
-        CollectionUtil.compact(firstRequiredTokens);
+        if (allPossibleTokens != null) {
+            allPossibleTokens.compact();
+            firstPossibleTokens.compact();
+            firstRequiredTokens.compact();
+        }
     }
 
     @Override
@@ -129,10 +132,10 @@ public abstract class ElementTypeLookupCacheIndexed<T extends ElementTypeBase> e
             // register all possible tokens
             if (leaf instanceof IdentifierElementType) {
                 SharedTokenTypeBundle sharedTokenTypes = getSharedTokenTypes();
-                allPossibleTokens.put(sharedTokenTypes.getIdentifier());
-                allPossibleTokens.put(sharedTokenTypes.getQuotedIdentifier());
+                allPossibleTokens.add(sharedTokenTypes.getIdentifier());
+                allPossibleTokens.add(sharedTokenTypes.getQuotedIdentifier());
             } else {
-                allPossibleTokens.put(leaf.tokenType);
+                allPossibleTokens.add(leaf.tokenType);
             }
         }
 
@@ -1,13 +1,17 @@
 package com.dci.intellij.dbn.language.common.element.lookup;
 
+import com.dci.intellij.dbn.common.latent.Latent;
+import com.dci.intellij.dbn.common.latent.RuntimeLatent;
 import com.dci.intellij.dbn.language.common.SharedTokenTypeBundle;
 import com.dci.intellij.dbn.language.common.TokenType;
+import com.dci.intellij.dbn.language.common.TokenTypeSet;
 import com.dci.intellij.dbn.language.common.element.impl.ExecVariableElementType;
 
-import java.util.HashSet;
 import java.util.Set;
 
 public class ExecVariableElementTypeLookupCache extends LeafElementTypeLookupCache<ExecVariableElementType>{
+    private RuntimeLatent<TokenTypeSet> firstPossibleTokens = Latent.runtime(() -> new TokenTypeSet(getSharedTokenTypes().getVariable()));
+
     public ExecVariableElementTypeLookupCache(ExecVariableElementType elementType) {
         super(elementType);
     }
@@ -28,11 +32,7 @@ public class ExecVariableElementTypeLookupCache extends LeafElementTypeLookupCac
 
     @Override
     public Set<TokenType> getFirstPossibleTokens() {
-        Set<TokenType> firstPossibleTokens = new HashSet<TokenType>(1);
-        SharedTokenTypeBundle sharedTokenTypes = getSharedTokenTypes();
-        TokenType variable = sharedTokenTypes.getVariable();
-        firstPossibleTokens.add(variable);
-        return firstPossibleTokens;
+        return firstPossibleTokens.get();
     }
 
     @Override
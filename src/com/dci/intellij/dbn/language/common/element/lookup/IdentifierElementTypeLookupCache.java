@@ -1,13 +1,20 @@
 package com.dci.intellij.dbn.language.common.element.lookup;
 
+import com.dci.intellij.dbn.common.latent.Latent;
+import com.dci.intellij.dbn.common.latent.RuntimeLatent;
 import com.dci.intellij.dbn.language.common.SharedTokenTypeBundle;
 import com.dci.intellij.dbn.language.common.TokenType;
+import com.dci.intellij.dbn.language.common.TokenTypeSet;
 import com.dci.intellij.dbn.language.common.element.impl.IdentifierElementType;
 
-import java.util.HashSet;
 import java.util.Set;
 
 public class IdentifierElementTypeLookupCache extends LeafElementTypeLookupCache<IdentifierElementType>{
+    private RuntimeLatent<TokenTypeSet> firstPossibleTokens = Latent.runtime(() -> {
+        SharedTokenTypeBundle sharedTokenTypes = getSharedTokenTypes();
+        return new TokenTypeSet(sharedTokenTypes.getIdentifier(), sharedTokenTypes.getQuotedIdentifier());
+    });
+
     public IdentifierElementTypeLookupCache(IdentifierElementType elementType) {
         super(elementType);
     }
@@ -28,13 +35,7 @@ public class IdentifierElementTypeLookupCache extends LeafElementTypeLookupCache
 
     @Override
     public Set<TokenType> getFirstPossibleTokens() {
-        SharedTokenTypeBundle sharedTokenTypes = getSharedTokenTypes();
-        TokenType identifier = sharedTokenTypes.getIdentifier();
-        TokenType quotedIdentifier = sharedTokenTypes.getQuotedIdentifier();
-        Set<TokenType> tokenTypes = new HashSet<>(2);
-        tokenTypes.add(identifier);
-        tokenTypes.add(quotedIdentifier);
-        return tokenTypes;
+        return firstPossibleTokens.get();
     }
 
     @Override
@@ -53,7 +53,7 @@ public abstract class LeafElementTypeLookupCache<T extends LeafElementType> exte
 
     @Override
     public Set<TokenType> collectFirstPossibleTokens(ElementLookupContext context, @Nullable Set<TokenType> bucket) {
-        bucket = initBucket(bucket);
+        bucket = initTokenBucket(bucket);
         collectFirstPossibleTokens(bucket);
         return bucket;
     }
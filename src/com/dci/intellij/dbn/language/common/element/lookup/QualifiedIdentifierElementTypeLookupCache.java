@@ -50,7 +50,7 @@ public class QualifiedIdentifierElementTypeLookupCache extends ElementTypeLookup
 
     @Override
     public Set<TokenType> collectFirstPossibleTokens(ElementLookupContext context, @Nullable Set<TokenType> bucket) {
-        bucket = initBucket(bucket);
+        bucket = initTokenBucket(bucket);
         for (LeafElementType[] elementTypes : elementType.getVariants()) {
             // variants already consider optional leafs
             bucket.add(elementTypes[0].tokenType);
@@ -87,7 +87,7 @@ public class SequenceElementTypeLookupCache<T extends SequenceElementType> exten
     @Override
     public Set<TokenType> collectFirstPossibleTokens(ElementLookupContext context, Set<TokenType> bucket) {
         bucket = super.collectFirstPossibleTokens(context, bucket);
-        bucket = initBucket(bucket);
+        bucket = initTokenBucket(bucket);
 
         ElementTypeRef[] children = elementType.getChildren();
         for (ElementTypeRef child : children) {
@@ -43,7 +43,7 @@ wrappedTokenLC.couldStartWithLeaf(leaf));
     @Override
     public Set<TokenType> collectFirstPossibleTokens(ElementLookupContext context, @Nullable Set<TokenType> bucket) {
         bucket = super.collectFirstPossibleTokens(context, bucket);
-        bucket = initBucket(bucket);
+        bucket = initTokenBucket(bucket);
         bucket.add(elementType.getBeginTokenElement().tokenType);
         return bucket;
     }
@@ -64,7 +64,7 @@ wrappedTokenLC.couldStartWithLeaf(leaf));
 
     @Override
     public Set<TokenType> getFirstPossibleTokens() {
-        Set<TokenType> tokenTypes = initBucket(null);
+        Set<TokenType> tokenTypes = initTokenBucket(null);
         tokenTypes.add(getBeginTokenElement().tokenType);
         elementType.wrappedElement.lookupCache.collectFirstPossibleTokens(tokenTypes);
         return tokenTypes;
@@ -72,7 +72,7 @@ wrappedTokenLC.couldStartWithLeaf(leaf));
 
     @Override
     public Set<TokenType> getFirstRequiredTokens() {
-        Set<TokenType> tokenTypes = initBucket(null);
+        Set<TokenType> tokenTypes = initTokenBucket(null);
         tokenTypes.add(getBeginTokenElement().tokenType);
         return tokenTypes;
     }
@@ -0,0 +1,119 @@
+package com.dci.intellij.dbn.language.common.element.parser;
+
+import com.dci.intellij.dbn.connection.ConnectionHandler;
+import com.dci.intellij.dbn.language.common.DBLanguageDialect;
+import com.dci.intellij.dbn.language.common.DBLanguageParser;
+import com.dci.intellij.dbn.language.common.DBLanguageParserDefinition;
+import com.dci.intellij.dbn.language.common.DBLanguagePsiFile;
+import com.dci.intellij.dbn.language.common.element.impl.NamedElementType;
+import com.dci.intellij.dbn.language.common.element.util.ElementTypeAttribute;
+import com.intellij.lang.ASTNode;
+import com.intellij.lang.PsiBuilder;
+import com.intellij.lang.PsiBuilderFactory;
+import com.intellij.lexer.Lexer;
+import com.intellij.psi.PsiElement;
+import com.intellij.psi.PsiFile;
+import com.intellij.psi.impl.source.tree.TreeElement;
+import com.intellij.psi.tree.IElementType;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * Statement level reparse of top level elements (direct children of the ROOT element, e.g. sql statements or pl/sql blocks).
+ * The platform first asks if the changed text is parsable and then requests the parsed node without any context,
+ * so the node built by the trial parse is handed over to the following {@link #parse(NamedElementType, CharSequence)} call.
+ */
+public class ElementTypeReparser {
+    private static final IElementType REPARSE_ROOT = new IElementType("REPARSE_ROOT", null);
+    private static final ThreadLocal<ReparseResult> RESULT = new ThreadLocal<>();
+
+    public static boolean isParsable(@NotNull NamedElementType elementType, @Nullable ASTNode parent, @NotNull CharSequence text) {
+        RESULT.remove();
+        if (parent == null || text.length() == 0 || elementType.is(ElementTypeAttribute.ROOT)) return false;
+
+        IElementType parentElementType = parent.getElementType();
+        if (!(parentElementType instanceof NamedElementType && ((NamedElementType) parentElementType).is(ElementTypeAttribute.ROOT))) return false;
+
+        // element must stay delimited, otherwise the change may join it with the following element
+        char lastChar = text.charAt(text.length() - 1);
+        if (lastChar != ';' && lastChar != '/') return false;
+
+        PsiElement parentPsi = parent.getPsi();
+        PsiFile file = parentPsi == null ? null : parentPsi.getContainingFile();
+        if (!(file instanceof DBLanguagePsiFile)) return false;
+
+        DBLanguagePsiFile psiFile = (DBLanguagePsiFile) file;
+        DBLanguageDialect languageDialect = elementType.getLanguageDialect();
+        if (languageDialect != psiFile.getLanguageDialect()) return false;
+
+        double databaseVersion = 9999;
+        ConnectionHandler connectionHandler = psiFile.getConnectionHandler();
+        if (connectionHandler != null) {
+            databaseVersion = connectionHandler.getDatabaseVersion();
+        }
+
+        ASTNode node = parse(elementType, text, databaseVersion);
+        if (node == null) return false;
+
+        RESULT.set(new ReparseResult(elementType, text, node));
+        return true;
+    }
+
+    @NotNull
+    public static ASTNode parse(@NotNull NamedElementType elementType, @NotNull CharSequence text) {
+        ReparseResult result = RESULT.get();
+        RESULT.remove();
+        if (result != null && result.elementType == elementType && result.text == text) {
+            return result.node;
+        }
+
+        ASTNode node = parse(elementType, text, 9999);
+        if (node == null) {
+            throw new IllegalStateException("Text is not parsable as " + elementType.getDebugName());
+        }
+        return node;
+    }
+
+    /**
+     * Parses the given text as one single element of the given type
+     * @return the detached element node, or null if the text does not represent exactly one element of the type
+     */
+    @Nullable
+    public static ASTNode parse(@NotNull NamedElementType elementType, @NotNull CharSequence text, double databaseVersion) {
+        DBLanguageDialect languageDialect = elementType.getLanguageDialect();
+        ASTNode root = parse(languageDialect, REPARSE_ROOT, elementType.getId(), text, databaseVersion);
+
+        ASTNode node = root.getFirstChildNode();
+        if (node == null ||
+                node != root.getLastChildNode() ||
+                node.getElementType() != elementType ||
+                node.getTextLength() != text.length()) {
+            return null;
+        }
+
+        ((TreeElement) node).rawRemove();
+        return node;
+    }
+
+    @NotNull
+    public static ASTNode parse(@NotNull DBLanguageDialect languageDialect, @NotNull IElementType rootElementType, @Nullable String parseRootId, @NotNull CharSequence text, double databaseVersion) {
+        DBLanguageParserDefinition parserDefinition = languageDialect.getParserDefinition();
+        Lexer lexer = parserDefinition.createLexer(null);
+        DBLanguageParser parser = parserDefinition.getParser();
+
+        PsiBuilder builder = PsiBuilderFactory.getInstance().createBuilder(parserDefinition, lexer, text);
+        return parser.parse(rootElementType, builder, parseRootId, databaseVersion);
+    }
+
+    private static class ReparseResult {
+        private final NamedElementType elementType;
+        private final CharSequence text;
+        private final ASTNode node;
+
+        ReparseResult(NamedElementType elementType, CharSequence text, ASTNode node) {
+            this.elementType = elementType;
+            this.text = text;
+            this.node = node;
+        }
+    }
+}
@@ -23,12 +23,21 @@ public class OneOfElementTypeParser extends ElementTypeParser<OneOfElementType>
         logBegin(builder, optional, depth);
         ParsePathNode node = stepIn(parentNode, context);
 
-        elementType.sort();
         TokenType tokenType = builder.getTokenType();
 
         if (tokenType!= null && !tokenType.isChameleon()) {
+            // identifiers and reserved words used as identifiers may start any child
+            boolean identifier =
+                    tokenType.isIdentifier() ||
+                    isSuppressibleReservedWord(tokenType, node, context) ||
+                    isDummyToken(builder.getTokenText());
+
+            ElementTypeRef[] children = identifier ?
+                    elementType.getSortedChildren() :
+                    elementType.getChildren(tokenType);
+
             // TODO !!!! if elementType is an identifier: then BUILD VARIANTS!!!
-            for (ElementTypeRef child : elementType.getChildren()) {
+            for (ElementTypeRef child : children) {
                 if (context.check(child) && shouldParseElement(child.elementType, node, context)) {
                     ParseResult result = child.getParser().parse(node, true, depth + 1, context);
                     if (result.isMatch()) {
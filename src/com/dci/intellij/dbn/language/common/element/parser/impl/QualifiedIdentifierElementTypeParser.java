@@ -3,6 +3,7 @@ package com.dci.intellij.dbn.language.common.element.parser.impl;
 import com.dci.intellij.dbn.language.common.ParseException;
 import com.dci.intellij.dbn.language.common.SharedTokenTypeBundle;
 import com.dci.intellij.dbn.language.common.TokenType;
+import com.dci.intellij.dbn.language.common.TokenTypeSet;
 import com.dci.intellij.dbn.language.common.element.impl.LeafElementType;
 import com.dci.intellij.dbn.language.common.element.impl.QualifiedIdentifierElementType;
 import com.dci.intellij.dbn.language.common.element.impl.QualifiedIdentifierVariant;
@@ -14,7 +15,6 @@ import com.dci.intellij.dbn.language.common.element.parser.ParserBuilder;
 import com.dci.intellij.dbn.language.common.element.parser.ParserContext;
 import com.dci.intellij.dbn.language.common.element.path.ParsePathNode;
 import com.dci.intellij.dbn.language.common.element.util.ParseBuilderErrorHandler;
-import gnu.trove.THashSet;
 import org.jetbrains.annotations.NotNull;
 
 import java.util.ArrayList;
@@ -52,8 +52,7 @@ public class QualifiedIdentifierElementTypeParser extends ElementTypeParser<Qual
 
             if (matchedTokens > 0) {
                 if (variant.isIncomplete()) {
-                    Set<TokenType> expected = new THashSet<>();
-                    expected.add(separatorToken.tokenType);
+                    Set<TokenType> expected = new TokenTypeSet(separatorToken.tokenType);
                     ParseBuilderErrorHandler.updateBuilderError(expected, context);
                     return stepOut(node, context, depth, ParseResultType.PARTIAL_MATCH, matchedTokens);
                 } else {
@@ -0,0 +1,110 @@
+package com.dci.intellij.dbn.menu.action;
+
+import com.dci.intellij.dbn.DatabaseNavigator;
+import com.dci.intellij.dbn.common.thread.Progress;
+import com.dci.intellij.dbn.common.thread.Read;
+import com.dci.intellij.dbn.common.util.MessageUtil;
+import com.dci.intellij.dbn.language.common.DBLanguage;
+import com.dci.intellij.dbn.language.common.DBLanguageDialect;
+import com.dci.intellij.dbn.language.common.DBLanguagePsiFile;
+import com.dci.intellij.dbn.language.common.element.impl.NamedElementType;
+import com.dci.intellij.dbn.language.common.element.parser.ElementTypeReparser;
+import com.dci.intellij.dbn.language.common.element.util.ElementTypeAttribute;
+import com.intellij.lang.ASTNode;
+import com.intellij.openapi.actionSystem.AnActionEvent;
+import com.intellij.openapi.actionSystem.LangDataKeys;
+import com.intellij.openapi.actionSystem.Presentation;
+import com.intellij.openapi.progress.ProgressIndicator;
+import com.intellij.openapi.project.DumbAwareAction;
+import com.intellij.openapi.project.Project;
+import com.intellij.psi.PsiFile;
+import com.intellij.psi.tree.IElementType;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Measures the full parse time of the text of the current file with every dialect of its language,
+ * and the statement level reparse time of its top level elements.
+ */
+public class ParserBenchmarkAction extends DumbAwareAction {
+    private static final int ITERATIONS = 5;
+
+    @Override
+    public void actionPerformed(@NotNull AnActionEvent e) {
+        Project project = e.getProject();
+        PsiFile psiFile = e.getData(LangDataKeys.PSI_FILE);
+        if (project != null && psiFile instanceof DBLanguagePsiFile) {
+            DBLanguagePsiFile file = (DBLanguagePsiFile) psiFile;
+            Progress.prompt(project, "Running parser benchmark", true, (progress) -> {
+                String result = benchmark(file, progress);
+                MessageUtil.showInfoDialog(project, "Parser Benchmark", result);
+            });
+        }
+    }
+
+    private static String benchmark(DBLanguagePsiFile file, ProgressIndicator progress) {
+        String text = Read.call(() -> file.getText(), "");
+        DBLanguage<?> language = file.getDBLanguage();
+        StringBuilder result = new StringBuilder();
+        result.append(file.getName()).append(" (").append(text.length()).append(" characters, ").append(ITERATIONS).append(" iterations)\n\n");
+
+        IElementType rootElementType = language.getFileElementType();
+        for (DBLanguageDialect languageDialect : language.getAvailableLanguageDialects()) {
+            progress.checkCanceled();
+            progress.setText("Parsing with " + languageDialect.getDisplayName());
+
+            // warm up lookup caches before measuring
+            ElementTypeReparser.parse(languageDialect, rootElementType, null, text, 9999);
+            long start = System.nanoTime();
+            for (int i = 0; i < ITERATIONS; i++) {
+                progress.checkCanceled();
+                ElementTypeReparser.parse(languageDialect, rootElementType, null, text, 9999);
+            }
+            long duration = (System.nanoTime() - start) / ITERATIONS / 1000000;
+            result.append(languageDialect.getDisplayName()).append(": full parse ").append(duration).append(" ms\n");
+        }
+
+        List<ASTNode> elements = Read.call(() -> getTopLevelElements(file), new ArrayList<>());
+        if (elements.size() > 0) {
+            progress.setText("Reparsing top level elements");
+            int reparsed = 0;
+            long start = System.nanoTime();
+            for (ASTNode element : elements) {
+                progress.checkCanceled();
+                NamedElementType elementType = (NamedElementType) element.getElementType();
+                CharSequence elementText = Read.call(() -> element.getChars(), "");
+                if (ElementTypeReparser.parse(elementType, elementText, 9999) != null) reparsed++;
+            }
+            long duration = (System.nanoTime() - start) / elements.size() / 1000;
+            result.append("\nStatement reparse: ").append(duration).append(" us average (");
+            result.append(reparsed).append(" of ").append(elements.size()).append(" top level elements reparsable)");
+        }
+        return result.toString();
+    }
+
+    private static List<ASTNode> getTopLevelElements(DBLanguagePsiFile file) {
+        List<ASTNode> elements = new ArrayList<>();
+        ASTNode root = file.getNode().getFirstChildNode();
+        while (root != null) {
+            IElementType rootType = root.getElementType();
+            if (rootType instanceof NamedElementType && ((NamedElementType) rootType).is(ElementTypeAttribute.ROOT)) {
+                ASTNode child = root.getFirstChildNode();
+                while (child != null) {
+                    if (child.getElementType() instanceof NamedElementType) elements.add(child);
+                    child = child.getTreeNext();
+                }
+            }
+            root = root.getTreeNext();
+        }
+        return elements;
+    }
+
+    @Override
+    public void update(@NotNull AnActionEvent e) {
+        Presentation presentation = e.getPresentation();
+        presentation.setVisible(DatabaseNavigator.DEVELOPER);
+        presentation.setEnabled(e.getData(LangDataKeys.PSI_FILE) instanceof DBLanguagePsiFile);
+    }
+}
@@ -4,6 +4,8 @@ import com.dci.intellij.dbn.connection.SchemaId;
 import com.dci.intellij.dbn.object.common.DBObject;
 import com.dci.intellij.dbn.object.lookup.DBObjectRef;
 import com.dci.intellij.dbn.object.type.DBObjectType;
+import com.intellij.openapi.progress.ProgressIndicator;
+import org.jetbrains.annotations.NotNull;
 
 import java.sql.SQLException;
 import java.util.List;
@@ -47,6 +49,11 @@ public interface DBSchema extends DBObject {
 
     void refreshObjectsStatus() throws SQLException;
 
+    /**
+     * Loads all object lists of the schema, fanning the loaders out over several pool connections
+     */
+    void prefetchMetadata(@NotNull ProgressIndicator progress);
+
     @Override
     DBObjectRef<DBSchema> getRef();
     SchemaId getIdentifier();
@@ -2,6 +2,7 @@ package com.dci.intellij.dbn.object.action;
 
 import com.dci.intellij.dbn.common.Icons;
 import com.dci.intellij.dbn.database.DatabaseFeature;
+import com.dci.intellij.dbn.object.DBSchema;
 import com.dci.intellij.dbn.object.common.DBObject;
 import com.dci.intellij.dbn.object.common.DBSchemaObject;
 import com.dci.intellij.dbn.object.common.list.DBObjectList;
@@ -16,5 +17,8 @@ public class RefreshActionGroup  extends DefaultActionGroup {
         if (object instanceof DBSchemaObject && DatabaseFeature.OBJECT_INVALIDATION.isSupported(object)) {
             add(new ObjectsStatusRefreshAction(object.getConnectionHandler()));
         }
+        if (object instanceof DBSchema) {
+            add(new SchemaMetadataPrefetchAction((DBSchema) object));
+        }
     }
 }
@@ -0,0 +1,26 @@
+package com.dci.intellij.dbn.object.action;
+
+import com.dci.intellij.dbn.common.thread.Progress;
+import com.dci.intellij.dbn.connection.ConnectionAction;
+import com.dci.intellij.dbn.object.DBSchema;
+import com.intellij.openapi.actionSystem.AnActionEvent;
+import com.intellij.openapi.project.Project;
+import org.jetbrains.annotations.NotNull;
+
+public class SchemaMetadataPrefetchAction extends AnObjectAction<DBSchema> {
+    SchemaMetadataPrefetchAction(DBSchema schema) {
+        super("Load all objects", null, schema);
+    }
+
+    @Override
+    protected void actionPerformed(
+            @NotNull AnActionEvent e,
+            @NotNull Project project,
+            @NotNull DBSchema schema) {
+
+        String schemaName = schema.getName();
+        ConnectionAction.invoke("loading the objects of schema " + schemaName, true, schema,
+                (action) -> Progress.background(project, "Loading objects of schema " + schemaName, true,
+                        (progress) -> schema.prefetchMetadata(progress)));
+    }
+}
@@ -85,6 +85,12 @@ public interface DBObject extends
     @NotNull
     List<DBObject> getChildObjects(DBObjectType objectType);
 
+    /**
+     * Child objects of the given type with names starting with the given prefix (case insensitive)
+     */
+    @NotNull
+    List<DBObject> getChildObjects(DBObjectType objectType, String namePrefix);
+
     @Nullable
     DBObjectList<? extends DBObject> getChildObjectList(DBObjectType objectType);
 
@@ -32,6 +32,7 @@ import com.dci.intellij.dbn.common.ui.tree.TreeEventType;
 import com.dci.intellij.dbn.common.util.CollectionUtil;
 import com.dci.intellij.dbn.common.util.CommonUtil;
 import com.dci.intellij.dbn.common.util.EventUtil;
+import com.dci.intellij.dbn.common.util.StringUtil;
 import com.dci.intellij.dbn.connection.ConnectionHandler;
 import com.dci.intellij.dbn.connection.ConnectionHandlerRef;
 import com.dci.intellij.dbn.connection.ConnectionId;
@@ -106,6 +107,7 @@ import java.sql.ResultSet;
 import java.sql.SQLException;
 import java.util.ArrayList;
 import java.util.Collections;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Set;
 
@@ -556,6 +558,17 @@ public class DBObjectBundleImpl extends BrowserTreeNodeBase implements DBObjectB
                 append(false, " (", false);
                 append(false, "peak&nbsp;" + connectionPool.getPeakPoolSize(), false);
                 append(false, ")", false);
+
+                long waitCount = connectionPool.getWaitCount();
+                if (waitCount > 0) {
+                    append(true, "Pool waits: ", "-2", null, false);
+                    append(false, String.valueOf(waitCount), false);
+                    append(false, " (", false);
+                    append(false, "avg&nbsp;" + connectionPool.getAverageWaitTime() + "ms, ", false);
+                    append(false, "peak&nbsp;" + connectionPool.getPeakWaitTime() + "ms, ", false);
+                    append(false, "queued&nbsp;" + connectionPool.getQueueDepth(), false);
+                    append(false, ")", false);
+                }
             }
         }.getToolTip();
     }
@@ -665,51 +678,120 @@ public class DBObjectBundleImpl extends BrowserTreeNodeBase implements DBObjectB
     public void lookupChildObjectsOfType(LookupConsumer consumer, DBObject parentObject, DBObjectType objectType, ObjectTypeFilter filter, DBSchema currentSchema) throws ConsumerStoppedException {
         if (getConnectionObjectTypeFilter().accepts(objectType)) {
             if (parentObject != null && currentSchema != null) {
+                List<DBObjectType> childTypes = new ArrayList<>();
+                boolean synonymsIncluded = false;
                 if (parentObject instanceof DBSchema) {
                     DBSchema schema = (DBSchema) parentObject;
                     if (objectType.isGeneric()) {
                         Set<DBObjectType> concreteTypes = objectType.getInheritingTypes();
                         for (DBObjectType concreteType : concreteTypes) {
-                            consumer.check();
                             if (filter.acceptsObject(schema, currentSchema, concreteType)) {
-                                consumer.consume(schema.getChildObjects(concreteType));
+                                childTypes.add(concreteType);
                             }
                         }
                     } else {
                         if (filter.acceptsObject(schema, currentSchema, objectType)) {
-                            consumer.consume(schema.getChildObjects(objectType));
+                            childTypes.add(objectType);
                         }
                     }
 
                     boolean synonymsSupported = DatabaseCompatibilityInterface.getInstance(parentObject).supportsObjectType(SYNONYM.getTypeId());
-                    if (synonymsSupported && filter.acceptsObject(schema, currentSchema, SYNONYM)) {
-                        for (DBSynonym synonym : schema.getSynonyms()) {
-                            consumer.check();
-                            DBObject underlyingObject = synonym.getUnderlyingObject();
-                            if (underlyingObject != null && underlyingObject.isOfType(objectType)) {
-                                consumer.consume(synonym);
-                            }
+                    synonymsIncluded = synonymsSupported && filter.acceptsObject(schema, currentSchema, SYNONYM);
+                } else {
+                    if (filter.acceptsRootObject(objectType)) {
+                        if (objectType.isGeneric()) {
+                            childTypes.addAll(objectType.getInheritingTypes());
+                        } else {
+                            childTypes.add(objectType);
                         }
                     }
+                }
+
+                String namePrefix = consumer.getNamePrefix();
+                if (StringUtil.isEmpty(namePrefix)) {
+                    consumeChildObjects(consumer, parentObject, objectType, childTypes, synonymsIncluded);
                 } else {
-                    if (objectType.isGeneric()) {
-                        Set<DBObjectType> concreteTypes = objectType.getInheritingTypes();
-                        for (DBObjectType concreteType : concreteTypes) {
-                            consumer.check();
-                            if (filter.acceptsRootObject(objectType)) {
-                                consumer.consume(parentObject.getChildObjects(concreteType));
-                            }
-                        }
-                    } else {
-                        if (filter.acceptsRootObject(objectType)) {
-                            consumer.consume(parentObject.getChildObjects(objectType));
+                    consumeMatchingChildObjects(consumer, parentObject, objectType, childTypes, synonymsIncluded, namePrefix);
+                }
+            }
+        }
+    }
+
+    private static void consumeChildObjects(
+            LookupConsumer consumer,
+            DBObject parentObject,
+            DBObjectType objectType,
+            List<DBObjectType> childTypes,
+            boolean synonymsIncluded) throws ConsumerStoppedException {
+
+        for (DBObjectType childType : childTypes) {
+            consumer.check();
+            consumer.consume(parentObject.getChildObjects(childType));
+        }
+
+        if (synonymsIncluded) {
+            for (DBObject synonym : parentObject.getChildObjects(SYNONYM)) {
+                consumer.check();
+                if (isSynonymFor(synonym, objectType)) {
+                    consumer.consume(synonym);
+                }
+            }
+        }
+    }
+
+    /**
+     * Consumes only the child objects matching the name prefix of the consumer, looked up in the name index of the object lists.
+     * Matches are consumed in ranked batches (names starting with the prefix first, then the camel-hump matches
+     * sharing its first character) and the lookup stops at the match limit of the consumer.
+     * Synonyms are only resolved if their name matches.
+     */
+    private static void consumeMatchingChildObjects(
+            LookupConsumer consumer,
+            DBObject parentObject,
+            DBObjectType objectType,
+            List<DBObjectType> childTypes,
+            boolean synonymsIncluded,
+            String namePrefix) throws ConsumerStoppedException {
+
+        if (synonymsIncluded) {
+            childTypes.add(SYNONYM);
+        }
+
+        String[] batchPrefixes = namePrefix.length() == 1 ?
+                new String[]{namePrefix} :
+                new String[]{namePrefix, namePrefix.substring(0, 1)};
+
+        int matchLimit = consumer.getMatchLimit();
+        int matches = 0;
+        Set<DBObject> visited = new HashSet<>();
+        for (String batchPrefix : batchPrefixes) {
+            for (DBObjectType childType : childTypes) {
+                consumer.check();
+                for (DBObject object : parentObject.getChildObjects(childType, batchPrefix)) {
+                    if (visited.add(object) && consumer.matchesName(object.getName())) {
+                        if (childType == SYNONYM && !isSynonymFor(object, objectType)) continue;
+
+                        if (matches == matchLimit) {
+                            consumer.matchLimitReached();
+                            return;
                         }
+                        consumer.consume(object);
+                        matches++;
                     }
                 }
             }
         }
     }
 
+    private static boolean isSynonymFor(DBObject object, DBObjectType objectType) {
+        if (object instanceof DBSynonym) {
+            DBSynonym synonym = (DBSynonym) object;
+            DBObject underlyingObject = synonym.getUnderlyingObject();
+            return underlyingObject != null && underlyingObject.isOfType(objectType);
+        }
+        return false;
+    }
+
     @Override
     public void refreshObjectsStatus(final @Nullable DBSchemaObject requester) {
         ConnectionHandler connectionHandler = getConnectionHandler();
@@ -504,6 +504,24 @@ public abstract class DBObjectImpl<M extends DBObjectMetadata> extends BrowserTr
         }
     }
 
+    @Override
+    @NotNull
+    public List<DBObject> getChildObjects(DBObjectType objectType, String namePrefix) {
+        if (objectType.getFamilyTypes().size() > 1 || objectType == DBObjectType.ANY) {
+            return CollectionUtil.filter(getChildObjects(objectType), false, true,
+                    (object) -> StringUtil.startsWithIgnoreCase(object.getName(), namePrefix));
+        } else {
+            DBObjectList objectList = null;
+            if (childObjects != null) {
+                objectList = childObjects.getObjectList(objectType);
+                if (objectList == null) {
+                    objectList = childObjects.getInternalObjectList(objectType);
+                }
+            }
+            return objectList == null ? EMPTY_OBJECT_LIST : objectList.getElementsByPrefix(namePrefix);
+        }
+    }
+
     @Nullable
     @Override
     public DBObjectList<? extends DBObject> getChildObjectList(DBObjectType objectType) {
@@ -187,6 +187,13 @@ public class DBVirtualObject extends DBObjectImpl implements PsiReference {
         return childObjectList == null ? Collections.<DBObject>emptyList() : childObjectList.getObjects();
     }
 
+    @Override
+    @NotNull
+    public List<DBObject> getChildObjects(DBObjectType objectType, String namePrefix) {
+        DBObjectList<DBObject> childObjectList = getChildObjectList(objectType);
+        return childObjectList == null ? Collections.<DBObject>emptyList() : childObjectList.getElementsByPrefix(namePrefix);
+    }
+
     @Override
     public DBObject getChildObject(DBObjectType objectType, String name, short overload, boolean lookupHidden) {
         DBObjectList<DBObject> childObjectList = getChildObjectList(objectType);
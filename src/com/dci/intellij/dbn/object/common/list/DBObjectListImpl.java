@@ -174,6 +174,7 @@ public class DBObjectListImpl<T extends DBObject> extends DynamicContentImpl<T>
             elements = new ArrayList<T>();
         }
         elements.add(object);
+        indexElement(object);
     }
 
     @Override
@@ -188,12 +189,12 @@ public class DBObjectListImpl<T extends DBObject> extends DynamicContentImpl<T>
 
     @Override
     public T getObject(String name, String parentName) {
-        for (T element : elements) {
-            String elementName = element.getName();
+        Filter<T> filter = getFilter();
+        for (T element : getElementsNoLoad(name)) {
             String elementParentName = element.getParentObject().getName();
 
-            if (StringUtil.equalsIgnoreCase(elementName, name) &&
-                    StringUtil.equalsIgnoreCase(elementParentName, parentName)) {
+            if (StringUtil.equalsIgnoreCase(elementParentName, parentName) &&
+                    (filter == null || filter.accepts(element))) {
                 return element;
             }
         }
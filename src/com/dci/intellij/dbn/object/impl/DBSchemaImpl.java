@@ -50,15 +50,18 @@ import com.dci.intellij.dbn.object.common.list.DBObjectListVisitor;
 import com.dci.intellij.dbn.object.common.list.DBObjectNavigationList;
 import com.dci.intellij.dbn.object.common.list.DBObjectNavigationListImpl;
 import com.dci.intellij.dbn.object.common.list.DBObjectRelationListContainer;
+import com.dci.intellij.dbn.object.common.property.DBObjectProperty;
 import com.dci.intellij.dbn.object.common.status.DBObjectStatus;
 import com.dci.intellij.dbn.object.common.status.DBObjectStatusHolder;
 import com.dci.intellij.dbn.object.type.DBObjectType;
+import com.intellij.openapi.progress.ProgressIndicator;
 import com.intellij.openapi.util.text.StringUtil;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
 import java.sql.ResultSet;
 import java.sql.SQLException;
+import java.sql.Timestamp;
 import java.util.ArrayList;
 import java.util.Comparator;
 import java.util.HashSet;
@@ -85,6 +88,7 @@ public class DBSchemaImpl extends DBObjectImpl<DBSchemaMetadata> implements DBSc
     private DBObjectList<DBDimension> dimensions;
     private DBObjectList<DBCluster> clusters;
     private DBObjectList<DBDatabaseLink> databaseLinks;
+    private volatile ObjectStatusSnapshot statusSnapshot;
 
     public DBSchemaImpl(ConnectionHandler connectionHandler, DBSchemaMetadata metadata) throws SQLException {
         super(connectionHandler, metadata);
@@ -441,69 +445,26 @@ public class DBSchemaImpl extends DBObjectImpl<DBSchemaMetadata> implements DBSc
         return false;
     }
 
+    @Override
+    public void prefetchMetadata(@NotNull ProgressIndicator progress) {
+        new DBSchemaMetadataPrefetcher(this, progress).prefetch();
+    }
+
     @Override
     public void refreshObjectsStatus() throws SQLException {
-        Set<BrowserTreeNode> refreshNodes = resetObjectsStatus();
         ConnectionHandler connectionHandler = getConnectionHandler();
+        ObjectStatusSnapshot snapshot = this.statusSnapshot;
+        Set<BrowserTreeNode> refreshNodes = snapshot == null ? resetObjectsStatus() : new HashSet<>();
 
-        DatabaseInterface.run(true,
+        ObjectStatusSnapshot newSnapshot = DatabaseInterface.call(true,
                 connectionHandler,
                 (provider, connection) -> {
-
-                    ResultSet resultSet = null;
                     DatabaseMetadataInterface metadataInterface = provider.getMetadataInterface();
-                    try {
-                        resultSet = metadataInterface.loadInvalidObjects(getName(), connection);
-                        while (resultSet != null && resultSet.next()) {
-                            String objectName = resultSet.getString("OBJECT_NAME");
-                            DBSchemaObject schemaObject = (DBSchemaObject) getChildObjectNoLoad(objectName);
-                            if (schemaObject != null && schemaObject.is(INVALIDABLE)) {
-                                DBObjectStatusHolder objectStatus = schemaObject.getStatus();
-                                boolean statusChanged;
-
-                                if (schemaObject.getContentType().isBundle()) {
-                                    String objectType = resultSet.getString("OBJECT_TYPE");
-                                    statusChanged = objectType.contains("BODY") ?
-                                            objectStatus.set(DBContentType.CODE_BODY, DBObjectStatus.VALID, false) :
-                                            objectStatus.set(DBContentType.CODE_SPEC, DBObjectStatus.VALID, false);
-                                } else {
-                                    statusChanged = objectStatus.set(DBObjectStatus.VALID, false);
-                                }
-                                if (statusChanged) {
-                                    refreshNodes.add(schemaObject.getParent());
-                                }
-                            }
-                        }
-                    } finally {
-                        ResourceUtil.close(resultSet);
-                    }
-
-                    try {
-                        resultSet = metadataInterface.loadDebugObjects(getName(), connection);
-                        while (resultSet != null && resultSet.next()) {
-                            String objectName = resultSet.getString("OBJECT_NAME");
-                            DBSchemaObject schemaObject = (DBSchemaObject) getChildObjectNoLoad(objectName);
-                            if (schemaObject != null && schemaObject.is(DEBUGABLE)) {
-                                DBObjectStatusHolder objectStatus = schemaObject.getStatus();
-                                boolean statusChanged;
-
-                                if (schemaObject.getContentType().isBundle()) {
-                                    String objectType = resultSet.getString("OBJECT_TYPE");
-                                    statusChanged = objectType.contains("BODY") ?
-                                            objectStatus.set(DBContentType.CODE_BODY, DBObjectStatus.DEBUG, true) :
-                                            objectStatus.set(DBContentType.CODE_SPEC, DBObjectStatus.DEBUG, true);
-                                } else {
-                                    statusChanged = objectStatus.set(DBObjectStatus.DEBUG, true);
-                                }
-                                if (statusChanged) {
-                                    refreshNodes.add(schemaObject.getParent());
-                                }
-                            }
-                        }
-                    } finally {
-                        ResourceUtil.close(resultSet);
-                    }
+                    return snapshot == null ?
+                            loadObjectsStatus(metadataInterface, connection, refreshNodes) :
+                            loadObjectsStatusChanges(metadataInterface, connection, snapshot, refreshNodes);
                 });
+        this.statusSnapshot = newSnapshot;
 
         for (BrowserTreeNode treeNode : refreshNodes) {
             EventUtil.notify(getProject(),
@@ -513,6 +474,110 @@ public class DBSchemaImpl extends DBObjectImpl<DBSchemaMetadata> implements DBSc
 
     }
 
+    /**
+     * Full status refresh, loading all the invalid and debug objects of the schema
+     */
+    private ObjectStatusSnapshot loadObjectsStatus(DatabaseMetadataInterface metadataInterface, DBNConnection connection, Set<BrowserTreeNode> refreshNodes) throws SQLException {
+        ObjectStatusSnapshot snapshot = new ObjectStatusSnapshot();
+        ResultSet resultSet = null;
+        try {
+            // capture the timestamp first, changes applied during the refresh are picked up by the next one
+            resultSet = metadataInterface.loadSchemaChangeTimestamp(getName(), connection);
+            if (resultSet != null && resultSet.next()) {
+                snapshot.changeTimestamp = resultSet.getTimestamp("LAST_DDL_TIME");
+            }
+        } finally {
+            ResourceUtil.close(resultSet);
+        }
+
+        try {
+            resultSet = metadataInterface.loadInvalidObjects(getName(), connection);
+            while (resultSet != null && resultSet.next()) {
+                String objectName = resultSet.getString("OBJECT_NAME");
+                String objectType = resultSet.getString("OBJECT_TYPE");
+                snapshot.invalidObjects.add(new ObjectStatusKey(objectName, objectType));
+                updateObjectStatus(objectName, objectType, DBObjectStatus.VALID, false, refreshNodes);
+            }
+        } finally {
+            ResourceUtil.close(resultSet);
+        }
+
+        try {
+            resultSet = metadataInterface.loadDebugObjects(getName(), connection);
+            while (resultSet != null && resultSet.next()) {
+                String objectName = resultSet.getString("OBJECT_NAME");
+                String objectType = resultSet.getString("OBJECT_TYPE");
+                updateObjectStatus(objectName, objectType, DBObjectStatus.DEBUG, true, refreshNodes);
+            }
+        } finally {
+            ResourceUtil.close(resultSet);
+        }
+        return snapshot;
+    }
+
+    /**
+     * Delta status refresh, loading only the objects changed since the previous refresh and the currently invalid objects.
+     * Objects which were invalid on the previous refresh and are not invalid anymore are flagged valid.
+     */
+    private ObjectStatusSnapshot loadObjectsStatusChanges(DatabaseMetadataInterface metadataInterface, DBNConnection connection, ObjectStatusSnapshot snapshot, Set<BrowserTreeNode> refreshNodes) throws SQLException {
+        ObjectStatusSnapshot newSnapshot = new ObjectStatusSnapshot();
+        newSnapshot.changeTimestamp = snapshot.changeTimestamp;
+
+        ResultSet resultSet = null;
+        try {
+            Timestamp changedSince = snapshot.changeTimestamp == null ? new Timestamp(0) : snapshot.changeTimestamp;
+            resultSet = metadataInterface.loadObjectStatusChanges(getName(), changedSince, connection);
+            while (resultSet != null && resultSet.next()) {
+                String objectName = resultSet.getString("OBJECT_NAME");
+                String objectType = resultSet.getString("OBJECT_TYPE");
+                boolean valid = !"INVALID".equals(resultSet.getString("STATUS"));
+                boolean debug = "T".equals(resultSet.getString("DEBUGINFO"));
+                Timestamp changeTimestamp = resultSet.getTimestamp("LAST_DDL_TIME");
+
+                if (!valid) {
+                    newSnapshot.invalidObjects.add(new ObjectStatusKey(objectName, objectType));
+                }
+                if (changeTimestamp != null && (newSnapshot.changeTimestamp == null || changeTimestamp.after(newSnapshot.changeTimestamp))) {
+                    newSnapshot.changeTimestamp = changeTimestamp;
+                }
+                updateObjectStatus(objectName, objectType, DBObjectStatus.VALID, valid, refreshNodes);
+                updateObjectStatus(objectName, objectType, DBObjectStatus.DEBUG, debug, refreshNodes);
+            }
+        } finally {
+            ResourceUtil.close(resultSet);
+        }
+
+        for (ObjectStatusKey objectKey : snapshot.invalidObjects) {
+            if (!newSnapshot.invalidObjects.contains(objectKey)) {
+                updateObjectStatus(objectKey.objectName, objectKey.objectType, DBObjectStatus.VALID, true, refreshNodes);
+            }
+        }
+        return newSnapshot;
+    }
+
+    private void updateObjectStatus(String objectName, String objectType, DBObjectStatus status, boolean value, Set<BrowserTreeNode> refreshNodes) {
+        DBObject object = getChildObjectNoLoad(objectName);
+        if (object instanceof DBSchemaObject) {
+            DBSchemaObject schemaObject = (DBSchemaObject) object;
+            DBObjectProperty property = status == DBObjectStatus.VALID ? INVALIDABLE : DEBUGABLE;
+            if (schemaObject.is(property)) {
+                DBObjectStatusHolder objectStatus = schemaObject.getStatus();
+                boolean statusChanged;
+
+                if (schemaObject.getContentType().isBundle()) {
+                    statusChanged = objectType.contains("BODY") ?
+                            objectStatus.set(DBContentType.CODE_BODY, status, value) :
+                            objectStatus.set(DBContentType.CODE_SPEC, status, value);
+                } else {
+                    statusChanged = objectStatus.set(status, value);
+                }
+                if (statusChanged) {
+                    refreshNodes.add(schemaObject.getParent());
+                }
+            }
+        }
+    }
+
     @Override
     public SchemaId getIdentifier() {
         return SchemaId.get(getName());
@@ -524,6 +589,37 @@ public class DBSchemaImpl extends DBObjectImpl<DBSchemaMetadata> implements DBSc
         return updater.getRefreshNodes();
     }
 
+    /**
+     * Status of the objects as of the last refresh: the most recent ddl time seen and the invalid objects
+     */
+    private static class ObjectStatusSnapshot {
+        private final Set<ObjectStatusKey> invalidObjects = new HashSet<>();
+        private Timestamp changeTimestamp;
+    }
+
+    private static class ObjectStatusKey {
+        private final String objectName;
+        private final String objectType;
+
+        ObjectStatusKey(String objectName, String objectType) {
+            this.objectName = objectName;
+            this.objectType = objectType;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) return true;
+            if (!(o instanceof ObjectStatusKey)) return false;
+            ObjectStatusKey that = (ObjectStatusKey) o;
+            return objectName.equals(that.objectName) && objectType.equals(that.objectType);
+        }
+
+        @Override
+        public int hashCode() {
+            return 31 * objectName.hashCode() + objectType.hashCode();
+        }
+    }
+
     class ObjectStatusUpdater extends DisposableBase implements DBObjectListVisitor {
         private Set<BrowserTreeNode> refreshNodes = new HashSet<BrowserTreeNode>();
 
@@ -0,0 +1,139 @@
+package com.dci.intellij.dbn.object.impl;
+
+import com.dci.intellij.dbn.common.LoggerFactory;
+import com.dci.intellij.dbn.common.content.DynamicContent;
+import com.dci.intellij.dbn.common.dispose.Failsafe;
+import com.dci.intellij.dbn.common.thread.ThreadFactory;
+import com.dci.intellij.dbn.common.thread.ThreadInfo;
+import com.dci.intellij.dbn.common.thread.ThreadMonitor;
+import com.dci.intellij.dbn.common.thread.ThreadProperty;
+import com.dci.intellij.dbn.object.common.DBObject;
+import com.dci.intellij.dbn.object.common.list.DBObjectList;
+import com.dci.intellij.dbn.object.common.list.DBObjectListContainer;
+import com.dci.intellij.dbn.object.common.list.DBObjectRelationList;
+import com.dci.intellij.dbn.object.common.list.DBObjectRelationListContainer;
+import com.intellij.openapi.diagnostic.Logger;
+import com.intellij.openapi.progress.ProcessCanceledException;
+import com.intellij.openapi.progress.ProgressIndicator;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Loads all object lists of a schema using several pool connections in parallel.
+ * Loading happens in three phases, each phase depending on the objects of the previous one:
+ * top level objects (datasets, programs...), internal "load all" lists (columns, constraints, arguments...)
+ * and finally the relation lists (constraint columns, index columns).
+ */
+class DBSchemaMetadataPrefetcher {
+    private static final Logger LOGGER = LoggerFactory.createLogger();
+    private static final int MAX_PARALLELISM = 4;
+
+    private final DBSchemaImpl schema;
+    private final ProgressIndicator progress;
+    private final int parallelism;
+    private final AtomicInteger processed = new AtomicInteger();
+    private int total;
+
+    DBSchemaMetadataPrefetcher(@NotNull DBSchemaImpl schema, @NotNull ProgressIndicator progress) {
+        this.schema = schema;
+        this.progress = progress;
+
+        // leave at least one pool connection for interactive work
+        int maxPoolSize = schema.getConnectionHandler().getSettings().getDetailSettings().getMaxConnectionPoolSize();
+        this.parallelism = Math.max(1, Math.min(MAX_PARALLELISM, maxPoolSize - 1));
+    }
+
+    void prefetch() {
+        List<DynamicContent> objectLists = new ArrayList<>();
+        List<DynamicContent> internalObjectLists = new ArrayList<>();
+        List<DynamicContent> relationLists = new ArrayList<>();
+
+        DBObjectListContainer childObjects = schema.getChildObjects();
+        if (childObjects != null) {
+            Collection<DBObjectList<DBObject>> lists = childObjects.getObjectLists();
+            if (lists != null) {
+                for (DBObjectList<?> objectList : lists) {
+                    if (objectList.isInternal()) {
+                        internalObjectLists.add(objectList);
+                    } else {
+                        objectLists.add(objectList);
+                    }
+                }
+            }
+        }
+
+        DBObjectRelationListContainer childObjectRelations = schema.getChildObjectRelations();
+        if (childObjectRelations != null) {
+            List<DBObjectRelationList> lists = childObjectRelations.getObjectRelationLists();
+            if (lists != null) {
+                relationLists.addAll(lists);
+            }
+        }
+
+        total = objectLists.size() + internalObjectLists.size() + relationLists.size();
+        progress.setIndeterminate(false);
+        prefetch(objectLists);
+        prefetch(internalObjectLists);
+        prefetch(relationLists);
+    }
+
+    private void prefetch(List<DynamicContent> contents) {
+        if (contents.isEmpty() || isCancelled()) return;
+
+        Queue<DynamicContent> queue = new ConcurrentLinkedQueue<>(contents);
+        ThreadInfo invoker = ThreadMonitor.current();
+        ExecutorService executorService = ThreadFactory.backgroundExecutor();
+
+        int workerCount = Math.min(parallelism, contents.size());
+        List<Future<?>> workers = new ArrayList<>(workerCount);
+        for (int i = 0; i < workerCount; i++) {
+            workers.add(executorService.submit(() ->
+                    ThreadMonitor.run(
+                            invoker,
+                            ThreadProperty.BACKGROUND,
+                            () -> drain(queue))));
+        }
+
+        for (Future<?> worker : workers) {
+            try {
+                worker.get();
+            } catch (InterruptedException e) {
+                queue.clear();
+                Thread.currentThread().interrupt();
+                return;
+            } catch (ExecutionException e) {
+                LOGGER.warn("Error prefetching metadata for schema " + schema.getName(), e.getCause());
+            }
+        }
+    }
+
+    private void drain(Queue<DynamicContent> queue) {
+        DynamicContent content = queue.poll();
+        while (content != null && !isCancelled()) {
+            progress.setText2(content.getContentDescription());
+            try {
+                content.ensure();
+            } catch (ProcessCanceledException e) {
+                return;
+            } catch (RuntimeException e) {
+                LOGGER.warn("Error loading " + content.getContentDescription(), e);
+            }
+
+            progress.setFraction((double) processed.incrementAndGet() / total);
+            content = queue.poll();
+        }
+    }
+
+    private boolean isCancelled() {
+        return progress.isCanceled() || !Failsafe.check(schema);
+    }
+}